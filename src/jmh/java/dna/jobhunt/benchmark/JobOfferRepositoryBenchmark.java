@@ -0,0 +1,112 @@
+package dna.jobhunt.benchmark;
+
+import dna.jobhunt.JobhuntApplication;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.repository.JobOfferRepository;
+import dna.jobhunt.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures valid job offer queries of {@link JobOfferRepository} against embedded H2 seeded with random job offers.
+ * In-memory index and snapshot are disabled, so the application context only serves as repository factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobOfferRepositoryBenchmark {
+
+    private static final int EMPLOYERS = 200;
+    private static final LocalDate BASE_DATE = LocalDate.of(2019, 11, 1);
+    private static final LocalDate CHOSEN_DATE = BASE_DATE.plusDays(30);
+    private static final Set<Category> CATEGORIES = EnumSet.of(Category.IT, Category.Courier);
+    private static final List<String> CHOSEN_EMPLOYERS = List.of("employer1", "employer2", "employer3");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private JobOfferRepository jobOfferRepository;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JobhuntApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+                        "jobhunt.job-offer-index.enabled=false",
+                        "jobhunt.active-snapshot.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        jobOfferRepository = context.getBean(JobOfferRepository.class);
+        final var userRepository = context.getBean(UserRepository.class);
+        final var employers = new ArrayList<User>(EMPLOYERS);
+        for (int i = 0; i < EMPLOYERS; i++) {
+            employers.add(userRepository.save(User.builder()
+                    .username("employer" + i)
+                    .password("pass")
+                    .creationDate(LocalDateTime.now())
+                    .build()));
+        }
+        final var random = new Random(13);
+        final var categories = Category.values();
+        final var jobOffers = new ArrayList<JobOffer>(size);
+        for (int i = 0; i < size; i++) {
+            final var startDate = BASE_DATE.plusDays(random.nextInt(60));
+            jobOffers.add(JobOffer.builder()
+                    .category(categories[random.nextInt(categories.length)])
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(random.nextInt(30)))
+                    .employer(employers.get(random.nextInt(EMPLOYERS)))
+                    .build());
+        }
+        jobOfferRepository.saveAll(jobOffers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<JobOfferDTO> findAllValidJobOffersForCategoriesAndDate() {
+        return jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(CATEGORIES, CHOSEN_DATE);
+    }
+
+    @Benchmark
+    public List<JobOfferDTO> findAllValidJobOffersForAnyCategoryAndDate() {
+        return jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE);
+    }
+
+    @Benchmark
+    public List<JobOfferDTO> findAllValidJobOffersForEmployersAndCategoriesAndDate() {
+        return jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(CHOSEN_EMPLOYERS, CATEGORIES, CHOSEN_DATE);
+    }
+}
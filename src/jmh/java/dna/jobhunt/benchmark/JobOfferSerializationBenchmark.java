@@ -0,0 +1,78 @@
+package dna.jobhunt.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.json.DtoJsonModule;
+import dna.jobhunt.domain.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of {@link JobOfferDTO} with its formatted dates,
+ * using object mapper configured the same way as the one created by Spring Boot,
+ * with bean serializers or with {@link DtoJsonModule} codecs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobOfferSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"bean", "module"})
+    private String codecs;
+
+    private ObjectWriter jobOfferWriter;
+    private ObjectWriter jobOffersWriter;
+    private JobOfferDTO jobOffer;
+    private List<JobOfferDTO> jobOffers;
+
+    @Setup
+    public void setUp() {
+        final var objectMapperBuilder = Jackson2ObjectMapperBuilder.json();
+        if (codecs.equals("module")) {
+            objectMapperBuilder.postConfigurer(objectMapper -> objectMapper.registerModule(new DtoJsonModule()));
+        }
+        final var objectMapper = objectMapperBuilder.build();
+        jobOfferWriter = objectMapper.writerFor(JobOfferDTO.class);
+        jobOffersWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, JobOfferDTO.class));
+        final var categories = Category.values();
+        final var startDate = LocalDate.of(2019, 11, 1);
+        jobOffers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            jobOffers.add(new JobOfferDTO(categories[i % categories.length], startDate.plusDays(i % 30), startDate.plusDays(i % 30 + 14),
+                    "employer" + i % 100, i));
+        }
+        jobOffer = jobOffers.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializeJobOffer() throws JsonProcessingException {
+        return jobOfferWriter.writeValueAsBytes(jobOffer);
+    }
+
+    @Benchmark
+    public byte[] serializeJobOffers() throws JsonProcessingException {
+        return jobOffersWriter.writeValueAsBytes(jobOffers);
+    }
+}
@@ -0,0 +1,92 @@
+package dna.jobhunt.benchmark;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.mapper.JobOfferMapper;
+import dna.jobhunt.api.mapper.JobOfferMapperImpl;
+import dna.jobhunt.api.mapper.UserMapper;
+import dna.jobhunt.api.mapper.UserMapperImpl;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures MapStruct mapping of entity lists to DTO lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int EMPLOYERS = 100;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final JobOfferMapper jobOfferMapper = new JobOfferMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private List<JobOffer> jobOffers;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        final var employers = new ArrayList<User>(EMPLOYERS);
+        for (int i = 0; i < EMPLOYERS; i++) {
+            employers.add(user(i));
+        }
+        final var categories = Category.values();
+        final var startDate = LocalDate.of(2019, 11, 1);
+        jobOffers = new ArrayList<>(size);
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            jobOffers.add(JobOffer.builder()
+                    .id(i)
+                    .category(categories[i % categories.length])
+                    .startDate(startDate.plusDays(i % 30))
+                    .endDate(startDate.plusDays(i % 30 + 14))
+                    .employer(employers.get(i % EMPLOYERS))
+                    .build());
+            users.add(user(i));
+        }
+    }
+
+    @Benchmark
+    public List<JobOfferDTO> toJobOfferDTOs() {
+        return jobOfferMapper.toJobOfferDTOs(jobOffers);
+    }
+
+    @Benchmark
+    public List<UserDTO> toUserDTOList() {
+        return userMapper.toUserDTOList(users);
+    }
+
+    private static User user(final int id) {
+        return User.builder()
+                .id(id)
+                .username("employer" + id)
+                .password("pass")
+                .creationDate(LocalDateTime.of(2019, 11, 10, 0, 0))
+                .build();
+    }
+}
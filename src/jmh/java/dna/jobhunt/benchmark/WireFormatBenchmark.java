@@ -0,0 +1,107 @@
+package dna.jobhunt.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dna.jobhunt.api.converter.ProtobufDtoCodec;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.json.DtoJsonModule;
+import dna.jobhunt.config.MessageConvertersConfig;
+import dna.jobhunt.domain.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding time of job offer lists in JSON, CBOR, Smile and Protobuf,
+ * encoded the same way as by the API message converters.
+ * Payload size of every format is printed when the benchmark is set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    private final ProtobufDtoCodec protobufCodec = new ProtobufDtoCodec();
+    private ObjectWriter jobOffersWriter;
+    private ObjectReader jobOffersReader;
+    private List<JobOfferDTO> jobOffers;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        final var objectMapper = objectMapper();
+        if (objectMapper != null) {
+            final var listType = objectMapper.getTypeFactory().constructCollectionType(List.class, JobOfferDTO.class);
+            jobOffersWriter = objectMapper.writerFor(listType);
+            jobOffersReader = objectMapper.readerFor(listType);
+        }
+        final var categories = Category.values();
+        final var startDate = LocalDate.of(2019, 11, 1);
+        jobOffers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            jobOffers.add(new JobOfferDTO(categories[i % categories.length], startDate.plusDays(i % 30), startDate.plusDays(i % 30 + 14),
+                    "employer" + i % 100, i));
+        }
+        payload = encode();
+        System.out.printf("%n%s payload of %d job offers: %d bytes, %.1f bytes per job offer%n",
+                format, size, payload.length, (double) payload.length / size);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (jobOffersWriter != null) {
+            return jobOffersWriter.writeValueAsBytes(jobOffers);
+        }
+        final var output = new ByteArrayOutputStream();
+        protobufCodec.write(jobOffers, output);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public List<JobOfferDTO> decode() throws IOException {
+        if (jobOffersReader != null) {
+            return jobOffersReader.readValue(payload);
+        }
+        return protobufCodec.readList(JobOfferDTO.class, new ByteArrayInputStream(payload));
+    }
+
+    private ObjectMapper objectMapper() {
+        switch (format) {
+            case "json":
+                return Jackson2ObjectMapperBuilder.json().modulesToInstall(new DtoJsonModule()).build();
+            case "cbor":
+                return MessageConvertersConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.cbor());
+            case "smile":
+                return MessageConvertersConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.smile());
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dna.jobhunt.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms of measured requests per {@link Operation}.
+ * Latency is counted from the time the request was scheduled to be sent, not from the time it was sent,
+ * so a stalled server or generator shows up in the percentiles instead of reducing the load.
+ */
+final class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> skipped = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (final var operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(3));
+            errors.put(operation, new AtomicLong());
+            skipped.put(operation, new AtomicLong());
+        }
+    }
+
+    void record(final Operation operation, final long latencyNanos, final boolean successful) {
+        histograms.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (!successful) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    void skip(final Operation operation) {
+        skipped.get(operation).incrementAndGet();
+    }
+
+    void print(final PrintStream out, final double measuredSeconds) {
+        out.printf("%-26s %9s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "skipped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((operation, histogram) -> out.printf("%-26s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, histogram.getTotalCount(), errors.get(operation).get(), skipped.get(operation).get(),
+                histogram.getTotalCount() / measuredSeconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+    }
+
+    /**
+     * Writes full percentile distribution of every operation as {@code .hgrm} file, which can be plotted
+     * with HdrHistogram tools and compared between runs.
+     */
+    void write(final Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        for (final var entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            try (var out = new PrintStream(Files.newOutputStream(reportDir.resolve(entry.getKey().name().toLowerCase() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(final long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,83 @@
+package dna.jobhunt.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dna.jobhunt.domain.Category;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State shared by requests of a load test run: seeded employers and users created during the run.
+ * Requests are built by the single dispatching thread, responses are handled concurrently.
+ */
+final class LoadContext {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final URI baseUri;
+    private final List<String> employers;
+    private final List<Integer> employerIds;
+    private final ObjectMapper objectMapper;
+    private final SplittableRandom random = new SplittableRandom(17);
+    private final ConcurrentLinkedQueue<Integer> createdUserIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger userCounter = new AtomicInteger();
+
+    LoadContext(final URI baseUri, final List<String> employers, final List<Integer> employerIds, final ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.employers = employers;
+        this.employerIds = employerIds;
+        this.objectMapper = objectMapper;
+    }
+
+    URI uri(final String path) {
+        return baseUri.resolve(path);
+    }
+
+    Category randomCategory() {
+        return CATEGORIES[random.nextInt(CATEGORIES.length)];
+    }
+
+    String randomEmployer() {
+        return employers.get(random.nextInt(employers.size()));
+    }
+
+    int randomEmployerId() {
+        return employerIds.get(random.nextInt(employerIds.size()));
+    }
+
+    String randomJobOfferJson() {
+        final var startDate = LocalDate.now().minusDays(random.nextInt(30));
+        return String.format("{\"category\":\"%s\",\"startDate\":\"%s\",\"endDate\":\"%s\",\"employer\":\"%s\"}",
+                randomCategory(), DATE_FORMATTER.format(startDate), DATE_FORMATTER.format(startDate.plusDays(random.nextInt(60))),
+                randomEmployer());
+    }
+
+    String newUserJson() {
+        return String.format("{\"username\":\"load-user-%d\",\"password\":\"pass\"}", userCounter.incrementAndGet());
+    }
+
+    void userCreated(final String responseBody) {
+        try {
+            createdUserIds.add(objectMapper.readTree(responseBody).get("id").asInt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Optional<Integer> pollCreatedUserId() {
+        return Optional.ofNullable(createdUserIds.poll());
+    }
+
+    int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+}
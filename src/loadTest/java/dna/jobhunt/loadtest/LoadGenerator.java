@@ -0,0 +1,182 @@
+package dna.jobhunt.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dna.jobhunt.JobhuntApplication;
+import dna.jobhunt.domain.Category;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process load generator. It starts {@link JobhuntApplication} on a random local port, seeds employers and job offers
+ * through the API and sends the configured mix of operations at constant arrival rate (open model):
+ * requests are scheduled at fixed intervals regardless of how long previous requests take.
+ * Latency percentiles of every operation are printed and written to the report directory.
+ * Run with {@code ./gradlew loadTest -PloadTest.rate=500 -PloadTest.durationSeconds=120}.
+ */
+public final class LoadGenerator {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadSettings settings;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyReport report = new LatencyReport();
+    private final AtomicLong outstanding = new AtomicLong();
+
+    private LoadGenerator(final LoadSettings settings) {
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var settings = LoadSettings.fromSystemProperties();
+        final ConfigurableApplicationContext application = new SpringApplicationBuilder(JobhuntApplication.class)
+                .properties("server.port=0", "server.address=127.0.0.1", "logging.level.root=WARN")
+                .run(args);
+        try {
+            final var port = application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            new LoadGenerator(settings).run(URI.create("http://127.0.0.1:" + port));
+        } finally {
+            application.close();
+        }
+        System.exit(0);
+    }
+
+    private void run(final URI baseUri) throws Exception {
+        System.out.printf("Load test against %s with %s%n", baseUri, settings);
+        final var context = seed(baseUri);
+        final var measuredSeconds = drive(context);
+        System.out.printf("%nMeasured %.0f s after %s warmup:%n", measuredSeconds, settings.warmup);
+        report.print(System.out, measuredSeconds);
+        report.write(settings.reportDir);
+        System.out.printf("Percentile distributions written to %s%n", settings.reportDir.toAbsolutePath());
+    }
+
+    private LoadContext seed(final URI baseUri) throws IOException, InterruptedException {
+        final var employers = new ArrayList<String>(settings.employers);
+        final var employerIds = new ArrayList<Integer>(settings.employers);
+        for (int i = 0; i < settings.employers; i++) {
+            final var username = "employer" + i;
+            final var response = send(HttpRequest.newBuilder(baseUri.resolve("/api/users"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format("{\"username\":\"%s\",\"password\":\"pass\"}", username)))
+                    .build());
+            employers.add(username);
+            employerIds.add(objectMapper.readTree(response.body()).get("id").asInt());
+        }
+        final var context = new LoadContext(baseUri, List.copyOf(employers), List.copyOf(employerIds), objectMapper);
+        final var categories = Category.values();
+        final var ndjson = new StringBuilder();
+        for (int i = 0; i < settings.jobOffers; i++) {
+            final var startDate = LocalDate.now().minusDays(context.nextInt(60));
+            ndjson.append(String.format("{\"category\":\"%s\",\"startDate\":\"%s\",\"endDate\":\"%s\",\"employer\":\"%s\"}%n",
+                    categories[context.nextInt(categories.length)], DATE_FORMATTER.format(startDate),
+                    DATE_FORMATTER.format(startDate.plusDays(context.nextInt(90))), context.randomEmployer()));
+        }
+        send(HttpRequest.newBuilder(baseUri.resolve("/api/job-offers/bulk"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build());
+        System.out.printf("Seeded %d employers and %d job offers.%n", settings.employers, settings.jobOffers);
+        return context;
+    }
+
+    /**
+     * Sends requests at fixed intervals from a single thread. Responses are handled asynchronously,
+     * so slow responses never delay sending of the following requests.
+     *
+     * @return length of the measured period in seconds.
+     */
+    private double drive(final LoadContext context) throws InterruptedException {
+        final var operations = weightedOperations(settings.mix);
+        final var intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate;
+        final var warmupNanos = settings.warmup.toNanos();
+        final var totalNanos = warmupNanos + settings.duration.toNanos();
+        final var start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            final var intendedStart = start + i * intervalNanos;
+            if (intendedStart - start >= totalNanos) {
+                break;
+            }
+            waitUntil(intendedStart);
+            final var operation = operations.get(context.nextInt(operations.size()));
+            final var measured = intendedStart - start >= warmupNanos;
+            final var request = operation.request(context);
+            if (request.isEmpty()) {
+                if (measured) {
+                    report.skip(operation);
+                }
+                continue;
+            }
+            outstanding.incrementAndGet();
+            httpClient.sendAsync(request.get(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        final var successful = failure == null && response.statusCode() < 400;
+                        if (measured) {
+                            report.record(operation, System.nanoTime() - intendedStart, successful);
+                        }
+                        if (successful && operation == Operation.CREATE_USER) {
+                            context.userCreated(response.body());
+                        }
+                        outstanding.decrementAndGet();
+                    });
+        }
+        final var drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (outstanding.get() > 0) {
+            System.out.printf("%d requests did not complete within %s and are not reported.%n", outstanding.get(), DRAIN_TIMEOUT);
+        }
+        return settings.duration.toNanos() / 1e9;
+    }
+
+    private HttpResponse<String> send(final HttpRequest request) throws IOException, InterruptedException {
+        final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding request " + request.uri() + " failed with status " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static List<Operation> weightedOperations(final Map<Operation, Integer> mix) {
+        final var operations = new ArrayList<Operation>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix must contain at least one operation with positive weight.");
+        }
+        return operations;
+    }
+
+    private static void waitUntil(final long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dna.jobhunt.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run read from {@code loadTest.*} system properties.
+ * Operation mix is given as comma separated {@code OPERATION:weight} pairs,
+ * for example {@code LIST_JOB_OFFERS:5,CREATE_JOB_OFFER:1}.
+ */
+final class LoadSettings {
+
+    private static final String PREFIX = "loadTest.";
+    private static final String DEFAULT_MIX = "LIST_JOB_OFFERS:30,LIST_FILTERED_JOB_OFFERS:30,CREATE_JOB_OFFER:10,"
+            + "LIST_USERS:5,GET_USER:10,CREATE_USER:5,UPDATE_USER:5,DELETE_USER:5";
+
+    final int rate;
+    final Duration warmup;
+    final Duration duration;
+    final int employers;
+    final int jobOffers;
+    final Map<Operation, Integer> mix;
+    final Path reportDir;
+
+    private LoadSettings(final int rate, final Duration warmup, final Duration duration, final int employers, final int jobOffers,
+                         final Map<Operation, Integer> mix, final Path reportDir) {
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.employers = employers;
+        this.jobOffers = jobOffers;
+        this.mix = mix;
+        this.reportDir = reportDir;
+    }
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger(PREFIX + "rate", 200),
+                Duration.ofSeconds(Integer.getInteger(PREFIX + "warmupSeconds", 10)),
+                Duration.ofSeconds(Integer.getInteger(PREFIX + "durationSeconds", 60)),
+                Integer.getInteger(PREFIX + "employers", 100),
+                Integer.getInteger(PREFIX + "jobOffers", 10_000),
+                parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+                Path.of(System.getProperty(PREFIX + "reportDir", "build/reports/loadtest")));
+    }
+
+    private static Map<Operation, Integer> parseMix(final String mix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var entry : mix.split(",")) {
+            final var operationAndWeight = entry.trim().split(":");
+            if (operationAndWeight.length != 2) {
+                throw new IllegalArgumentException("Operation mix entry must be OPERATION:weight, was " + entry);
+            }
+            weights.put(Operation.valueOf(operationAndWeight[0].trim()), Integer.parseInt(operationAndWeight[1].trim()));
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rate=%d/s, warmup=%s, duration=%s, employers=%d, jobOffers=%d, mix=%s",
+                rate, warmup, duration, employers, jobOffers, mix);
+    }
+}
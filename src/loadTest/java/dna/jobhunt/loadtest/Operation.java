@@ -0,0 +1,83 @@
+package dna.jobhunt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Optional;
+
+/**
+ * Requests sent by {@link LoadGenerator}, each one reported as separate endpoint.
+ */
+enum Operation {
+    LIST_JOB_OFFERS {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(get(context.uri("/api/job-offers")));
+        }
+    },
+    LIST_FILTERED_JOB_OFFERS {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(get(context.uri("/api/job-offers?category=" + context.randomCategory()
+                    + "&employer=" + context.randomEmployer())));
+        }
+    },
+    CREATE_JOB_OFFER {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(json(context.uri("/api/job-offers"), "POST", context.randomJobOfferJson()));
+        }
+    },
+    LIST_USERS {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(get(context.uri("/api/users?limit=100")));
+        }
+    },
+    GET_USER {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(get(context.uri("/api/users/" + context.randomEmployerId())));
+        }
+    },
+    CREATE_USER {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(json(context.uri("/api/users"), "POST", context.newUserJson()));
+        }
+    },
+    UPDATE_USER {
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return Optional.of(json(context.uri("/api/users/" + context.randomEmployerId()), "PATCH", "{\"password\":\"changed\"}"));
+        }
+    },
+    DELETE_USER {
+        // only users created during the run are deleted, seeded employers own job offers
+        @Override
+        Optional<HttpRequest> request(final LoadContext context) {
+            return context.pollCreatedUserId()
+                    .map(id -> HttpRequest.newBuilder(context.uri("/api/users/" + id)).DELETE().build());
+        }
+    };
+
+    /**
+     * @param context state of the run.
+     *
+     * @return request to send or empty optional when the operation cannot be performed now.
+     */
+    abstract Optional<HttpRequest> request(final LoadContext context);
+
+    private static HttpRequest get(final URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest json(final URI uri, final String method, final String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
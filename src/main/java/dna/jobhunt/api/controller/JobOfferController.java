@@ -1,8 +1,14 @@
 package dna.jobhunt.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dna.jobhunt.api.dto.BulkImportResultDTO;
 import dna.jobhunt.api.dto.JobOfferDTO;
 import dna.jobhunt.api.dto.JobOfferDetailsDTO;
 import dna.jobhunt.domain.Category;
+import dna.jobhunt.feed.JobOfferFeed;
+import dna.jobhunt.service.JobOfferImportService;
 import dna.jobhunt.service.JobOfferService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -11,7 +17,12 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -19,36 +30,158 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Past;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Api(value="Job Offer Controller", tags = "job-offer")
 @RequestMapping("/api/job-offers")
 @RestController
+@Profile("!reactive")
+@Validated
 @RequiredArgsConstructor
 @Slf4j
 public class JobOfferController {
+    static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final JobOfferService jobOfferService;
+    private final JobOfferImportService jobOfferImportService;
+    private final JobOfferFeed jobOfferFeed;
+    private final ObjectMapper objectMapper;
 
-    @ApiOperation(value = "Get valid job offers for given employer and category. " +
-            "If parameters are not specified", response = Collection.class)
+    @ApiOperation(value = "Get valid job offers for given employers and categories. " +
+            "Parameters can be repeated to match any of given values. " +
+            "If parameters are not specified all job offers valid on given date (today by default) are returned. " +
+            "When limit is given job offers are ordered by id and the next page cursor is returned in " +
+            KeysetPageResponses.NEXT_CURSOR_HEADER + " header.", response = Collection.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Retrieved user successfully."),
             @ApiResponse(code = 400, message = "Validation error."),
             @ApiResponse(code = 500, message = "Internal service error.")
     })
     @GetMapping
-    public Collection<JobOfferDTO> getValidJobOffersForCategoryAndEmployer(
-            @ApiParam(value = "Employer username")
+    public ResponseEntity<Collection<JobOfferDTO>> getValidJobOffersForCategoriesAndEmployers(
+            @ApiParam(value = "Employer usernames, job offers of any of them are returned")
+            @RequestParam(value = "employer", required = false)
+                List<String> employers,
+            @RequestParam(value = "category", required = false)
+            @ApiParam(value = "Job Categories, job offers of any of them are returned")
+                List<Category> categories,
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(pattern = "dd-MM-yyyy")
+            @ApiParam(value = "Date on which job offers are valid, today by default", example = "14-11-2019")
+                LocalDate date,
+            @RequestParam(value = "after", required = false)
+            @ApiParam(value = "Id of the last job offer from previous page", example = "10")
+                Integer after,
+            @RequestParam(value = "limit", required = false)
+            @Min(value = 1, message = "{limit.min}")
+            @Max(value = KeysetPageResponses.MAX_LIMIT, message = "{limit.max}")
+            @ApiParam(value = "Maximal number of returned job offers", example = "100")
+                Integer limit) {
+        log.debug("Retrieving valid job offers for categories {}, employers {} and date {}", categories, employers, date);
+        if (limit == null) {
+            return ResponseEntity.ok(jobOfferService.getValidJobOffersForCategoriesAndEmployers(orEmpty(categories), orEmpty(employers), date));
+        }
+
+        return KeysetPageResponses.of(jobOfferService.getValidJobOffersPageForCategoriesAndEmployers(orEmpty(categories), orEmpty(employers), date, after, limit));
+    }
+
+    @ApiOperation(value = "Get job offers which were valid on given past date for given employers and categories, " +
+            "including expired job offers which were already moved to the archive. " +
+            "Parameters can be repeated to match any of given values.", response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retrieved job offers successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping("/history")
+    public Collection<JobOfferDTO> getJobOfferHistoryForCategoriesAndEmployers(
+            @ApiParam(value = "Employer usernames, job offers of any of them are returned")
+            @RequestParam(value = "employer", required = false)
+                List<String> employers,
+            @RequestParam(value = "category", required = false)
+            @ApiParam(value = "Job Categories, job offers of any of them are returned")
+                List<Category> categories,
+            @RequestParam(value = "date")
+            @DateTimeFormat(pattern = "dd-MM-yyyy")
+            @Past(message = "{date.past}")
+            @ApiParam(value = "Past date on which job offers were valid", example = "14-11-2019", required = true)
+                LocalDate date) {
+        log.debug("Retrieving job offer history for categories {}, employers {} and date {}", categories, employers, date);
+
+        return jobOfferService.getJobOfferHistoryForCategoriesAndEmployers(orEmpty(categories), orEmpty(employers), date);
+    }
+
+    @ApiOperation(value = "Stream valid job offers for given employers and categories as JSON array. " +
+            "Job offers are written one by one while they are read from database, so any number of them can be returned.",
+            response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Streamed job offers successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamValidJobOffersForCategoriesAndEmployers(
+            @ApiParam(value = "Employer usernames, job offers of any of them are returned")
+            @RequestParam(value = "employer", required = false)
+                List<String> employers,
+            @RequestParam(value = "category", required = false)
+            @ApiParam(value = "Job Categories, job offers of any of them are returned")
+                List<Category> categories,
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(pattern = "dd-MM-yyyy")
+            @ApiParam(value = "Date on which job offers are valid, today by default", example = "14-11-2019")
+                LocalDate date) {
+        log.debug("Streaming valid job offers for categories {}, employers {} and date {}", categories, employers, date);
+
+        return outputStream -> writeJsonArray(outputStream,
+                consumer -> jobOfferService.forEachValidJobOffer(orEmpty(categories), orEmpty(employers), date, consumer));
+    }
+
+    @ApiOperation(value = "Subscribe to job offers created from now on for given employers and categories as Server-Sent Events " +
+            "named job-offer with job offer id as event id. Subscribers which do not keep up are disconnected and should reconnect.",
+            response = JobOfferDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Subscribed successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToJobOffers(
+            @ApiParam(value = "Employer usernames, job offers of any of them are pushed")
             @RequestParam(value = "employer", required = false)
-                String employer,
+                List<String> employers,
             @RequestParam(value = "category", required = false)
-            @ApiParam(value = "Job Category")
-                Category category) {
-        log.debug("Retrieving valid job offers for category {} and employer {}", employer, category);
+            @ApiParam(value = "Job Categories, job offers of any of them are pushed")
+                List<Category> categories) {
+        log.debug("Subscribing to job offers of categories {} and employers {}", categories, employers);
+
+        return jobOfferFeed.subscribe(orEmpty(categories), orEmpty(employers));
+    }
+
+    @ApiOperation(value = "Export all job offers ordered by id as JSON array streamed from database.", response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Exported job offers successfully."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody exportJobOffers() {
+        log.debug("Exporting all job offers");
 
-        return jobOfferService.getValidJobOffersForCategoryAndEmployer(category, employer);
+        return outputStream -> writeJsonArray(outputStream, jobOfferService::forEachJobOffer);
     }
 
     @ApiOperation(value = "Create new job offer with given data", response = JobOfferDTO.class)
@@ -67,4 +200,39 @@ public class JobOfferController {
 
         return jobOfferService.addJobOffer(jobOfferDetailsDTO);
     }
+
+    @ApiOperation(value = "Import job offers given as newline delimited JSON, one job offer details object per line. " +
+            "Valid lines are stored and rejected lines are returned with their numbers and errors.", response = BulkImportResultDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Imported job offers."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @PostMapping(value = "/bulk", consumes = NDJSON_VALUE)
+    public BulkImportResultDTO importJobOffers(final Reader ndjson) throws IOException {
+        log.debug("Received request to import job offers");
+
+        return jobOfferImportService.importJobOffers(ndjson);
+    }
+
+    private void writeJsonArray(final OutputStream outputStream, final Consumer<Consumer<JobOfferDTO>> jobOffersSource) throws IOException {
+        final var writer = objectMapper.writerFor(JobOfferDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // array of failed stream must stay unterminated, so the client does not take it for complete result
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            jobOffersSource.accept(jobOffer -> {
+                try {
+                    writer.writeValue(generator, jobOffer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    private static <T> List<T> orEmpty(final List<T> values) {
+        return values != null ? values : List.of();
+    }
 }
@@ -0,0 +1,37 @@
+package dna.jobhunt.api.controller;
+
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * Helper for returning {@link KeysetPageDTO} from controllers.
+ * Page items are returned as response body and the next page cursor as {@value #NEXT_CURSOR_HEADER} header,
+ * so paged and not paged responses have the same body.
+ */
+final class KeysetPageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_LIMIT = 1000;
+
+    private KeysetPageResponses() {
+    }
+
+    static <T> ResponseEntity<Collection<T>> of(final KeysetPageDTO<T> page) {
+        return okWithCursor(page).body(page.getItems());
+    }
+
+    static <T> ResponseEntity<Flux<T>> ofFlux(final KeysetPageDTO<T> page) {
+        return okWithCursor(page).body(Flux.fromIterable(page.getItems()));
+    }
+
+    private static ResponseEntity.BodyBuilder okWithCursor(final KeysetPageDTO<?> page) {
+        final var response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+        }
+        return response;
+    }
+}
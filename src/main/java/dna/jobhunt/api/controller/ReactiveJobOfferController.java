@@ -0,0 +1,149 @@
+package dna.jobhunt.api.controller;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.service.ReactiveJobOfferService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reactive variant of {@link JobOfferController} active with "reactive" profile.
+ * Job offers are written to the response while they are read from database, so the stream endpoint
+ * has the same body as the regular one.
+ */
+@Api(value="Job Offer Controller", tags = "job-offer")
+@RequestMapping("/api/job-offers")
+@RestController
+@Profile("reactive")
+@Validated
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveJobOfferController {
+
+    private final ReactiveJobOfferService jobOfferService;
+
+    @ApiOperation(value = "Get valid job offers for given employers and categories. " +
+            "Parameters can be repeated to match any of given values. " +
+            "If parameters are not specified all job offers valid on given date (today by default) are returned. " +
+            "When limit is given job offers are ordered by id and the next page cursor is returned in " +
+            KeysetPageResponses.NEXT_CURSOR_HEADER + " header.", response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retrieved user successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping
+    public Mono<ResponseEntity<Flux<JobOfferDTO>>> getValidJobOffersForCategoriesAndEmployers(
+            @ApiParam(value = "Employer usernames, job offers of any of them are returned")
+            @RequestParam(value = "employer", required = false)
+                List<String> employers,
+            @RequestParam(value = "category", required = false)
+            @ApiParam(value = "Job Categories, job offers of any of them are returned")
+                List<Category> categories,
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(pattern = "dd-MM-yyyy")
+            @ApiParam(value = "Date on which job offers are valid, today by default", example = "14-11-2019")
+                LocalDate date,
+            @RequestParam(value = "after", required = false)
+            @ApiParam(value = "Id of the last job offer from previous page", example = "10")
+                Integer after,
+            @RequestParam(value = "limit", required = false)
+            @Min(value = 1, message = "{limit.min}")
+            @Max(value = KeysetPageResponses.MAX_LIMIT, message = "{limit.max}")
+            @ApiParam(value = "Maximal number of returned job offers", example = "100")
+                Integer limit) {
+        log.debug("Retrieving valid job offers for categories {}, employers {} and date {}", categories, employers, date);
+        if (limit == null) {
+            return Mono.just(ResponseEntity.ok(jobOfferService.getValidJobOffersForCategoriesAndEmployers(orEmpty(categories), orEmpty(employers), date)));
+        }
+
+        return jobOfferService.getValidJobOffersPageForCategoriesAndEmployers(orEmpty(categories), orEmpty(employers), date, after, limit)
+                .map(KeysetPageResponses::ofFlux);
+    }
+
+    @ApiOperation(value = "Stream valid job offers for given employers and categories as JSON array. " +
+            "Job offers are written one by one while they are read from database, so any number of them can be returned.",
+            response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Streamed job offers successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<JobOfferDTO> streamValidJobOffersForCategoriesAndEmployers(
+            @ApiParam(value = "Employer usernames, job offers of any of them are returned")
+            @RequestParam(value = "employer", required = false)
+                List<String> employers,
+            @RequestParam(value = "category", required = false)
+            @ApiParam(value = "Job Categories, job offers of any of them are returned")
+                List<Category> categories,
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(pattern = "dd-MM-yyyy")
+            @ApiParam(value = "Date on which job offers are valid, today by default", example = "14-11-2019")
+                LocalDate date) {
+        log.debug("Streaming valid job offers for categories {}, employers {} and date {}", categories, employers, date);
+
+        return jobOfferService.getValidJobOffersForCategoriesAndEmployers(orEmpty(categories), orEmpty(employers), date);
+    }
+
+    @ApiOperation(value = "Export all job offers ordered by id as JSON array streamed from database.", response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Exported job offers successfully."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<JobOfferDTO> exportJobOffers() {
+        log.debug("Exporting all job offers");
+
+        return jobOfferService.getJobOffers();
+    }
+
+    @ApiOperation(value = "Create new job offer with given data", response = JobOfferDTO.class)
+    @ResponseStatus(HttpStatus.CREATED)
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Created new job offer successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @PostMapping
+    public Mono<JobOfferDTO> addJobOffer(
+            @ApiParam(value = "New Job offer details")
+            @Valid
+            @RequestBody JobOfferDetailsDTO jobOfferDetailsDTO) {
+        log.debug("Received request to create job offer with details {}", jobOfferDetailsDTO);
+
+        return jobOfferService.addJobOffer(jobOfferDetailsDTO);
+    }
+
+    private static <T> List<T> orEmpty(final List<T> values) {
+        return values != null ? values : List.of();
+    }
+}
@@ -0,0 +1,153 @@
+package dna.jobhunt.api.controller;
+
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import dna.jobhunt.service.ReactiveUserService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.Collection;
+
+/**
+ * Reactive variant of {@link UserController} active with "reactive" profile.
+ */
+@Api(value="User Controller", tags = "user")
+@RequestMapping("/api/users")
+@RestController
+@Profile("reactive")
+@Validated
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    @ApiOperation(value = "Retrieve all existing users from database. " +
+            "When limit is given users are ordered by id and the next page cursor is returned in " +
+            KeysetPageResponses.NEXT_CURSOR_HEADER + " header.", response = Collection.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retrieved users successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping
+    public Mono<ResponseEntity<Flux<UserDTO>>> getAllUsers(
+            @ApiParam(value = "Id of the last user from previous page", example = "10")
+            @RequestParam(value = "after", required = false)
+                    Integer after,
+            @ApiParam(value = "Maximal number of returned users", example = "100")
+            @RequestParam(value = "limit", required = false)
+            @Min(value = 1, message = "{limit.min}")
+            @Max(value = KeysetPageResponses.MAX_LIMIT, message = "{limit.max}")
+                    Integer limit) {
+        log.debug("Resolving get all users call with limit {} after {}", limit, after);
+        if (limit == null) {
+            return Mono.just(ResponseEntity.ok(userService.getUsers()));
+        }
+
+        return userService.getUsersPage(after, limit)
+                .map(KeysetPageResponses::ofFlux);
+    }
+
+    @ApiOperation(value = "Retrieve user for given id", response = UserDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retrieved user successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 404, message = "User not exist"),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserDTO>> getUser(
+            @ApiParam(value = "Id of user", example = "1")
+            @PathVariable("id")
+                    Integer id) {
+        log.debug("Received request to retrieve user with id {}", id);
+
+        return userService.getUserById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @ApiOperation(value = "Retrieve user for given id")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Deleted user successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 404, message = "User not exist"),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteUser(
+            @ApiParam(value = "Id of user", example = "1")
+            @PathVariable("id")
+                    Integer id) {
+        log.debug("Received request to delete user with id {}", id);
+
+        return userService.deleteUser(id);
+    }
+
+    @ApiOperation(value = "Update user with given id", response = UserDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Updated user successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 404, message = "User not exist"),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<UserDTO>> updateUser(
+            @ApiParam(value = "Id of user", example = "1")
+            @PathVariable("id")
+                    Integer id,
+            @ApiParam(value = "User details to update")
+            @RequestBody
+                    UserDetailsDTO userDetailsDTO
+            ) {
+        log.debug("Received request to update user with id {} with data {}", id, userDetailsDTO);
+
+        return userService.updateUser(userDetailsDTO, id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @ApiOperation(value = "Create user with given data", response = UserDTO.class)
+    @ResponseStatus(HttpStatus.CREATED)
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "User created successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
+            @ApiResponse(code = 500, message = "Internal service error.")
+    })
+    @PostMapping
+    public Mono<UserDTO> createUser(
+            @ApiParam(value = "New User details")
+            @RequestBody
+            @Valid
+                    UserDetailsDTO userDetailsDTO
+    ) {
+        log.debug("Received request to create new user with data {}", userDetailsDTO);
+
+        return userService.createUser(userDetailsDTO);
+    }
+}
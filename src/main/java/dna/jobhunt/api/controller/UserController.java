@@ -10,8 +10,10 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -19,30 +21,49 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import java.util.Collection;
 
 @Api(value="User Controller", tags = "user")
 @RequestMapping("/api/users")
 @RestController
+@Profile("!reactive")
+@Validated
 @RequiredArgsConstructor
 @Slf4j
 public class UserController {
     private final UserService userService;
 
-    @ApiOperation(value = "Retrieve all existing users from database", response = Collection.class)
+    @ApiOperation(value = "Retrieve all existing users from database. " +
+            "When limit is given users are ordered by id and the next page cursor is returned in " +
+            KeysetPageResponses.NEXT_CURSOR_HEADER + " header.", response = Collection.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Retrieved users successfully."),
+            @ApiResponse(code = 400, message = "Validation error."),
             @ApiResponse(code = 500, message = "Internal service error.")
     })
     @GetMapping
-    public Collection<UserDTO> getAllUsers() {
-        log.debug("Resolving get all users call");
+    public ResponseEntity<Collection<UserDTO>> getAllUsers(
+            @ApiParam(value = "Id of the last user from previous page", example = "10")
+            @RequestParam(value = "after", required = false)
+                    Integer after,
+            @ApiParam(value = "Maximal number of returned users", example = "100")
+            @RequestParam(value = "limit", required = false)
+            @Min(value = 1, message = "{limit.min}")
+            @Max(value = KeysetPageResponses.MAX_LIMIT, message = "{limit.max}")
+                    Integer limit) {
+        log.debug("Resolving get all users call with limit {} after {}", limit, after);
+        if (limit == null) {
+            return ResponseEntity.ok(userService.getUsers());
+        }
 
-        return userService.getUsers();
+        return KeysetPageResponses.of(userService.getUsersPage(after, limit));
     }
 
     @ApiOperation(value = "Retrieve user for given id", response = UserDTO.class)
@@ -0,0 +1,293 @@
+package dna.jobhunt.api.converter;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import dna.jobhunt.domain.Category;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Encodes job offer and user DTOs, their collections and collections of error messages
+ * as Protobuf messages described in {@code src/main/proto/jobhunt.proto}.
+ * Category is encoded as its ordinal, dates as epoch days and creation date as epoch seconds of the local date time at UTC.
+ * Collections are encoded as list messages with repeated {@code items} field.
+ */
+public class ProtobufDtoCodec {
+
+    private static final int ITEMS = 1;
+
+    private static final int JOB_OFFER_CATEGORY = 1;
+    private static final int JOB_OFFER_START_DATE = 2;
+    private static final int JOB_OFFER_END_DATE = 3;
+    private static final int JOB_OFFER_EMPLOYER = 4;
+    private static final int JOB_OFFER_ID = 5;
+
+    private static final int USER_USERNAME = 1;
+    private static final int USER_PASSWORD = 2;
+    private static final int USER_ID = 3;
+    private static final int USER_CREATION_DATE = 4;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Map<Class<?>, Supplier<?>> FACTORIES = Map.of(
+            JobOfferDetailsDTO.class, JobOfferDetailsDTO::new,
+            JobOfferDTO.class, JobOfferDTO::new,
+            UserDetailsDTO.class, UserDetailsDTO::new,
+            UserDTO.class, UserDTO::new);
+
+    /**
+     * @param type DTO type.
+     *
+     * @return true when DTO of given type can be encoded and decoded.
+     */
+    public boolean supports(final Class<?> type) {
+        return FACTORIES.containsKey(type);
+    }
+
+    /**
+     * It writes single DTO or collection of DTOs or strings.
+     *
+     * @param value written value.
+     * @param outputStream output stream, it is not closed.
+     *
+     * @throws IOException when writing fails.
+     */
+    public void write(final Object value, final OutputStream outputStream) throws IOException {
+        final var output = CodedOutputStream.newInstance(outputStream);
+        if (value instanceof Collection) {
+            for (final Object item : (Collection<?>) value) {
+                if (item instanceof String) {
+                    output.writeString(ITEMS, (String) item);
+                } else {
+                    output.writeTag(ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                    output.writeUInt32NoTag(messageSize(item));
+                    writeMessage(item, output);
+                }
+            }
+        } else {
+            writeMessage(value, output);
+        }
+        output.flush();
+    }
+
+    /**
+     * It reads single DTO.
+     *
+     * @param type DTO type, see {@link #supports(Class)}.
+     * @param inputStream input stream with the message.
+     * @param <T> DTO type.
+     *
+     * @return read DTO.
+     *
+     * @throws IOException when reading fails or message is invalid.
+     */
+    public <T> T read(final Class<T> type, final InputStream inputStream) throws IOException {
+        return readMessage(type, CodedInputStream.newInstance(inputStream));
+    }
+
+    /**
+     * It reads collection of DTOs.
+     *
+     * @param type DTO type, see {@link #supports(Class)}.
+     * @param inputStream input stream with the list message.
+     * @param <T> DTO type.
+     *
+     * @return read DTOs.
+     *
+     * @throws IOException when reading fails or message is invalid.
+     */
+    public <T> List<T> readList(final Class<T> type, final InputStream inputStream) throws IOException {
+        final var input = CodedInputStream.newInstance(inputStream);
+        final var items = new ArrayList<T>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) != ITEMS) {
+                input.skipField(tag);
+                continue;
+            }
+            final var limit = input.pushLimit(input.readRawVarint32());
+            items.add(readMessage(type, input));
+            input.popLimit(limit);
+        }
+        return items;
+    }
+
+    private static int messageSize(final Object message) {
+        if (message instanceof JobOfferDetailsDTO) {
+            return jobOfferSize((JobOfferDetailsDTO) message);
+        }
+        if (message instanceof UserDetailsDTO) {
+            return userSize((UserDetailsDTO) message);
+        }
+        throw new IllegalArgumentException("Not supported message " + message);
+    }
+
+    private static void writeMessage(final Object message, final CodedOutputStream output) throws IOException {
+        if (message instanceof JobOfferDetailsDTO) {
+            writeJobOffer((JobOfferDetailsDTO) message, output);
+        } else if (message instanceof UserDetailsDTO) {
+            writeUser((UserDetailsDTO) message, output);
+        } else {
+            throw new IllegalArgumentException("Not supported message " + message);
+        }
+    }
+
+    private static int jobOfferSize(final JobOfferDetailsDTO jobOffer) {
+        var size = 0;
+        if (jobOffer.getCategory() != null) {
+            size += CodedOutputStream.computeInt32Size(JOB_OFFER_CATEGORY, jobOffer.getCategory().ordinal());
+        }
+        if (jobOffer.getStartDate() != null) {
+            size += CodedOutputStream.computeInt64Size(JOB_OFFER_START_DATE, jobOffer.getStartDate().toEpochDay());
+        }
+        if (jobOffer.getEndDate() != null) {
+            size += CodedOutputStream.computeInt64Size(JOB_OFFER_END_DATE, jobOffer.getEndDate().toEpochDay());
+        }
+        if (jobOffer.getEmployer() != null) {
+            size += CodedOutputStream.computeStringSize(JOB_OFFER_EMPLOYER, jobOffer.getEmployer());
+        }
+        if (jobOffer instanceof JobOfferDTO && ((JobOfferDTO) jobOffer).getId() != null) {
+            size += CodedOutputStream.computeInt32Size(JOB_OFFER_ID, ((JobOfferDTO) jobOffer).getId());
+        }
+        return size;
+    }
+
+    private static void writeJobOffer(final JobOfferDetailsDTO jobOffer, final CodedOutputStream output) throws IOException {
+        if (jobOffer.getCategory() != null) {
+            output.writeInt32(JOB_OFFER_CATEGORY, jobOffer.getCategory().ordinal());
+        }
+        if (jobOffer.getStartDate() != null) {
+            output.writeInt64(JOB_OFFER_START_DATE, jobOffer.getStartDate().toEpochDay());
+        }
+        if (jobOffer.getEndDate() != null) {
+            output.writeInt64(JOB_OFFER_END_DATE, jobOffer.getEndDate().toEpochDay());
+        }
+        if (jobOffer.getEmployer() != null) {
+            output.writeString(JOB_OFFER_EMPLOYER, jobOffer.getEmployer());
+        }
+        if (jobOffer instanceof JobOfferDTO && ((JobOfferDTO) jobOffer).getId() != null) {
+            output.writeInt32(JOB_OFFER_ID, ((JobOfferDTO) jobOffer).getId());
+        }
+    }
+
+    private static int userSize(final UserDetailsDTO user) {
+        var size = 0;
+        if (user.getUsername() != null) {
+            size += CodedOutputStream.computeStringSize(USER_USERNAME, user.getUsername());
+        }
+        if (user.getPassword() != null) {
+            size += CodedOutputStream.computeStringSize(USER_PASSWORD, user.getPassword());
+        }
+        if (user instanceof UserDTO) {
+            final var userDTO = (UserDTO) user;
+            if (userDTO.getId() != null) {
+                size += CodedOutputStream.computeInt32Size(USER_ID, userDTO.getId());
+            }
+            if (userDTO.getCreationDate() != null) {
+                size += CodedOutputStream.computeInt64Size(USER_CREATION_DATE, userDTO.getCreationDate().toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+        return size;
+    }
+
+    private static void writeUser(final UserDetailsDTO user, final CodedOutputStream output) throws IOException {
+        if (user.getUsername() != null) {
+            output.writeString(USER_USERNAME, user.getUsername());
+        }
+        if (user.getPassword() != null) {
+            output.writeString(USER_PASSWORD, user.getPassword());
+        }
+        if (user instanceof UserDTO) {
+            final var userDTO = (UserDTO) user;
+            if (userDTO.getId() != null) {
+                output.writeInt32(USER_ID, userDTO.getId());
+            }
+            if (userDTO.getCreationDate() != null) {
+                output.writeInt64(USER_CREATION_DATE, userDTO.getCreationDate().toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+    }
+
+    private static <T> T readMessage(final Class<T> type, final CodedInputStream input) throws IOException {
+        final var factory = FACTORIES.get(type);
+        if (factory == null) {
+            throw new IllegalArgumentException("Not supported message type " + type);
+        }
+        final var message = type.cast(factory.get());
+        if (message instanceof JobOfferDetailsDTO) {
+            readJobOffer((JobOfferDetailsDTO) message, input);
+        } else {
+            readUser((UserDetailsDTO) message, input);
+        }
+        return message;
+    }
+
+    private static void readJobOffer(final JobOfferDetailsDTO jobOffer, final CodedInputStream input) throws IOException {
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case JOB_OFFER_CATEGORY:
+                    jobOffer.setCategory(category(input.readInt32()));
+                    break;
+                case JOB_OFFER_START_DATE:
+                    jobOffer.setStartDate(LocalDate.ofEpochDay(input.readInt64()));
+                    break;
+                case JOB_OFFER_END_DATE:
+                    jobOffer.setEndDate(LocalDate.ofEpochDay(input.readInt64()));
+                    break;
+                case JOB_OFFER_EMPLOYER:
+                    jobOffer.setEmployer(input.readStringRequireUtf8());
+                    break;
+                case JOB_OFFER_ID:
+                    if (jobOffer instanceof JobOfferDTO) {
+                        ((JobOfferDTO) jobOffer).setId(input.readInt32());
+                        break;
+                    }
+                    input.skipField(tag);
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+    }
+
+    private static void readUser(final UserDetailsDTO user, final CodedInputStream input) throws IOException {
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            final var field = WireFormat.getTagFieldNumber(tag);
+            if (field == USER_USERNAME) {
+                user.setUsername(input.readStringRequireUtf8());
+            } else if (field == USER_PASSWORD) {
+                user.setPassword(input.readStringRequireUtf8());
+            } else if (field == USER_ID && user instanceof UserDTO) {
+                ((UserDTO) user).setId(input.readInt32());
+            } else if (field == USER_CREATION_DATE && user instanceof UserDTO) {
+                ((UserDTO) user).setCreationDate(LocalDateTime.ofEpochSecond(input.readInt64(), 0, ZoneOffset.UTC));
+            } else {
+                input.skipField(tag);
+            }
+        }
+    }
+
+    private static Category category(final int ordinal) throws InvalidProtocolBufferException {
+        if (ordinal < 0 || ordinal >= CATEGORIES.length) {
+            throw new InvalidProtocolBufferException("Unknown category ordinal " + ordinal);
+        }
+        return CATEGORIES[ordinal];
+    }
+}
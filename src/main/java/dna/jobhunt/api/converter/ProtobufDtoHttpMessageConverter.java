@@ -0,0 +1,81 @@
+package dna.jobhunt.api.converter;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.Collection;
+
+/**
+ * Reads and writes job offer and user DTOs, their collections and collections of error messages
+ * as {@value #PROTOBUF_VALUE} with {@link ProtobufDtoCodec}.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.parseMediaType(PROTOBUF_VALUE);
+
+    private final ProtobufDtoCodec codec = new ProtobufDtoCodec();
+
+    public ProtobufDtoHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return codec.supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(final Type type, final Class<?> contextClass, final MediaType mediaType) {
+        return supports(type, false) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
+        return (type != null ? supports(type, true) : supports(clazz)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage) throws IOException {
+        try {
+            if (type instanceof ParameterizedType) {
+                return codec.readList((Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0], inputMessage.getBody());
+            }
+            return codec.read((Class<?>) type, inputMessage.getBody());
+        } catch (DateTimeException e) {
+            throw new HttpMessageNotReadableException("Invalid date: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(final Object value, final Type type, final HttpOutputMessage outputMessage) throws IOException {
+        codec.write(value, outputMessage.getBody());
+    }
+
+    private boolean supports(final Type type, final boolean strings) {
+        if (type instanceof Class) {
+            return supports((Class<?>) type);
+        }
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        final var parameterizedType = (ParameterizedType) type;
+        if (!(parameterizedType.getRawType() instanceof Class) || !Collection.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+            return false;
+        }
+        final var itemType = parameterizedType.getActualTypeArguments()[0];
+        return itemType instanceof Class && (supports((Class<?>) itemType) || strings && itemType == String.class);
+    }
+}
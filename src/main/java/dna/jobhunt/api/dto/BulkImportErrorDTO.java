@@ -0,0 +1,22 @@
+package dna.jobhunt.api.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Errors of single rejected line of bulk import.")
+public class BulkImportErrorDTO {
+
+    @ApiModelProperty(notes = "Number of rejected line, starting from 1", example = "3")
+    private final int line;
+
+    @ApiModelProperty(notes = "Reasons of rejection")
+    private final List<String> errors;
+}
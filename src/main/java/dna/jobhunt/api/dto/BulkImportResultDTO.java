@@ -0,0 +1,22 @@
+package dna.jobhunt.api.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Result of bulk import.")
+public class BulkImportResultDTO {
+
+    @ApiModelProperty(notes = "Number of stored job offers", example = "1000")
+    private final int imported;
+
+    @ApiModelProperty(notes = "Errors of rejected lines")
+    private final List<BulkImportErrorDTO> rejected;
+}
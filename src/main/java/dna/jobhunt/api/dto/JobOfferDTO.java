@@ -26,4 +26,13 @@ public class JobOfferDTO extends JobOfferDetailsDTO {
         super(category, startDate, endDate, employer);
         this.id = id;
     }
+
+    /**
+     * @param employer employer username of the copy.
+     *
+     * @return copy of this job offer with given employer, this job offer is not changed.
+     */
+    public JobOfferDTO withEmployer(final String employer) {
+        return new JobOfferDTO(getCategory(), getStartDate(), getEndDate(), employer, id);
+    }
 }
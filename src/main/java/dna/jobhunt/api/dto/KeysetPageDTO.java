@@ -0,0 +1,47 @@
+package dna.jobhunt.api.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Single page of items ordered by id together with the cursor of the next page.
+ *
+ * @param <T> type of page item.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Page of items ordered by id.")
+public class KeysetPageDTO<T> {
+
+    @ApiModelProperty(notes = "Items of the page")
+    private final List<T> items;
+
+    @ApiModelProperty(notes = "Id to pass as 'after' parameter to get next page, null for the last page", example = "10")
+    private final Integer nextCursor;
+
+    /**
+     * Creates page from items fetched with limit increased by one,
+     * so the presence of the next page is known without additional query.
+     *
+     * @param fetchedItems up to limit + 1 items ordered by id.
+     * @param limit page size.
+     * @param idExtractor function returning id of item.
+     * @param <T> type of page item.
+     *
+     * @return page with at most limit items.
+     */
+    public static <T> KeysetPageDTO<T> of(final List<T> fetchedItems, final int limit, final Function<T, Integer> idExtractor) {
+        if (fetchedItems.size() <= limit) {
+            return new KeysetPageDTO<>(fetchedItems, null);
+        }
+        final var items = fetchedItems.subList(0, limit);
+        return new KeysetPageDTO<>(items, idExtractor.apply(items.get(limit - 1)));
+    }
+}
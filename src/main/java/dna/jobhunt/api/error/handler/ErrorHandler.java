@@ -8,6 +8,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -21,8 +22,6 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ErrorHandler {
 
-    private static final String EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG = "Employer username must belong to existing user.";
-
     /**
      * It handles all errors with bad user input besides request body elements.
      *
@@ -56,6 +55,22 @@ public class ErrorHandler {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * It handles all errors with bad user input in request body of reactive controllers.
+     *
+     * @param ex handled exception
+     * @return api response with status code and collection of error messages
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public List<String> handleWebExchangeBindException(final WebExchangeBindException ex) {
+        log.error("Handling input validation exceptions: {}", ex.getMessage());
+        return ex.getAllErrors()
+                .stream()
+                .map(ObjectError::getDefaultMessage)
+                .collect(Collectors.toList());
+    }
+
     /**
      * It handles error with missing employer for given username.
      *
@@ -66,6 +81,6 @@ public class ErrorHandler {
     @ExceptionHandler(EmployerNotFoundException.class)
     public List<String> handleEmployerNotFoundException(final EmployerNotFoundException ex) {
         log.error("Handling user not found exception: {}", ex.getMessage());
-        return List.of(EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG);
+        return List.of(EmployerNotFoundException.EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG);
     }
 }
@@ -0,0 +1,78 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import dna.jobhunt.domain.Category;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Writes categories as ordinals, dates as epoch days and date times as epoch seconds of the local date time at UTC,
+ * for compact binary formats. Text values are still read as {@link TextValueCodec} reads them.
+ */
+public class BinaryValueCodec implements DtoValueCodec {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final TextValueCodec textValueCodec = new TextValueCodec();
+
+    @Override
+    public void writeCategory(final Category category, final JsonGenerator generator) throws IOException {
+        if (category != null) {
+            generator.writeNumber(category.ordinal());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public void writeDate(final LocalDate date, final JsonGenerator generator) throws IOException {
+        if (date != null) {
+            generator.writeNumber(date.toEpochDay());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public void writeDateTime(final LocalDateTime dateTime, final JsonGenerator generator) throws IOException {
+        if (dateTime != null) {
+            generator.writeNumber(dateTime.toEpochSecond(ZoneOffset.UTC));
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public Category readCategory(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            final var ordinal = parser.getIntValue();
+            if (ordinal >= 0 && ordinal < CATEGORIES.length) {
+                return CATEGORIES[ordinal];
+            }
+            return (Category) context.handleWeirdNumberValue(Category.class, ordinal, "not one of the category ordinals");
+        }
+        return textValueCodec.readCategory(parser, context);
+    }
+
+    @Override
+    public LocalDate readDate(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return LocalDate.ofEpochDay(parser.getLongValue());
+        }
+        return textValueCodec.readDate(parser, context);
+    }
+
+    @Override
+    public LocalDateTime readDateTime(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return LocalDateTime.ofEpochSecond(parser.getLongValue(), 0, ZoneOffset.UTC);
+        }
+        return textValueCodec.readDateTime(parser, context);
+    }
+}
@@ -0,0 +1,43 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson module with reflection free serializers and deserializers of job offer and user DTOs.
+ * Spring Boot registers it in the application object mapper, other object mappers find it with
+ * {@link com.fasterxml.jackson.databind.ObjectMapper#findAndRegisterModules()}.
+ * {@link #binary()} variant is meant for binary formats.
+ */
+@Component
+public class DtoJsonModule extends SimpleModule {
+
+    public DtoJsonModule() {
+        this(DtoJsonModule.class.getSimpleName(), new TextValueCodec());
+    }
+
+    private DtoJsonModule(final String name, final DtoValueCodec valueCodec) {
+        super(name);
+        final var jobOfferSerializer = new JobOfferJsonSerializer(valueCodec);
+        final var userSerializer = new UserJsonSerializer(valueCodec);
+        addSerializer(JobOfferDetailsDTO.class, jobOfferSerializer);
+        addSerializer(JobOfferDTO.class, jobOfferSerializer);
+        addSerializer(UserDetailsDTO.class, userSerializer);
+        addSerializer(UserDTO.class, userSerializer);
+        addDeserializer(JobOfferDetailsDTO.class, new JobOfferJsonDeserializer<>(JobOfferDetailsDTO.class, JobOfferDetailsDTO::new, valueCodec));
+        addDeserializer(JobOfferDTO.class, new JobOfferJsonDeserializer<>(JobOfferDTO.class, JobOfferDTO::new, valueCodec));
+        addDeserializer(UserDetailsDTO.class, new UserJsonDeserializer<>(UserDetailsDTO.class, UserDetailsDTO::new, valueCodec));
+        addDeserializer(UserDTO.class, new UserJsonDeserializer<>(UserDTO.class, UserDTO::new, valueCodec));
+    }
+
+    /**
+     * @return module writing categories as ordinals and dates as epoch days, see {@link BinaryValueCodec}.
+     */
+    public static DtoJsonModule binary() {
+        return new DtoJsonModule("DtoBinaryModule", new BinaryValueCodec());
+    }
+}
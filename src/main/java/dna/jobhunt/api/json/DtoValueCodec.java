@@ -0,0 +1,29 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import dna.jobhunt.domain.Category;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Representation of DTO values which differ between wire formats.
+ * Readers are called with the parser positioned at the value token.
+ */
+public interface DtoValueCodec {
+
+    void writeCategory(Category category, JsonGenerator generator) throws IOException;
+
+    void writeDate(LocalDate date, JsonGenerator generator) throws IOException;
+
+    void writeDateTime(LocalDateTime dateTime, JsonGenerator generator) throws IOException;
+
+    Category readCategory(JsonParser parser, DeserializationContext context) throws IOException;
+
+    LocalDate readDate(JsonParser parser, DeserializationContext context) throws IOException;
+
+    LocalDateTime readDateTime(JsonParser parser, DeserializationContext context) throws IOException;
+}
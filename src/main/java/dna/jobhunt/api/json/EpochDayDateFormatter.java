@@ -0,0 +1,113 @@
+package dna.jobhunt.api.json;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats dates with {@value #DATE_PATTERN} pattern and date times with {@value #DATE_TIME_PATTERN} pattern
+ * used by API DTOs. Formatted dates are cached by epoch day in fixed size table, so serializing many job offers
+ * with the same dates does not format them again and does not allocate new strings.
+ * Entries are immutable, so the table can be shared between threads without locking.
+ * Parsing takes a shortcut for dates which are valid in every month and falls back to {@link DateTimeFormatter} otherwise.
+ */
+public class EpochDayDateFormatter {
+
+    public static final String DATE_PATTERN = "dd-MM-yyyy";
+    public static final String DATE_TIME_PATTERN = "dd-MM-yyyy hh:mm:ss";
+
+    private static final int CACHE_SIZE = 4096;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    private final FormattedDate[] cache = new FormattedDate[CACHE_SIZE];
+
+    /**
+     * @param date formatted date.
+     *
+     * @return date formatted with {@value #DATE_PATTERN} pattern.
+     */
+    public String format(final LocalDate date) {
+        final var epochDay = date.toEpochDay();
+        final var slot = (int) (epochDay & (CACHE_SIZE - 1));
+        final var cached = cache[slot];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.text;
+        }
+        final var text = DATE_FORMATTER.format(date);
+        cache[slot] = new FormattedDate(epochDay, text);
+        return text;
+    }
+
+    /**
+     * @param dateTime formatted date time.
+     *
+     * @return date time formatted with {@value #DATE_TIME_PATTERN} pattern.
+     */
+    public String format(final LocalDateTime dateTime) {
+        final var date = format(dateTime.toLocalDate());
+        final var clockHour = dateTime.getHour() % 12 == 0 ? 12 : dateTime.getHour() % 12;
+        final var text = new StringBuilder(date.length() + 9).append(date).append(' ');
+        appendTwoDigits(text, clockHour).append(':');
+        appendTwoDigits(text, dateTime.getMinute()).append(':');
+        return appendTwoDigits(text, dateTime.getSecond()).toString();
+    }
+
+    /**
+     * @param text date in {@value #DATE_PATTERN} pattern.
+     *
+     * @return parsed date.
+     *
+     * @throws DateTimeException when the text is not valid date.
+     */
+    public LocalDate parseDate(final String text) {
+        if (text.length() == 10 && text.charAt(2) == '-' && text.charAt(5) == '-') {
+            final var day = twoDigitValue(text, 0);
+            final var month = twoDigitValue(text, 3);
+            final var year = fourDigitValue(text, 6);
+            if (day >= 1 && day <= 28 && month >= 1 && month <= 12 && year >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(text, DATE_FORMATTER);
+    }
+
+    /**
+     * @param text date time in {@value #DATE_TIME_PATTERN} pattern.
+     *
+     * @return parsed date time.
+     *
+     * @throws DateTimeException when the text is not valid date time.
+     */
+    public LocalDateTime parseDateTime(final String text) {
+        return LocalDateTime.parse(text, DATE_TIME_FORMATTER);
+    }
+
+    private static StringBuilder appendTwoDigits(final StringBuilder text, final int value) {
+        return text.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static int twoDigitValue(final String text, final int index) {
+        final var tens = text.charAt(index) - '0';
+        final var units = text.charAt(index + 1) - '0';
+        return tens < 0 || tens > 9 || units < 0 || units > 9 ? -1 : tens * 10 + units;
+    }
+
+    private static int fourDigitValue(final String text, final int index) {
+        final var high = twoDigitValue(text, index);
+        final var low = twoDigitValue(text, index + 2);
+        return high < 0 || low < 0 ? -1 : high * 100 + low;
+    }
+
+    private static final class FormattedDate {
+
+        private final long epochDay;
+        private final String text;
+
+        private FormattedDate(final long epochDay, final String text) {
+            this.epochDay = epochDay;
+            this.text = text;
+        }
+    }
+}
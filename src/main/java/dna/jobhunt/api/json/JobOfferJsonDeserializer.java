@@ -0,0 +1,70 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Reads {@link JobOfferDetailsDTO} or {@link JobOfferDTO} without reflection, with category and dates read by {@link DtoValueCodec}.
+ * Unknown properties are handled by {@link DeserializationContext}, so they are ignored or rejected as configured.
+ *
+ * @param <T> type of read job offer.
+ */
+public class JobOfferJsonDeserializer<T extends JobOfferDetailsDTO> extends StdDeserializer<T> {
+
+    private final Supplier<T> factory;
+    private final DtoValueCodec valueCodec;
+
+    public JobOfferJsonDeserializer(final Class<T> type, final Supplier<T> factory, final DtoValueCodec valueCodec) {
+        super(type);
+        this.factory = factory;
+        this.valueCodec = valueCodec;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final String firstField;
+        if (parser.isExpectedStartObjectToken()) {
+            firstField = parser.nextFieldName();
+        } else if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            firstField = parser.currentName();
+        } else {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+        final var jobOffer = factory.get();
+        for (var field = firstField; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "category":
+                    jobOffer.setCategory(valueCodec.readCategory(parser, context));
+                    break;
+                case "startDate":
+                    jobOffer.setStartDate(valueCodec.readDate(parser, context));
+                    break;
+                case "endDate":
+                    jobOffer.setEndDate(valueCodec.readDate(parser, context));
+                    break;
+                case "employer":
+                    jobOffer.setEmployer(JsonValues.readString(parser, context));
+                    break;
+                case "id":
+                    if (jobOffer instanceof JobOfferDTO) {
+                        ((JobOfferDTO) jobOffer).setId(JsonValues.readInteger(parser, context));
+                        break;
+                    }
+                    context.handleUnknownProperty(parser, this, jobOffer, field);
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, this, jobOffer, field);
+            }
+        }
+        return jobOffer;
+    }
+}
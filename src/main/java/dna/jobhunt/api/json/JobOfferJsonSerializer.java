@@ -0,0 +1,44 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link JobOfferDetailsDTO} and {@link JobOfferDTO} with the same properties as bean serializer,
+ * without reflection and with category and dates written by {@link DtoValueCodec}.
+ */
+public class JobOfferJsonSerializer extends StdSerializer<JobOfferDetailsDTO> {
+
+    private final DtoValueCodec valueCodec;
+
+    public JobOfferJsonSerializer(final DtoValueCodec valueCodec) {
+        super(JobOfferDetailsDTO.class);
+        this.valueCodec = valueCodec;
+    }
+
+    @Override
+    public void serialize(final JobOfferDetailsDTO jobOffer, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        generator.writeStartObject(jobOffer);
+        generator.writeFieldName("category");
+        valueCodec.writeCategory(jobOffer.getCategory(), generator);
+        generator.writeFieldName("startDate");
+        valueCodec.writeDate(jobOffer.getStartDate(), generator);
+        generator.writeFieldName("endDate");
+        valueCodec.writeDate(jobOffer.getEndDate(), generator);
+        generator.writeStringField("employer", jobOffer.getEmployer());
+        if (jobOffer instanceof JobOfferDTO) {
+            final var id = ((JobOfferDTO) jobOffer).getId();
+            if (id != null) {
+                generator.writeNumberField("id", id);
+            } else {
+                generator.writeNullField("id");
+            }
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,63 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads values of DTO fields from the current token of the parser.
+ * Common tokens are read directly, other tokens are passed to {@link DeserializationContext},
+ * so coercions and error messages stay the same as with bean deserializers.
+ */
+final class JsonValues {
+
+    private JsonValues() {
+    }
+
+    static String readString(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, String.class);
+    }
+
+    static Integer readInteger(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, Integer.class);
+    }
+
+    static <E extends Enum<E>> E readEnum(final JsonParser parser, final DeserializationContext context, final Class<E> type,
+                                          final Map<String, E> constants) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            final var constant = constants.get(parser.getText());
+            if (constant != null) {
+                return constant;
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, type);
+    }
+
+    static <E extends Enum<E>> Map<String, E> constants(final Class<E> type) {
+        return Stream.of(type.getEnumConstants()).collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+    }
+}
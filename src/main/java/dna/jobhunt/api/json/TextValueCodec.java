@@ -0,0 +1,95 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import dna.jobhunt.domain.Category;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Writes categories by name and dates in the patterns of {@link EpochDayDateFormatter}, as declared on the DTOs.
+ */
+public class TextValueCodec implements DtoValueCodec {
+
+    private static final Map<String, Category> CATEGORIES = JsonValues.constants(Category.class);
+
+    private final EpochDayDateFormatter dateFormatter = new EpochDayDateFormatter();
+
+    @Override
+    public void writeCategory(final Category category, final JsonGenerator generator) throws IOException {
+        if (category != null) {
+            generator.writeString(category.name());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public void writeDate(final LocalDate date, final JsonGenerator generator) throws IOException {
+        if (date != null) {
+            generator.writeString(dateFormatter.format(date));
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public void writeDateTime(final LocalDateTime dateTime, final JsonGenerator generator) throws IOException {
+        if (dateTime != null) {
+            generator.writeString(dateFormatter.format(dateTime));
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public Category readCategory(final JsonParser parser, final DeserializationContext context) throws IOException {
+        return JsonValues.readEnum(parser, context, Category.class, CATEGORIES);
+    }
+
+    @Override
+    public LocalDate readDate(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return (LocalDate) context.handleUnexpectedToken(LocalDate.class, parser);
+        }
+        final var text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return dateFormatter.parseDate(text);
+        } catch (DateTimeException e) {
+            return (LocalDate) context.handleWeirdStringValue(LocalDate.class, text, "Failed to deserialize java.time.LocalDate: %s", e.getMessage());
+        }
+    }
+
+    @Override
+    public LocalDateTime readDateTime(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+        }
+        final var text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return dateFormatter.parseDateTime(text);
+        } catch (DateTimeException e) {
+            return (LocalDateTime) context.handleWeirdStringValue(LocalDateTime.class, text, "Failed to deserialize java.time.LocalDateTime: %s", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Reads {@link UserDetailsDTO} or {@link UserDTO} without reflection, with creation date read by {@link DtoValueCodec}.
+ * Unknown properties are handled by {@link DeserializationContext}, so they are ignored or rejected as configured.
+ *
+ * @param <T> type of read user.
+ */
+public class UserJsonDeserializer<T extends UserDetailsDTO> extends StdDeserializer<T> {
+
+    private final Supplier<T> factory;
+    private final DtoValueCodec valueCodec;
+
+    public UserJsonDeserializer(final Class<T> type, final Supplier<T> factory, final DtoValueCodec valueCodec) {
+        super(type);
+        this.factory = factory;
+        this.valueCodec = valueCodec;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final String firstField;
+        if (parser.isExpectedStartObjectToken()) {
+            firstField = parser.nextFieldName();
+        } else if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            firstField = parser.currentName();
+        } else {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+        final var user = factory.get();
+        for (var field = firstField; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (field.equals("username")) {
+                user.setUsername(JsonValues.readString(parser, context));
+            } else if (field.equals("password")) {
+                user.setPassword(JsonValues.readString(parser, context));
+            } else if (field.equals("id") && user instanceof UserDTO) {
+                ((UserDTO) user).setId(JsonValues.readInteger(parser, context));
+            } else if (field.equals("creationDate") && user instanceof UserDTO) {
+                ((UserDTO) user).setCreationDate(valueCodec.readDateTime(parser, context));
+            } else {
+                context.handleUnknownProperty(parser, this, user, field);
+            }
+        }
+        return user;
+    }
+}
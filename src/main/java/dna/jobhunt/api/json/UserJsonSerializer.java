@@ -0,0 +1,41 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link UserDetailsDTO} and {@link UserDTO} with the same properties as bean serializer,
+ * without reflection and with creation date written by {@link DtoValueCodec}.
+ */
+public class UserJsonSerializer extends StdSerializer<UserDetailsDTO> {
+
+    private final DtoValueCodec valueCodec;
+
+    public UserJsonSerializer(final DtoValueCodec valueCodec) {
+        super(UserDetailsDTO.class);
+        this.valueCodec = valueCodec;
+    }
+
+    @Override
+    public void serialize(final UserDetailsDTO user, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        generator.writeStartObject(user);
+        generator.writeStringField("username", user.getUsername());
+        generator.writeStringField("password", user.getPassword());
+        if (user instanceof UserDTO) {
+            final var userDTO = (UserDTO) user;
+            if (userDTO.getId() != null) {
+                generator.writeNumberField("id", userDTO.getId());
+            } else {
+                generator.writeNullField("id");
+            }
+            generator.writeFieldName("creationDate");
+            valueCodec.writeDateTime(userDTO.getCreationDate(), generator);
+        }
+        generator.writeEndObject();
+    }
+}
@@ -17,5 +17,8 @@ public interface JobOfferMapper {
     @Mapping(source = "employer.username", target = "employer")
     JobOfferDTO toJobOfferDTO(JobOffer jobOffer);
 
+    @Mapping(source = "employer", target = "employer")
+    JobOfferDTO toJobOfferDTO(JobOffer jobOffer, String employer);
+
     List<JobOfferDTO> toJobOfferDTOs(List<JobOffer> jobOffers);
 }
@@ -3,6 +3,7 @@ package dna.jobhunt.api.mapper;
 import dna.jobhunt.api.dto.UserDTO;
 import dna.jobhunt.api.dto.UserDetailsDTO;
 import dna.jobhunt.domain.User;
+import dna.jobhunt.domain.UserRecord;
 import org.mapstruct.Mapper;
 
 import java.util.List;
@@ -12,4 +13,5 @@ public interface UserMapper {
     User toUser(UserDetailsDTO userDetailsDTO);
     UserDTO toUserDTO(User user);
     List<UserDTO> toUserDTOList(List<User> users);
+    UserDTO toUserDTO(UserRecord userRecord);
 }
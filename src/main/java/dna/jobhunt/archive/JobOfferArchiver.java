@@ -0,0 +1,159 @@
+package dna.jobhunt.archive;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.event.JobOffersArchivedEvent;
+import dna.jobhunt.repository.JobOfferArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Moves job offers which expired before today from job_offer table to job_offer_archive table,
+ * so the table and indexes queried by online traffic only hold job offers which can still be valid.
+ * Job offers are moved in batches ordered by id, every batch in its own short transaction.
+ * Between batches the archiver sleeps, so that it spends at most {@code jobhunt.archival.duty-cycle} of its run time
+ * in transactions and does not hold locks and connections needed by online requests.
+ * Runs are handed over to the archiver's own thread, so the pauses do not hold the single thread of the application scheduler
+ * and other scheduled tasks, like replica lag checks, feed heartbeats and the snapshot rollover, keep running.
+ * Every archived batch is published as {@link JobOffersArchivedEvent} and counted in {@value #ARCHIVED_METRIC} counter.
+ */
+@Component
+@Slf4j
+public class JobOfferArchiver {
+
+    static final String ARCHIVED_METRIC = "jobhunt.job-offers.archived";
+
+    private final JobOfferArchiveRepository jobOfferArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Counter archivedJobOffers;
+    private final boolean enabled;
+    private final int batchSize;
+    private final double dutyCycle;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "job-offer-archiver"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public JobOfferArchiver(final JobOfferArchiveRepository jobOfferArchiveRepository,
+                            final TransactionTemplate transactionTemplate,
+                            final ApplicationEventPublisher eventPublisher,
+                            final Clock clock,
+                            final MeterRegistry meterRegistry,
+                            @Value("${jobhunt.archival.enabled:true}") final boolean enabled,
+                            @Value("${jobhunt.archival.batch-size:500}") final int batchSize,
+                            @Value("${jobhunt.archival.duty-cycle:0.2}") final double dutyCycle) {
+        if (dutyCycle <= 0 || dutyCycle > 1) {
+            throw new IllegalArgumentException("Archival duty cycle must be greater than 0 and at most 1, was " + dutyCycle);
+        }
+        this.jobOfferArchiveRepository = jobOfferArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.dutyCycle = dutyCycle;
+        this.archivedJobOffers = Counter.builder(ARCHIVED_METRIC)
+                .description("Expired job offers moved to the archive")
+                .baseUnit("job-offers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts archival of all job offers which expired before today on the archiver thread,
+     * unless the previous run is still in progress.
+     */
+    @Scheduled(initialDelayString = "${jobhunt.archival.initial-delay:PT1M}", fixedDelayString = "${jobhunt.archival.interval:PT1H}")
+    public void archive() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                archive(LocalDate.now(clock));
+            } catch (RuntimeException e) {
+                log.error("Job offer archival failed.", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Stops running archival.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * It archives job offers which expired before given date.
+     *
+     * @param cutoffDate job offers which ended before this date are archived.
+     *
+     * @return number of archived job offers.
+     */
+    public int archive(final LocalDate cutoffDate) {
+        log.info("Archiving job offers which expired before {}.", cutoffDate);
+        var archived = 0;
+        List<JobOfferDTO> batch;
+        do {
+            final var start = System.nanoTime();
+            batch = transactionTemplate.execute(status -> archiveBatch(cutoffDate));
+            if (batch.isEmpty()) {
+                break;
+            }
+            archived += batch.size();
+            archivedJobOffers.increment(batch.size());
+            eventPublisher.publishEvent(new JobOffersArchivedEvent(batch));
+            if (!pause(System.nanoTime() - start)) {
+                break;
+            }
+        } while (batch.size() == batchSize);
+        log.info("Archived {} job offers.", archived);
+        return archived;
+    }
+
+    private List<JobOfferDTO> archiveBatch(final LocalDate cutoffDate) {
+        final var jobOffers = jobOfferArchiveRepository.findExpiredJobOffers(cutoffDate, PageRequest.of(0, batchSize));
+        if (jobOffers.isEmpty()) {
+            return jobOffers;
+        }
+        final var ids = jobOffers.stream().map(JobOfferDTO::getId).collect(Collectors.toList());
+        jobOfferArchiveRepository.copyToArchive(ids);
+        jobOfferArchiveRepository.deleteJobOffers(ids);
+        log.debug("Archived batch of {} job offers.", ids.size());
+        return jobOffers;
+    }
+
+    private boolean pause(final long batchNanos) {
+        final var pauseNanos = (long) (batchNanos * (1 - dutyCycle) / dutyCycle);
+        if (pauseNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Job offer archival was interrupted.");
+            return false;
+        }
+    }
+}
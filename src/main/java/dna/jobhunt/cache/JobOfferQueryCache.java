@@ -0,0 +1,172 @@
+package dna.jobhunt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.datasource.ReadYourWrites;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.event.JobOffersArchivedEvent;
+import dna.jobhunt.event.JobOffersImportedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of valid job offers keyed by sets of categories and employers and date.
+ * Entries are weighted by the number of job offers they hold. Writes invalidate only the entries
+ * whose result could have changed, other entries stay cached. Entries are loaded from the primary database,
+ * as a result read from a lagging replica right after an invalidation would stay cached until the next write.
+ * Only writes of this application instance invalidate entries, so entries also expire after {@code expireAfterWrite}
+ * to bound how long writes of other instances stay invisible.
+ * Hit, miss and eviction counts are published as {@value #CACHE_NAME} cache metrics.
+ */
+@Component
+@Slf4j
+public class JobOfferQueryCache {
+
+    static final String CACHE_NAME = "jobOfferQueries";
+
+    private final Cache<Key, List<JobOfferDTO>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobOfferQueryCache(final MeterRegistry meterRegistry,
+                              @Value("${jobhunt.job-offer-cache.maximum-weight:100000}") final long maximumWeight,
+                              @Value("${jobhunt.job-offer-cache.expire-after-write:30s}") final Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .expireAfterWrite(expireAfterWrite)
+                .weigher((Key key, List<JobOfferDTO> jobOffers) -> jobOffers.size() + 1)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * It gets cached job offers or loads them from the primary database and caches them.
+     * Result loaded while an invalidation happened is returned but not kept in the cache.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid.
+     * @param loader loader of job offers on cache miss.
+     *
+     * @return unmodifiable list of valid job offers.
+     */
+    public List<JobOfferDTO> get(final Collection<Category> categories, final Collection<String> employers, final LocalDate date,
+                                 final Supplier<? extends List<JobOfferDTO>> loader) {
+        final var key = new Key(Set.copyOf(categories), Set.copyOf(employers), date);
+        final var cachedJobOffers = cache.getIfPresent(key);
+        if (cachedJobOffers != null) {
+            return cachedJobOffers;
+        }
+        final var loadedGeneration = generation.get();
+        final var jobOffers = List.copyOf(ReadYourWrites.onPrimary(loader));
+        cache.put(key, jobOffers);
+        if (generation.get() != loadedGeneration) {
+            cache.asMap().remove(key, jobOffers);
+        }
+        return jobOffers;
+    }
+
+    /**
+     * It invalidates entries which can contain created job offer.
+     *
+     * @param event job offer creation event.
+     */
+    @EventListener
+    public void onJobOfferCreated(final JobOfferCreatedEvent event) {
+        invalidate(key -> key.matches(event.getJobOffer()), jobOffers -> false);
+    }
+
+    /**
+     * It invalidates entries which can contain any of imported job offers.
+     *
+     * @param event job offer import event.
+     */
+    @EventListener
+    public void onJobOffersImported(final JobOffersImportedEvent event) {
+        invalidate(key -> event.getJobOffers().stream().anyMatch(key::matches), jobOffers -> false);
+    }
+
+    /**
+     * It invalidates entries which can contain any of archived job offers, as they are no longer returned for past dates.
+     *
+     * @param event job offer archival event.
+     */
+    @EventListener
+    public void onJobOffersArchived(final JobOffersArchivedEvent event) {
+        invalidate(key -> event.getJobOffers().stream().anyMatch(key::matches), jobOffers -> false);
+    }
+
+    /**
+     * It invalidates entries of both usernames and entries holding job offers of renamed user.
+     *
+     * @param event user rename event.
+     */
+    @EventListener
+    public void onUserRenamed(final UserRenamedEvent event) {
+        invalidateEmployer(event.getOldUsername());
+        invalidateEmployer(event.getNewUsername());
+    }
+
+    /**
+     * It invalidates entries of deleted user and entries holding its job offers.
+     *
+     * @param event user deletion event.
+     */
+    @EventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        invalidateEmployer(event.getUsername());
+    }
+
+    private void invalidateEmployer(final String username) {
+        if (username != null) {
+            invalidate(key -> key.employers.contains(username),
+                    jobOffers -> jobOffers.stream().anyMatch(jobOffer -> username.equals(jobOffer.getEmployer())));
+        }
+    }
+
+    private void invalidate(final Predicate<Key> keyPredicate, final Predicate<List<JobOfferDTO>> valuePredicate) {
+        generation.incrementAndGet();
+        final var invalidated = cache.asMap()
+                .entrySet()
+                .removeIf(entry -> keyPredicate.test(entry.getKey()) || valuePredicate.test(entry.getValue()));
+        if (invalidated) {
+            log.debug("Invalidated cached job offer queries.");
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    @ToString
+    private static final class Key {
+        private final Set<Category> categories;
+        private final Set<String> employers;
+        private final LocalDate date;
+
+        private boolean matches(final JobOfferDTO jobOffer) {
+            return (categories.isEmpty() || categories.contains(jobOffer.getCategory()))
+                    && (employers.isEmpty() || jobOffer.getEmployer() != null && employers.contains(jobOffer.getEmployer()))
+                    && !date.isBefore(jobOffer.getStartDate())
+                    && !date.isAfter(jobOffer.getEndDate());
+        }
+    }
+}
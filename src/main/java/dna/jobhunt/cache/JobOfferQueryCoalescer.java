@@ -0,0 +1,193 @@
+package dna.jobhunt.cache;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.datasource.ReadYourWrites;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.event.JobOffersArchivedEvent;
+import dna.jobhunt.event.JobOffersImportedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical valid job offer queries share a single execution (single-flight).
+ * The first caller with given categories, employers and date runs the query, callers which come while it runs
+ * wait for its result. Nothing is kept after the query completes, so unlike {@link JobOfferQueryCache} a result
+ * is never older than the query which produced it. Every write detaches running queries, so callers which come
+ * after the write start a new query. Callers reading from the primary database do not share queries with other callers.
+ * Number of calls served by every execution is published as {@value #COALESCED_METRIC} distribution summary.
+ */
+@Component
+@Slf4j
+public class JobOfferQueryCoalescer {
+
+    static final String COALESCED_METRIC = "jobhunt.job-offers.query.coalesced";
+
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final DistributionSummary coalescedCalls;
+
+    public JobOfferQueryCoalescer(final MeterRegistry meterRegistry) {
+        this.coalescedCalls = DistributionSummary.builder(COALESCED_METRIC)
+                .description("Valid job offer query calls served by a single query execution")
+                .baseUnit("calls")
+                .register(meterRegistry);
+    }
+
+    /**
+     * It runs the query or waits for identical query which is already running.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid.
+     * @param query query of job offers.
+     *
+     * @return unmodifiable list of valid job offers.
+     */
+    public List<JobOfferDTO> get(final Collection<Category> categories, final Collection<String> employers, final LocalDate date,
+                                 final Supplier<? extends List<JobOfferDTO>> query) {
+        final var key = new Key(Set.copyOf(categories), Set.copyOf(employers), date, ReadYourWrites.isPrimaryRequired());
+        while (true) {
+            final var flight = new Flight();
+            final var runningFlight = flights.putIfAbsent(key, flight);
+            if (runningFlight == null) {
+                return run(key, flight, query);
+            }
+            if (runningFlight.join()) {
+                log.debug("Waiting for running query of job offers {}.", key);
+                return runningFlight.await();
+            }
+        }
+    }
+
+    /**
+     * It detaches queries running while job offer was created.
+     *
+     * @param event job offer creation event.
+     */
+    @EventListener
+    public void onJobOfferCreated(final JobOfferCreatedEvent event) {
+        detachAll();
+    }
+
+    /**
+     * It detaches queries running while job offers were imported.
+     *
+     * @param event job offer import event.
+     */
+    @EventListener
+    public void onJobOffersImported(final JobOffersImportedEvent event) {
+        detachAll();
+    }
+
+    /**
+     * It detaches queries running while job offers were archived.
+     *
+     * @param event job offer archival event.
+     */
+    @EventListener
+    public void onJobOffersArchived(final JobOffersArchivedEvent event) {
+        detachAll();
+    }
+
+    /**
+     * It detaches queries running while user was renamed.
+     *
+     * @param event user rename event.
+     */
+    @EventListener
+    public void onUserRenamed(final UserRenamedEvent event) {
+        detachAll();
+    }
+
+    /**
+     * It detaches queries running while user was deleted.
+     *
+     * @param event user deletion event.
+     */
+    @EventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        detachAll();
+    }
+
+    private List<JobOfferDTO> run(final Key key, final Flight flight, final Supplier<? extends List<JobOfferDTO>> query) {
+        try {
+            final var jobOffers = List.copyOf(query.get());
+            flight.result.complete(jobOffers);
+            return jobOffers;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+            coalescedCalls.record(flight.land());
+        }
+    }
+
+    private void detachAll() {
+        flights.clear();
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<List<JobOfferDTO>> result = new CompletableFuture<>();
+        private final AtomicInteger calls = new AtomicInteger(1);
+
+        private boolean join() {
+            int current;
+            do {
+                current = calls.get();
+                if (current < 0) {
+                    return false;
+                }
+            } while (!calls.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private int land() {
+            return calls.getAndSet(-1);
+        }
+
+        private List<JobOfferDTO> await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    @ToString
+    private static final class Key {
+        private final Set<Category> categories;
+        private final Set<String> employers;
+        private final LocalDate date;
+        private final boolean primary;
+    }
+}
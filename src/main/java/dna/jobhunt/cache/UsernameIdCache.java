@@ -0,0 +1,96 @@
+package dna.jobhunt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dna.jobhunt.datasource.ReadYourWrites;
+import dna.jobhunt.event.UserCreatedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of user ids by username.
+ * Unknown usernames are cached as empty entries, so repeated lookups of missing employers do not query the database.
+ * Entries of created, renamed and deleted users are invalidated by user events. Ids are loaded from the primary database,
+ * so a replica which did not catch up with a change yet cannot put a stale entry back after the invalidation. Loading is atomic per username
+ * and invalidation of a username waits for its running load, so a load which raced with a change is never kept.
+ * Hit, miss and eviction counts are published as {@value #CACHE_NAME} cache metrics.
+ */
+@Component
+@Slf4j
+public class UsernameIdCache {
+
+    static final String CACHE_NAME = "usernameIds";
+
+    private final Cache<String, Optional<Integer>> cache;
+
+    public UsernameIdCache(final MeterRegistry meterRegistry,
+                           @Value("${jobhunt.username-cache.maximum-size:10000}") final long maximumSize,
+                           @Value("${jobhunt.username-cache.expire-after-write:10m}") final Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * It gets cached id of user with given username or loads it from the primary database and caches it.
+     *
+     * @param username username of user.
+     * @param loader loader of user id on cache miss.
+     *
+     * @return id of user or empty optional when the user does not exist.
+     */
+    public Optional<Integer> get(final String username, final Function<String, Optional<Integer>> loader) {
+        return cache.get(username, key -> ReadYourWrites.onPrimary(() -> loader.apply(key)));
+    }
+
+    /**
+     * It invalidates entry of created user, which may be cached as unknown.
+     *
+     * @param event user creation event.
+     */
+    @EventListener
+    public void onUserCreated(final UserCreatedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    /**
+     * It invalidates entries of both usernames.
+     *
+     * @param event user rename event.
+     */
+    @EventListener
+    public void onUserRenamed(final UserRenamedEvent event) {
+        invalidate(event.getOldUsername());
+        invalidate(event.getNewUsername());
+    }
+
+    /**
+     * It invalidates entry of deleted user.
+     *
+     * @param event user deletion event.
+     */
+    @EventListener
+    public void onUserDeleted(final UserDeletedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    private void invalidate(final String username) {
+        if (username != null) {
+            log.debug("Invalidating cached id of user {}.", username);
+            cache.invalidate(username);
+        }
+    }
+}
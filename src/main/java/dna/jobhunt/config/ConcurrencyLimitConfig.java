@@ -0,0 +1,51 @@
+package dna.jobhunt.config;
+
+import dna.jobhunt.limit.ConcurrencyLimitFilter;
+import dna.jobhunt.limit.ConcurrencyLimiter;
+import dna.jobhunt.limit.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Limits concurrent requests to job offer and user APIs with adaptive {@link ConcurrencyLimiter}
+ * configured with {@code jobhunt.concurrency-limit.*} properties.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "jobhunt.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(@Value("${jobhunt.concurrency-limit.initial-limit:100}") final int initialLimit,
+                                                 @Value("${jobhunt.concurrency-limit.min-limit:10}") final int minLimit,
+                                                 @Value("${jobhunt.concurrency-limit.max-limit:1000}") final int maxLimit,
+                                                 @Value("${jobhunt.concurrency-limit.smoothing:0.2}") final double smoothing,
+                                                 @Value("${jobhunt.concurrency-limit.tolerance:1.5}") final double tolerance,
+                                                 @Value("${jobhunt.concurrency-limit.long-window:600}") final int longWindow,
+                                                 @Value("${jobhunt.concurrency-limit.read-share:0.8}") final double readShare,
+                                                 @Value("${jobhunt.concurrency-limit.bulk-share:0.5}") final double bulkShare,
+                                                 final MeterRegistry meterRegistry) {
+        final var limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow);
+        return new ConcurrencyLimiter(limit, readShare, bulkShare, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(final ConcurrencyLimiter concurrencyLimiter,
+                                                                                @Value("${jobhunt.concurrency-limit.retry-after:PT1S}") final Duration retryAfter,
+                                                                                @Value("${jobhunt.concurrency-limit.excluded-paths:}") final Set<String> excludedPaths,
+                                                                                @Value("${jobhunt.concurrency-limit.bulk-paths:}") final Set<String> bulkPaths) {
+        final var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimiter, retryAfter, excludedPaths, bulkPaths));
+        registration.addUrlPatterns("/api/job-offers", "/api/job-offers/*", "/api/users", "/api/users/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,67 @@
+package dna.jobhunt.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+import javax.servlet.Filter;
+import java.lang.reflect.Method;
+
+/**
+ * Fast startup profile. Beans are initialized lazily, except controllers, services (with repositories and mappers
+ * they depend on) and servlet filters, so the first request does not pay for initialization of the request path.
+ * Beans with {@link Scheduled} or {@link EventListener} methods are initialized eagerly as well, because nothing may depend on them
+ * and, created lazily, they would never run.
+ * With {@code jobhunt.startup.training-run=true} the application exits once it is ready,
+ * which is used by the {@code cdsArchive} build task to dump the class data sharing archive.
+ */
+@Configuration
+@Profile("fast-startup")
+@Slf4j
+public class FastStartupConfig {
+
+    private final boolean trainingRun;
+
+    public FastStartupConfig(@Value("${jobhunt.startup.training-run:false}") final boolean trainingRun) {
+        this.trainingRun = trainingRun;
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> Filter.class.isAssignableFrom(beanType)
+                || AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || AnnotatedElementUtils.hasAnnotation(beanType, Service.class)
+                || hasScheduledOrListenerMethods(beanType);
+    }
+
+    static boolean hasScheduledOrListenerMethods(final Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) method -> isScheduledOrListener(method) ? Boolean.TRUE : null)
+                .isEmpty();
+    }
+
+    private static boolean isScheduledOrListener(final Method method) {
+        return AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                || AnnotatedElementUtils.hasAnnotation(method, Schedules.class)
+                || AnnotatedElementUtils.hasAnnotation(method, EventListener.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitAfterTrainingRun(final ApplicationReadyEvent event) {
+        if (trainingRun) {
+            log.info("Training run finished, exiting.");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
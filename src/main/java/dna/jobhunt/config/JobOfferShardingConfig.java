@@ -0,0 +1,74 @@
+package dna.jobhunt.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dna.jobhunt.cache.UsernameIdCache;
+import dna.jobhunt.repository.JobOfferStorage;
+import dna.jobhunt.repository.UserRepository;
+import dna.jobhunt.repository.shard.JobOfferShardRouter;
+import dna.jobhunt.repository.shard.JobOfferShards;
+import dna.jobhunt.repository.shard.ShardedJobOfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores job offers in shards given by {@code jobhunt.sharding.urls} instead of the job offer table of the primary database.
+ * Job offers are distributed by {@link JobOfferShardRouter.Strategy} set in {@code jobhunt.sharding.strategy}
+ * and {@link ShardedJobOfferRepository} is the primary {@link JobOfferStorage} injected into services.
+ * Users stay in the primary database.
+ * Sharded job offers are not archived, so sharding refuses to start unless archival is turned off with
+ * {@code jobhunt.archival.enabled=false}, which acknowledges that shards keep expired job offers.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "jobhunt.sharding.urls")
+public class JobOfferShardingConfig {
+
+    @Bean
+    public JobOfferShards jobOfferShards(@Value("${jobhunt.sharding.urls}") final List<String> urls,
+                                         @Value("${jobhunt.sharding.username:sa}") final String username,
+                                         @Value("${jobhunt.sharding.password:}") final String password,
+                                         @Value("${jobhunt.sharding.maximum-pool-size:10}") final int maximumPoolSize,
+                                         @Value("${jobhunt.archival.enabled:true}") final boolean archivalEnabled) {
+        if (archivalEnabled) {
+            throw new IllegalStateException("Sharded job offers are not archived, set jobhunt.archival.enabled=false to enable sharding.");
+        }
+        final var dataSources = new ArrayList<HikariDataSource>(urls.size());
+        for (final var url : urls) {
+            final var dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            dataSource.setPoolName("job-offer-shard-" + dataSources.size());
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSources.add(dataSource);
+        }
+        return new JobOfferShards(dataSources);
+    }
+
+    @Bean
+    public JobOfferShardRouter jobOfferShardRouter(@Value("${jobhunt.sharding.strategy:CATEGORY}") final JobOfferShardRouter.Strategy strategy,
+                                                   final JobOfferShards jobOfferShards) {
+        return new JobOfferShardRouter(strategy, jobOfferShards.size());
+    }
+
+    @Bean
+    @Primary
+    public ShardedJobOfferRepository shardedJobOfferRepository(final JobOfferShards jobOfferShards,
+                                                               final JobOfferShardRouter jobOfferShardRouter,
+                                                               final EntityManagerFactory entityManagerFactory,
+                                                               final UserRepository userRepository,
+                                                               final UsernameIdCache usernameIdCache) {
+        return new ShardedJobOfferRepository(jobOfferShards, jobOfferShardRouter, entityManagerFactory, userRepository, usernameIdCache);
+    }
+}
@@ -0,0 +1,44 @@
+package dna.jobhunt.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dna.jobhunt.api.converter.ProtobufDtoHttpMessageConverter;
+import dna.jobhunt.api.json.DtoJsonModule;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds binary CBOR, Smile and Protobuf representations of API DTOs, negotiated by {@code Accept} and {@code Content-Type} headers.
+ * They are added after JSON converter, so JSON stays the default. CBOR and Smile use {@link DtoJsonModule#binary()} codecs.
+ */
+@Configuration
+@Profile("!reactive")
+public class MessageConvertersConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(Jackson2ObjectMapperBuilder.cbor())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(Jackson2ObjectMapperBuilder.smile())));
+        converters.add(new ProtobufDtoHttpMessageConverter());
+    }
+
+    /**
+     * @param builder builder of CBOR or Smile object mapper.
+     *
+     * @return object mapper writing DTOs with {@link DtoJsonModule#binary()} codecs.
+     */
+    public static ObjectMapper binaryObjectMapper(final Jackson2ObjectMapperBuilder builder) {
+        return builder.featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .modulesToInstall(DtoJsonModule.binary())
+                .build();
+    }
+}
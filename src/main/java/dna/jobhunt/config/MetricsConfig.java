@@ -0,0 +1,79 @@
+package dna.jobhunt.config;
+
+import dna.jobhunt.metrics.InvocationMetricsInterceptor;
+import dna.jobhunt.metrics.SqlCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Instruments repositories and MapStruct mappers.
+ * Spring Boot already times repository calls as {@code spring.data.repository.invocations},
+ * so repositories only get result size distribution {@value #REPOSITORY_METRIC}.results.
+ * Mappers get {@value #MAPPER_METRIC} timer and result size distribution.
+ * Data sources are wrapped in {@link SqlCountingDataSource}, so SQL statements can be counted per request.
+ * Data sources delegating to other data sources, like the read replica routing, are not wrapped,
+ * because their statements are already counted by wrapped target data sources.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String REPOSITORY_METRIC = "jobhunt.repository";
+    static final String MAPPER_METRIC = "jobhunt.mapper";
+    private static final String MAPPER_PACKAGE = "dna.jobhunt.api.mapper";
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsBeanPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(repositoryFactory ->
+                            repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new InvocationMetricsInterceptor(meterRegistry.getObject(), REPOSITORY_METRIC,
+                                            Tags.of("repository", repositoryInformation.getRepositoryInterface().getSimpleName()), false))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor mapperMetricsBeanPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                final var interfaces = bean.getClass().getInterfaces();
+                if (interfaces.length != 1 || !interfaces[0].getPackageName().equals(MAPPER_PACKAGE)) {
+                    return bean;
+                }
+                final var proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvice(new InvocationMetricsInterceptor(meterRegistry.getObject(), MAPPER_METRIC,
+                        Tags.of("mapper", interfaces[0].getSimpleName()), true));
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourceBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof DelegatingDataSource) && !(bean instanceof AbstractRoutingDataSource)) {
+                    return new SqlCountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package dna.jobhunt.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dna.jobhunt.datasource.ReadReplicaRoutingDataSource;
+import dna.jobhunt.datasource.ReadYourWritesFilter;
+import dna.jobhunt.datasource.ReplicaLagMonitor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a read replica configured with {@code jobhunt.datasource.replica.*} properties
+ * and everything else to the primary database configured with {@code spring.datasource.*} properties.
+ * Reads go to the primary while the replica lags more than {@code jobhunt.datasource.replica.max-lag}
+ * and, for the same time, after the client wrote.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "jobhunt.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("jobhunt.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${jobhunt.datasource.replica.url}") final String url,
+                                              @Value("${jobhunt.datasource.replica.username:sa}") final String username,
+                                              @Value("${jobhunt.datasource.replica.password:}") final String password) {
+        final var dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                               @Value("${jobhunt.datasource.replica.lag-query:}") final String lagQuery,
+                                               @Value("${jobhunt.datasource.replica.max-lag:PT1S}") final Duration maxLag) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                 final ReplicaLagMonitor replicaLagMonitor) {
+        return ReadReplicaRoutingDataSource.lazy(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(final ReplicaLagMonitor replicaLagMonitor) {
+        final var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(replicaLagMonitor));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
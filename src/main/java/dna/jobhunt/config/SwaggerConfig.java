@@ -1,23 +1,72 @@
 package dna.jobhunt.config;
 
+import io.swagger.annotations.Api;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.WebMvcRequestHandlerProvider;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Springfox documentation served at {@code /v2/api-docs}. It is used in development and by build time
+ * OpenAPI generation, production profile turns it off with {@code jobhunt.springfox.enabled=false}
+ * and serves the generated {@code /openapi.json} instead.
+ */
 @Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "jobhunt.springfox.enabled", havingValue = "true", matchIfMissing = true)
 @EnableSwagger2
 public class SwaggerConfig {
 
+    /**
+     * Only API controllers are documented, so actuator and error handlers are skipped.
+     */
     @Bean
     public Docket docket() {
         return new Docket(DocumentationType.SWAGGER_2)
                 .select()
-                .apis(RequestHandlerSelectors.any())
+                .apis(RequestHandlerSelectors.withClassAnnotation(Api.class))
                 .paths(PathSelectors.any())
                 .build();
     }
+
+    /**
+     * Springfox reads only ant path patterns, so handler mappings using parsed path patterns
+     * (actuator endpoints) are hidden from it.
+     */
+    @Bean
+    public static BeanPostProcessor springfoxHandlerProviderBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof WebMvcRequestHandlerProvider) {
+                    final var handlerMappings = (List<RequestMappingInfoHandlerMapping>) getField(bean, "handlerMappings");
+                    final var antPathMappings = handlerMappings.stream()
+                            .filter(mapping -> mapping.getPatternParser() == null)
+                            .collect(Collectors.toList());
+                    handlerMappings.clear();
+                    handlerMappings.addAll(antPathMappings);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Object getField(final Object bean, final String name) {
+        final var field = ReflectionUtils.findField(bean.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        return ReflectionUtils.getField(field, bean);
+    }
 }
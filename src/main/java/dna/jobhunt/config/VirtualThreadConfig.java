@@ -0,0 +1,61 @@
+package dna.jobhunt.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and application async work (streamed responses) on virtual threads,
+ * so requests blocked on repository calls do not hold platform threads.
+ * Concurrency is then limited by Tomcat max connections and by the connection pool,
+ * which is logged at startup because it becomes the point where requests queue.
+ */
+@Configuration
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logConnectionPoolSizing(final ApplicationReadyEvent event) {
+        hikariDataSource(event.getApplicationContext().getBean(DataSource.class)).ifPresent(hikariDataSource ->
+                    log.info("Requests run on virtual threads, concurrent database calls are limited to {} pooled connections " +
+                                "and further calls wait up to {} ms for a connection.",
+                        hikariDataSource.getMaximumPoolSize(), hikariDataSource.getConnectionTimeout()));
+    }
+
+    /**
+     * @param dataSource application data source, usually wrapped, for example by {@link dna.jobhunt.metrics.SqlCountingDataSource}.
+     *
+     * @return connection pool behind the data source, empty when it is not Hikari pool.
+     */
+    static Optional<HikariDataSource> hikariDataSource(final DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? Optional.of(dataSource.unwrap(HikariDataSource.class)) : Optional.empty();
+        } catch (SQLException e) {
+            log.warn("Connection pool of data source {} could not be resolved.", dataSource, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dna.jobhunt.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier thread while blocked, for example
+ * inside synchronized blocks of the JDBC driver or connection pool.
+ * Pinned periods longer than the threshold are recorded with JFR, logged with their stack
+ * and counted in {@value #PINNED_METRIC} timer.
+ */
+@Component
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry,
+                                       @Value("${jobhunt.virtual-threads.pinned-threshold:20ms}") final Duration threshold) {
+        this.pinnedTimer = Timer.builder(PINNED_METRIC)
+                .description("Time virtual threads were blocked while pinned to carrier thread")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts recording pinned virtual threads.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Reporting virtual threads pinned for more than {}.", threshold);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    void onPinned(final RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread {} was pinned for {} ms at:\n{}", event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                event.getDuration().toMillis(), formatStackTrace(event));
+    }
+
+    private static String formatStackTrace(final RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\tunknown";
+        }
+        return event.getStackTrace()
+                .getFrames()
+                .stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String formatFrame(final RecordedFrame frame) {
+        return "\t" + frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
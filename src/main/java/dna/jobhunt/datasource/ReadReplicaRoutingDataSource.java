@@ -0,0 +1,49 @@
+package dna.jobhunt.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything else to the primary database.
+ * Reads go to the primary as well when the replica lags more than tolerated by {@link ReplicaLagMonitor}
+ * or when the current thread requires {@link ReadYourWrites}.
+ * The transaction is known to be read-only only after it began, so the data source has to be used through
+ * {@link LazyConnectionDataSourceProxy}, see {@link #lazy(DataSource, DataSource, ReplicaLagMonitor)}.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadReplicaRoutingDataSource(final DataSource primaryDataSource, final DataSource replicaDataSource,
+                                        final ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @return routing data source which obtains connection on the first statement, when the transaction already began.
+     */
+    public static DataSource lazy(final DataSource primaryDataSource, final DataSource replicaDataSource, final ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWrites.isPrimaryRequired()
+                && replicaLagMonitor.isReplicaUsable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,58 @@
+package dna.jobhunt.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread as requiring reads from the primary database,
+ * so a client reads its own writes even when the replica did not catch up yet.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * It routes reads of the current thread to the primary database until {@link #clear()} is called.
+     */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    /**
+     * It lets reads of the current thread go to the replica again.
+     */
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * It runs given read on the primary database and restores the previous routing afterwards.
+     * Reads which fill state shared by all clients, like caches, use it, so they never keep what a lagging replica returned.
+     * Connection already bound to a surrounding transaction is not rerouted.
+     *
+     * @param read read to run.
+     * @param <T> type of the read result.
+     *
+     * @return result of the read.
+     */
+    public static <T> T onPrimary(final Supplier<T> read) {
+        final var primaryRequired = isPrimaryRequired();
+        requirePrimary();
+        try {
+            return read.get();
+        } finally {
+            if (!primaryRequired) {
+                clear();
+            }
+        }
+    }
+
+    /**
+     * @return true when reads of the current thread must go to the primary database.
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,55 @@
+package dna.jobhunt.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Keeps clients which write, for example by adding a job offer or creating a user, reading from the primary database.
+ * Writing request gets {@value #COOKIE_NAME} cookie living as long as the tolerated replica lag and reads of requests
+ * with the cookie, as well as all reads of writing requests, are routed to the primary by {@link ReadYourWrites}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "jobhunt-read-primary";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final int stickinessSeconds;
+
+    public ReadYourWritesFilter(final ReplicaLagMonitor replicaLagMonitor) {
+        this.stickinessSeconds = (int) Math.max(1, (replicaLagMonitor.getMaxLag().toMillis() + 999) / 1000);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        final var writing = !READ_METHODS.contains(request.getMethod());
+        if (writing) {
+            final var cookie = new Cookie(COOKIE_NAME, "1");
+            cookie.setPath("/");
+            cookie.setMaxAge(stickinessSeconds);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+        if (writing || hasCookie(request)) {
+            ReadYourWrites.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static boolean hasCookie(final HttpServletRequest request) {
+        final var cookies = request.getCookies();
+        return cookies != null && Arrays.stream(cookies).anyMatch(cookie -> COOKIE_NAME.equals(cookie.getName()));
+    }
+}
@@ -0,0 +1,69 @@
+package dna.jobhunt.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Periodically measures replication lag of the replica with configured query returning the lag in seconds,
+ * for example {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())} on PostgreSQL.
+ * Replica lagging more than tolerated or failing the query is not used for reads until the next successful check.
+ * Without the query the lag is not measured and the replica is always used.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaLagMonitor(final DataSource replicaDataSource, final String lagQuery, final Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * It measures the replica lag.
+     */
+    @Scheduled(fixedDelayString = "${jobhunt.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+        final var wasUsable = replicaUsable;
+        try {
+            final var lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            replicaUsable = lagSeconds != null && lagSeconds * 1000 <= maxLag.toMillis();
+            if (wasUsable && !replicaUsable) {
+                log.warn("Replica lags {} s, which is more than tolerated {}, reading from primary.", lagSeconds, maxLag);
+            }
+        } catch (RuntimeException e) {
+            replicaUsable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed, reading from primary.", e);
+            }
+        }
+        if (!wasUsable && replicaUsable) {
+            log.info("Replica caught up, reading from replica.");
+        }
+    }
+
+    /**
+     * @return true when the replica lags at most the tolerated time.
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * @return tolerated replica lag.
+     */
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+}
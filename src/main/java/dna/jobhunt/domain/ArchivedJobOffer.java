@@ -0,0 +1,41 @@
+package dna.jobhunt.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+/**
+ * Expired {@link JobOffer} moved to job_offer_archive table, which has the same columns as job_offer table.
+ * Archived job offers keep their ids.
+ */
+@Entity
+@Table(name = "job_offer_archive")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ArchivedJobOffer {
+
+    @Id
+    private Integer id;
+
+    private Category category;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @ManyToOne
+    private User employer;
+}
@@ -12,6 +12,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDate;
 
@@ -25,7 +26,8 @@ import java.time.LocalDate;
 public class JobOffer {
 
     @Id
-    @GeneratedValue(strategy=GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_offer_sequence")
+    @SequenceGenerator(name = "job_offer_sequence", sequenceName = "job_offer_sequence", allocationSize = 50)
     private Integer id;
 
     @NotNull(message = "{category.not.null}")
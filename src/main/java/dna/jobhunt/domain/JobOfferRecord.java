@@ -0,0 +1,37 @@
+package dna.jobhunt.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Row of job_offer table joined with employer username, read by R2DBC repositories.
+ * Category is stored by its ordinal, the same way as JPA stores {@link JobOffer#getCategory()}.
+ */
+@Table("job_offer")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class JobOfferRecord {
+
+    @Id
+    private Integer id;
+
+    private Integer category;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private String employer;
+}
@@ -0,0 +1,34 @@
+package dna.jobhunt.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of user table, read and written by R2DBC repositories.
+ */
+@Table("user")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class UserRecord {
+
+    @Id
+    private Integer id;
+
+    private String username;
+
+    private String password;
+
+    private LocalDateTime creationDate;
+}
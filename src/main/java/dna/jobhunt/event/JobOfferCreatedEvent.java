@@ -0,0 +1,20 @@
+package dna.jobhunt.event;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Published after new {@link dna.jobhunt.domain.JobOffer} was stored.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class JobOfferCreatedEvent {
+
+    /**
+     * Stored job offer.
+     */
+    private final JobOfferDTO jobOffer;
+}
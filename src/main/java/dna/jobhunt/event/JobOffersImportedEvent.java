@@ -0,0 +1,22 @@
+package dna.jobhunt.event;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Published after a batch of imported {@link dna.jobhunt.domain.JobOffer} was stored.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class JobOffersImportedEvent {
+
+    /**
+     * Stored job offers.
+     */
+    private final List<JobOfferDTO> jobOffers;
+}
@@ -0,0 +1,24 @@
+package dna.jobhunt.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Published after new {@link dna.jobhunt.domain.User} was created.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class UserCreatedEvent {
+
+    /**
+     * Id of created user.
+     */
+    private final Integer userId;
+
+    /**
+     * Username of created user.
+     */
+    private final String username;
+}
@@ -0,0 +1,24 @@
+package dna.jobhunt.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Published after existing {@link dna.jobhunt.domain.User} was deleted.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class UserDeletedEvent {
+
+    /**
+     * Id of deleted user.
+     */
+    private final Integer userId;
+
+    /**
+     * Username of deleted user.
+     */
+    private final String username;
+}
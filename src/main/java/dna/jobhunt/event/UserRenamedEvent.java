@@ -0,0 +1,29 @@
+package dna.jobhunt.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Published after username of existing {@link dna.jobhunt.domain.User} was changed.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class UserRenamedEvent {
+
+    /**
+     * Id of renamed user.
+     */
+    private final Integer userId;
+
+    /**
+     * Username before the change.
+     */
+    private final String oldUsername;
+
+    /**
+     * Username after the change.
+     */
+    private final String newUsername;
+}
@@ -7,6 +7,11 @@ import lombok.Getter;
  */
 public class EmployerNotFoundException extends RuntimeException {
 
+    /**
+     * Message returned to api clients.
+     */
+    public static final String EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG = "Employer username must belong to existing user.";
+
     /**
      * missing user username.
      */
@@ -0,0 +1,20 @@
+package dna.jobhunt.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when handling of request executed more SQL statements than allowed.
+ */
+public class SqlStatementBudgetExceededException extends RuntimeException {
+
+    /**
+     * number of executed statements.
+     */
+    @Getter
+    private final int statements;
+
+    public SqlStatementBudgetExceededException(final String request, final int statements, final int budget) {
+        super(String.format("Request %s executed %d SQL statements, budget is %d", request, statements, budget));
+        this.statements = statements;
+    }
+}
@@ -0,0 +1,202 @@
+package dna.jobhunt.feed;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes job offers created by {@link dna.jobhunt.service.JobOfferService#addJobOffer} to subscribers as Server-Sent Events
+ * once the transaction which stored them commits. Subscribers are indexed by category, so a job offer is matched only
+ * against subscribers of its category and subscribers of any category.
+ * Idle subscribers hold no thread, every subscriber has bounded buffer of events which is drained on a virtual thread
+ * when events arrive. Subscriber which lets the buffer fill up is disconnected, so slow consumers do not hold memory,
+ * and it is expected to reconnect. Heartbeat comments are sent periodically, so broken connections are detected.
+ * Connected subscribers are published as {@value #SUBSCRIBERS_METRIC} gauge
+ * and disconnected slow subscribers as {@value #DROPPED_METRIC} counter.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class JobOfferFeed {
+
+    static final String SUBSCRIBERS_METRIC = "jobhunt.job-offers.feed.subscribers";
+    static final String DROPPED_METRIC = "jobhunt.job-offers.feed.dropped";
+    static final String EVENT_NAME = "job-offer";
+    private static final Object HEARTBEAT = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> anyCategorySubscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Category, Set<Subscriber>> categorySubscribers = new EnumMap<>(Category.class);
+    private final Counter droppedSubscribers;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Executor executor;
+
+    @Autowired
+    public JobOfferFeed(final MeterRegistry meterRegistry,
+                        @Value("${jobhunt.job-offer-feed.buffer-size:256}") final int bufferSize,
+                        @Value("${jobhunt.job-offer-feed.timeout:30m}") final Duration timeout) {
+        this(meterRegistry, bufferSize, timeout, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    JobOfferFeed(final MeterRegistry meterRegistry, final int bufferSize, final Duration timeout, final Executor executor) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.executor = executor;
+        for (final var category : Category.values()) {
+            categorySubscribers.put(category, ConcurrentHashMap.newKeySet());
+        }
+        Gauge.builder(SUBSCRIBERS_METRIC, subscribers, Set::size)
+                .description("Connected job offer feed subscribers")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder(DROPPED_METRIC)
+                .description("Job offer feed subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * It subscribes to job offers created from now on.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     *
+     * @return emitter of job offer events.
+     */
+    public SseEmitter subscribe(final Collection<Category> categories, final Collection<String> employers) {
+        return subscribe(categories, employers, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(final Collection<Category> categories, final Collection<String> employers, final SseEmitter emitter) {
+        final var subscriber = new Subscriber(emitter, Set.copyOf(categories), Set.copyOf(employers));
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+        if (subscriber.categories.isEmpty()) {
+            anyCategorySubscribers.add(subscriber);
+        } else {
+            subscriber.categories.forEach(category -> categorySubscribers.get(category).add(subscriber));
+        }
+        log.debug("Subscribed to job offers of categories {} and employers {}, {} subscribers connected.", categories, employers, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * It pushes created job offer to matching subscribers after the transaction commits.
+     *
+     * @param event job offer creation event.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobOfferCreated(final JobOfferCreatedEvent event) {
+        final var jobOffer = event.getJobOffer();
+        anyCategorySubscribers.forEach(subscriber -> subscriber.offer(jobOffer));
+        final var ofCategory = jobOffer.getCategory() != null ? categorySubscribers.get(jobOffer.getCategory()) : Set.<Subscriber>of();
+        ofCategory.forEach(subscriber -> subscriber.offer(jobOffer));
+    }
+
+    /**
+     * It sends heartbeat comment to all subscribers.
+     */
+    @Scheduled(fixedDelayString = "${jobhunt.job-offer-feed.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(HEARTBEAT));
+    }
+
+    private void unsubscribe(final Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            anyCategorySubscribers.remove(subscriber);
+            subscriber.categories.forEach(category -> categorySubscribers.get(category).remove(subscriber));
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Category> categories;
+        private final Set<String> employers;
+        private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(final SseEmitter emitter, final Set<Category> categories, final Set<String> employers) {
+            this.emitter = emitter;
+            this.categories = categories;
+            this.employers = employers;
+        }
+
+        private void offer(final JobOfferDTO jobOffer) {
+            if (employers.isEmpty() || employers.contains(jobOffer.getEmployer())) {
+                enqueue(jobOffer);
+            }
+        }
+
+        private void enqueue(final Object message) {
+            if (!buffer.offer(message)) {
+                log.debug("Disconnecting slow job offer feed subscriber with {} buffered events.", buffer.size());
+                droppedSubscribers.increment();
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Object message;
+                while ((message = buffer.poll()) != null) {
+                    if (!send(message)) {
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(final Object message) {
+            try {
+                if (message == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    final var jobOffer = (JobOfferDTO) message;
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(jobOffer.getId()))
+                            .name(EVENT_NAME)
+                            .data(jobOffer, MediaType.APPLICATION_JSON));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Job offer feed subscriber disconnected: {}", e.getMessage());
+                unsubscribe(this);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package dna.jobhunt.index;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.datasource.ReadYourWrites;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.event.JobOffersImportedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.JobOfferStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Materialized set of job offers active today, kept as bitmap of active ids
+ * and {@link JobOfferBitmaps} per {@link Category} and employer.
+ * Job offers which are not active yet wait in a queue ordered by start date and active job offers
+ * are queued by end date, so on day change only the job offers which start or expire are touched.
+ * Day change is applied at midnight and, in case the scheduled run is late, before every read.
+ * The snapshot only sees job offers created by this application instance, so it is disabled by default
+ * and may be enabled only when a single instance writes job offers.
+ * Returned job offers are shared with callers, so job offers in the snapshot are never changed, they are replaced with changed copies.
+ */
+@Component
+@Slf4j
+public class ActiveJobOfferSnapshot {
+
+    private final JobOfferStorage jobOfferRepository;
+    private final Clock clock;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, JobOfferDTO> activeJobOffers = new HashMap<>();
+    private final RoaringBitmap activeIds = new RoaringBitmap();
+    private final JobOfferBitmaps activeBitmaps = new JobOfferBitmaps();
+    private final PriorityQueue<JobOfferDTO> pendingActivations = new PriorityQueue<>(Comparator.comparing(JobOfferDTO::getStartDate));
+    private final Set<Integer> pendingActivationIds = new HashSet<>();
+    private final PriorityQueue<JobOfferDTO> pendingExpirations = new PriorityQueue<>(Comparator.comparing(JobOfferDTO::getEndDate));
+    private volatile LocalDate day;
+
+    public ActiveJobOfferSnapshot(final JobOfferStorage jobOfferRepository,
+                                  final Clock clock,
+                                  @Value("${jobhunt.active-snapshot.enabled:false}") final boolean enabled) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Loads all job offers which did not expire yet from the primary database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("Active job offer snapshot is disabled.");
+            return;
+        }
+        load(LocalDate.now(clock));
+    }
+
+    /**
+     * Moves the snapshot to the current day.
+     */
+    @Scheduled(cron = "${jobhunt.active-snapshot.rollover-cron:0 0 0 * * *}")
+    public void rollOver() {
+        if (day != null) {
+            rollOver(LocalDate.now(clock));
+        }
+    }
+
+    /**
+     * It gets job offers valid on given date, optionally narrowed to categories and employers.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid.
+     *
+     * @return valid job offers ordered by id or empty optional when the snapshot was not loaded
+     * or given date is not the current day.
+     */
+    public Optional<List<JobOfferDTO>> findValidJobOffers(final Collection<Category> categories, final Collection<String> employers,
+                                                          final LocalDate date) {
+        return find(categories, employers, date, RoaringBitmap::forEach);
+    }
+
+    /**
+     * It gets page of job offers valid on given date, optionally narrowed to categories and employers.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid.
+     * @param lastId only job offers with greater id are returned.
+     * @param limit maximal number of returned job offers.
+     *
+     * @return valid job offers ordered by id or empty optional when the snapshot was not loaded
+     * or given date is not the current day.
+     */
+    public Optional<List<JobOfferDTO>> findValidJobOffersPage(final Collection<Category> categories, final Collection<String> employers,
+                                                              final LocalDate date, final int lastId, final int limit) {
+        return find(categories, employers, date, (ids, consumer) -> JobOfferBitmaps.forEachAfter(ids, lastId, limit, consumer));
+    }
+
+    /**
+     * It adds newly created job offer to the snapshot or schedules its activation.
+     *
+     * @param event job offer creation event.
+     */
+    @EventListener
+    public void onJobOfferCreated(final JobOfferCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (day != null) {
+                addJobOffer(event.getJobOffer());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * It adds batch of imported job offers.
+     *
+     * @param event job offer import event.
+     */
+    @EventListener
+    public void onJobOffersImported(final JobOffersImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (day != null) {
+                event.getJobOffers().forEach(this::addJobOffer);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * It moves job offers of renamed user under the new username, replacing them with copies having the new employer.
+     *
+     * @param event user rename event.
+     */
+    @EventListener
+    public void onUserRenamed(final UserRenamedEvent event) {
+        if (!enabled || event.getOldUsername() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            activeBitmaps.renameEmployer(event.getOldUsername(), event.getNewUsername())
+                    .forEach((int id) -> activeJobOffers.put(id, activeJobOffers.get(id).withEmployer(event.getNewUsername())));
+            final var renamedPendingActivations = new ArrayList<JobOfferDTO>();
+            pendingActivations.removeIf(jobOffer -> event.getOldUsername().equals(jobOffer.getEmployer())
+                    && renamedPendingActivations.add(jobOffer.withEmployer(event.getNewUsername())));
+            pendingActivations.addAll(renamedPendingActivations);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Optional<List<JobOfferDTO>> find(final Collection<Category> categories, final Collection<String> employers, final LocalDate date,
+                                             final BiConsumer<RoaringBitmap, IntConsumer> selection) {
+        final var currentDay = day;
+        if (currentDay == null || !date.equals(LocalDate.now(clock))) {
+            return Optional.empty();
+        }
+        if (currentDay.isBefore(date)) {
+            rollOver(date);
+        }
+        lock.readLock().lock();
+        try {
+            if (!date.equals(day)) {
+                return Optional.empty();
+            }
+            final var result = new ArrayList<JobOfferDTO>();
+            selection.accept(activeBitmaps.select(activeIds, categories, employers), id -> result.add(activeJobOffers.get(id)));
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void load(final LocalDate today) {
+        log.info("Loading active job offer snapshot for {}.", today);
+        lock.writeLock().lock();
+        try {
+            day = today;
+            ReadYourWrites.onPrimary(() -> jobOfferRepository.findAllNotExpiredJobOffers(today)).forEach(this::addJobOffer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded {} active and {} upcoming job offers into snapshot.", activeJobOffers.size(), pendingActivations.size());
+    }
+
+    void rollOver(final LocalDate today) {
+        lock.writeLock().lock();
+        try {
+            if (day == null || !day.isBefore(today)) {
+                return;
+            }
+            log.info("Rolling active job offer snapshot over from {} to {}.", day, today);
+            day = today;
+            while (!pendingExpirations.isEmpty() && pendingExpirations.peek().getEndDate().isBefore(today)) {
+                deactivate(pendingExpirations.poll());
+            }
+            while (!pendingActivations.isEmpty() && !pendingActivations.peek().getStartDate().isAfter(today)) {
+                final var jobOffer = pendingActivations.poll();
+                pendingActivationIds.remove(jobOffer.getId());
+                if (!jobOffer.getEndDate().isBefore(today)) {
+                    activate(jobOffer);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addJobOffer(final JobOfferDTO jobOffer) {
+        if (jobOffer.getEndDate().isBefore(day) || activeJobOffers.containsKey(jobOffer.getId())) {
+            return;
+        }
+        if (jobOffer.getStartDate().isAfter(day)) {
+            if (pendingActivationIds.add(jobOffer.getId())) {
+                pendingActivations.add(jobOffer);
+            }
+        } else {
+            activate(jobOffer);
+        }
+    }
+
+    private void activate(final JobOfferDTO jobOffer) {
+        activeJobOffers.put(jobOffer.getId(), jobOffer);
+        activeIds.add(jobOffer.getId());
+        activeBitmaps.add(jobOffer);
+        pendingExpirations.add(jobOffer);
+    }
+
+    private void deactivate(final JobOfferDTO expired) {
+        // pending expirations may hold job offers which were replaced by renamed copies since
+        final var jobOffer = activeJobOffers.remove(expired.getId());
+        if (jobOffer == null) {
+            return;
+        }
+        activeIds.remove(jobOffer.getId());
+        activeBitmaps.remove(jobOffer);
+    }
+}
@@ -0,0 +1,197 @@
+package dna.jobhunt.index;
+
+import java.util.function.Consumer;
+
+/**
+ * Augmented AVL tree of closed intervals [start, end] keyed by (start, id).
+ * Every node keeps the maximal end of its subtree, so stabbing queries only descend
+ * into subtrees which can contain an interval covering the queried point.
+ * It is not thread safe.
+ *
+ * @param <T> type of value attached to the interval.
+ */
+class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Adds new interval. Caller is responsible for not adding the same id twice.
+     *
+     * @param start interval start (inclusive).
+     * @param end interval end (inclusive).
+     * @param id unique id of the interval.
+     * @param value value attached to the interval.
+     */
+    void insert(final long start, final long end, final int id, final T value) {
+        root = insert(root, new Node<>(start, end, id, value));
+        size++;
+    }
+
+    /**
+     * Removes interval with given start and id.
+     *
+     * @param start interval start.
+     * @param id unique id of the interval.
+     *
+     * @return true if interval was found and removed.
+     */
+    boolean remove(final long start, final int id) {
+        final var sizeBefore = size;
+        root = remove(root, start, id);
+        return size < sizeBefore;
+    }
+
+    /**
+     * Passes to consumer all values of intervals containing given point
+     * in ascending (start, id) order.
+     *
+     * @param point queried point.
+     * @param consumer consumer of matching values.
+     */
+    void stab(final long point, final Consumer<T> consumer) {
+        stab(root, point, consumer);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void stab(final Node<T> node, final long point, final Consumer<T> consumer) {
+        if (node == null || node.maxEnd < point) {
+            return;
+        }
+        stab(node.left, point, consumer);
+        if (node.start > point) {
+            return;
+        }
+        if (node.end >= point) {
+            consumer.accept(node.value);
+        }
+        stab(node.right, point, consumer);
+    }
+
+    private Node<T> insert(final Node<T> node, final Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.id, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return balance(node);
+    }
+
+    private Node<T> remove(final Node<T> node, final long start, final int id) {
+        if (node == null) {
+            return null;
+        }
+        final var comparison = compare(start, id, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            var successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private Node<T> removeMin(final Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private Node<T> balance(final Node<T> node) {
+        update(node);
+        final var balanceFactor = height(node.left) - height(node.right);
+        if (balanceFactor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balanceFactor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(final Node<T> node) {
+        final var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(final Node<T> node) {
+        final var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static int compare(final long start, final int id, final Node<?> node) {
+        final var byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Integer.compare(id, node.id);
+    }
+
+    private static int height(final Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(final Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        var maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static final class Node<T> {
+        private final long start;
+        private final long end;
+        private final int id;
+        private final T value;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private long maxEnd;
+
+        private Node(final long start, final long end, final int id, final T value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dna.jobhunt.index;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compressed bitmaps of job offer ids, one per {@link Category} and one per employer username.
+ * Filters with several categories or employers are answered by union of their bitmaps
+ * intersected with the bitmap of candidate job offers.
+ * It is not thread safe.
+ */
+class JobOfferBitmaps {
+
+    private final Map<Category, RoaringBitmap> byCategory = new EnumMap<>(Category.class);
+    private final Map<String, RoaringBitmap> byEmployer = new HashMap<>();
+
+    void add(final JobOfferDTO jobOffer) {
+        byCategory.computeIfAbsent(jobOffer.getCategory(), category -> new RoaringBitmap()).add(jobOffer.getId());
+        if (jobOffer.getEmployer() != null) {
+            byEmployer.computeIfAbsent(jobOffer.getEmployer(), employer -> new RoaringBitmap()).add(jobOffer.getId());
+        }
+    }
+
+    void remove(final JobOfferDTO jobOffer) {
+        remove(byCategory, jobOffer.getCategory(), jobOffer.getId());
+        if (jobOffer.getEmployer() != null) {
+            remove(byEmployer, jobOffer.getEmployer(), jobOffer.getId());
+        }
+    }
+
+    /**
+     * Moves job offers of the old username under the new one.
+     *
+     * @param oldUsername username before the change.
+     * @param newUsername username after the change.
+     *
+     * @return ids of moved job offers.
+     */
+    RoaringBitmap renameEmployer(final String oldUsername, final String newUsername) {
+        final var renamed = byEmployer.remove(oldUsername);
+        if (renamed == null) {
+            return new RoaringBitmap();
+        }
+        byEmployer.merge(newUsername, renamed, (existing, moved) -> RoaringBitmap.or(existing, moved));
+        return renamed;
+    }
+
+    /**
+     * It narrows candidate job offers to given categories and employers.
+     *
+     * @param candidates ids of candidate job offers.
+     * @param categories accepted categories, any category when empty.
+     * @param employers accepted employer usernames, any employer when empty.
+     *
+     * @return ids of candidate job offers matching both filters.
+     */
+    RoaringBitmap select(final RoaringBitmap candidates, final Collection<Category> categories, final Collection<String> employers) {
+        var result = candidates;
+        if (!categories.isEmpty()) {
+            result = RoaringBitmap.and(result, union(categories.stream().map(byCategory::get)));
+        }
+        if (!employers.isEmpty()) {
+            result = RoaringBitmap.and(result, union(employers.stream().map(byEmployer::get)));
+        }
+        return result;
+    }
+
+    /**
+     * It passes ids greater than the last id in ascending order until the limit is reached.
+     * Lower ids are skipped by seeking in the bitmap, so the cost depends on the limit, not on the number of ids.
+     *
+     * @param ids ids to pass.
+     * @param lastId ids up to this one are skipped.
+     * @param limit maximal number of passed ids.
+     * @param consumer consumer of ids.
+     */
+    static void forEachAfter(final RoaringBitmap ids, final int lastId, final int limit, final IntConsumer consumer) {
+        if (lastId == Integer.MAX_VALUE) {
+            return;
+        }
+        final var iterator = ids.getIntIterator();
+        iterator.advanceIfNeeded(Math.max(lastId + 1, 0));
+        for (int i = 0; i < limit && iterator.hasNext(); i++) {
+            consumer.accept(iterator.next());
+        }
+    }
+
+    private static RoaringBitmap union(final Stream<RoaringBitmap> bitmaps) {
+        return FastAggregation.or(bitmaps.filter(Objects::nonNull).collect(Collectors.toList()).iterator());
+    }
+
+    private static <K> void remove(final Map<K, RoaringBitmap> bitmaps, final K key, final int id) {
+        final var bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
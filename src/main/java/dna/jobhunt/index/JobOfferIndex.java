@@ -0,0 +1,230 @@
+package dna.jobhunt.index;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.datasource.ReadYourWrites;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.event.JobOffersArchivedEvent;
+import dna.jobhunt.event.JobOffersImportedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.JobOfferStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of job offers by their validity period.
+ * It is loaded from the primary database once the application is ready and kept up to date with created job offers,
+ * so valid job offers for any date can be resolved without querying the database.
+ * Job offers valid on the date are narrowed to requested categories and employers with {@link JobOfferBitmaps}.
+ * Until the index is loaded (or when it is disabled) {@link #isReady()} returns false
+ * and callers should fall back to {@link JobOfferStorage}.
+ * The index only sees job offers created by this application instance and never falls back to the database once loaded,
+ * so it is disabled by default and may be enabled only when a single instance writes job offers.
+ * Archived job offers are removed, so the index is bounded by the number of not archived job offers.
+ * Returned job offers are shared with callers, so indexed job offers are never changed, they are replaced with changed copies.
+ */
+@Component
+@Slf4j
+public class JobOfferIndex {
+
+    private final JobOfferStorage jobOfferRepository;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, JobOfferDTO> jobOffers = new HashMap<>();
+    private final IntervalTree<JobOfferDTO> validityTree = new IntervalTree<>();
+    private final JobOfferBitmaps bitmaps = new JobOfferBitmaps();
+    private volatile boolean ready;
+
+    public JobOfferIndex(final JobOfferStorage jobOfferRepository,
+                         @Value("${jobhunt.job-offer-index.enabled:false}") final boolean enabled) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Loads all existing job offers into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("Job offer index is disabled.");
+            return;
+        }
+        log.info("Loading job offer index.");
+        final var storedJobOffers = ReadYourWrites.onPrimary(jobOfferRepository::findAllJobOfferDTOs);
+        lock.writeLock().lock();
+        try {
+            storedJobOffers.forEach(this::addJobOffer);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded {} job offers into index.", storedJobOffers.size());
+    }
+
+    /**
+     * @return true when the index is loaded and can be queried.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * It gets job offers valid on given date, optionally narrowed to categories and employers.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid.
+     *
+     * @return valid job offers ordered by id.
+     */
+    public List<JobOfferDTO> findValidJobOffers(final Collection<Category> categories, final Collection<String> employers, final LocalDate date) {
+        lock.readLock().lock();
+        try {
+            final var result = new ArrayList<JobOfferDTO>();
+            select(categories, employers, date).forEach((int id) -> result.add(jobOffers.get(id)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * It gets page of job offers valid on given date, optionally narrowed to categories and employers.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid.
+     * @param lastId only job offers with greater id are returned.
+     * @param limit maximal number of returned job offers.
+     *
+     * @return valid job offers ordered by id.
+     */
+    public List<JobOfferDTO> findValidJobOffersPage(final Collection<Category> categories, final Collection<String> employers, final LocalDate date,
+                                                    final int lastId, final int limit) {
+        lock.readLock().lock();
+        try {
+            final var result = new ArrayList<JobOfferDTO>();
+            JobOfferBitmaps.forEachAfter(select(categories, employers, date), lastId, limit, id -> result.add(jobOffers.get(id)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * It adds newly created job offer to the index.
+     *
+     * @param event job offer creation event.
+     */
+    @EventListener
+    public void onJobOfferCreated(final JobOfferCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            addJobOffer(event.getJobOffer());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * It adds batch of imported job offers.
+     *
+     * @param event job offer import event.
+     */
+    @EventListener
+    public void onJobOffersImported(final JobOffersImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            event.getJobOffers().forEach(this::addJobOffer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * It removes batch of archived job offers.
+     *
+     * @param event job offer archival event.
+     */
+    @EventListener
+    public void onJobOffersArchived(final JobOffersArchivedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            event.getJobOffers().forEach(jobOffer -> removeJobOffer(jobOffer.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * It replaces indexed job offers of renamed user with copies having the new employer.
+     *
+     * @param event user rename event.
+     */
+    @EventListener
+    public void onUserRenamed(final UserRenamedEvent event) {
+        if (!enabled || event.getOldUsername() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            bitmaps.renameEmployer(event.getOldUsername(), event.getNewUsername())
+                    .forEach((int id) -> replaceJobOffer(jobOffers.get(id).withEmployer(event.getNewUsername())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private RoaringBitmap select(final Collection<Category> categories, final Collection<String> employers, final LocalDate date) {
+        final var validJobOffers = new RoaringBitmap();
+        validityTree.stab(date.toEpochDay(), jobOffer -> validJobOffers.add(jobOffer.getId()));
+        return bitmaps.select(validJobOffers, categories, employers);
+    }
+
+    private void addJobOffer(final JobOfferDTO jobOffer) {
+        if (jobOffers.putIfAbsent(jobOffer.getId(), jobOffer) != null) {
+            return;
+        }
+        validityTree.insert(jobOffer.getStartDate().toEpochDay(), jobOffer.getEndDate().toEpochDay(), jobOffer.getId(), jobOffer);
+        bitmaps.add(jobOffer);
+    }
+
+    private void replaceJobOffer(final JobOfferDTO jobOffer) {
+        jobOffers.put(jobOffer.getId(), jobOffer);
+        validityTree.remove(jobOffer.getStartDate().toEpochDay(), jobOffer.getId());
+        validityTree.insert(jobOffer.getStartDate().toEpochDay(), jobOffer.getEndDate().toEpochDay(), jobOffer.getId(), jobOffer);
+    }
+
+    private void removeJobOffer(final int id) {
+        final var jobOffer = jobOffers.remove(id);
+        if (jobOffer == null) {
+            return;
+        }
+        validityTree.remove(jobOffer.getStartDate().toEpochDay(), id);
+        bitmaps.remove(jobOffer);
+    }
+}
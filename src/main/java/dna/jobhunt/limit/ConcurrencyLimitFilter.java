@@ -0,0 +1,127 @@
+package dna.jobhunt.limit;
+
+import dna.jobhunt.limit.ConcurrencyLimiter.Permit;
+import dna.jobhunt.limit.ConcurrencyLimiter.Priority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sheds load by rejecting requests over the {@link ConcurrencyLimiter} limit right away with 503 status
+ * and {@code Retry-After} header, instead of queueing them in the servlet container until all of them are slow.
+ * Requests to bulk paths are admitted with {@link Priority#BULK} priority, other requests changing data
+ * with {@link Priority#WRITE} priority and remaining requests with {@link Priority#READ}.
+ * Requests which continue asynchronously, like streamed responses, hold their permit until the asynchronous processing
+ * completes, fails or times out. Server-sent event streams are subscriptions open for minutes rather than work in flight,
+ * so their permit is released as soon as the stream is opened. Latency of asynchronous, bulk and failed requests
+ * does not adapt the limit.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_MSG = "Too many concurrent requests, retry later.";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+    private final Set<String> excludedPaths;
+    private final Set<String> bulkPaths;
+
+    public ConcurrencyLimitFilter(final ConcurrencyLimiter limiter, final Duration retryAfter, final Set<String> excludedPaths,
+                                  final Set<String> bulkPaths) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        this.excludedPaths = excludedPaths;
+        this.bulkPaths = bulkPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return excludedPaths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        final var priority = priority(request);
+        final var permit = limiter.tryAcquire(priority);
+        if (permit.isEmpty()) {
+            log.debug("Rejected request {} {} over concurrency limit {}.", request.getMethod(), request.getRequestURI(), limiter.getLimit(priority));
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), REJECTED_MSG);
+            return;
+        }
+        final var start = System.nanoTime();
+        var async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted() && !isEventStream(response)) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit.get()));
+                async = true;
+            } else if (!request.isAsyncStarted() && priority != Priority.BULK
+                    && response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                permit.get().onSuccess(System.nanoTime() - start);
+            }
+        } finally {
+            if (!async) { // no effect when the permit was released on success
+                permit.get().onIgnore();
+            }
+        }
+    }
+
+    private Priority priority(final HttpServletRequest request) {
+        if (bulkPaths.contains(request.getRequestURI())) {
+            return Priority.BULK;
+        }
+        return READ_METHODS.contains(request.getMethod()) ? Priority.READ : Priority.WRITE;
+    }
+
+    private static boolean isEventStream(final HttpServletResponse response) {
+        final var contentType = response.getContentType();
+        return contentType != null && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    /**
+     * Releases the permit of asynchronous request once the request is over.
+     */
+    private static final class PermitReleasingListener implements AsyncListener {
+
+        private final Permit permit;
+
+        private PermitReleasingListener(final Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            permit.onIgnore();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            permit.onIgnore();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            permit.onIgnore();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
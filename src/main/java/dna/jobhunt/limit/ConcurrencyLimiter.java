@@ -0,0 +1,145 @@
+package dna.jobhunt.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests while the number of requests in flight is under {@link GradientConcurrencyLimit}.
+ * Requests are admitted in three priority classes: writes may use the whole limit, reads only its {@code readShare}
+ * and bulk requests only its {@code bulkShare}, so when the limit is reached bulk requests are rejected first,
+ * then reads, and writes still have room.
+ * The limit of every class is published as {@value #LIMIT_METRIC} gauge, requests in flight as {@value #IN_FLIGHT_METRIC} gauge
+ * and rejected requests as {@value #REJECTED_METRIC} counter, all tagged with the priority.
+ */
+public class ConcurrencyLimiter {
+
+    static final String LIMIT_METRIC = "jobhunt.concurrency.limit";
+    static final String IN_FLIGHT_METRIC = "jobhunt.concurrency.in-flight";
+    static final String REJECTED_METRIC = "jobhunt.concurrency.rejected";
+
+    /**
+     * Priority class of a request.
+     */
+    public enum Priority {
+        BULK, READ, WRITE
+    }
+
+    private final GradientConcurrencyLimit limit;
+    private final double readShare;
+    private final double bulkShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, AtomicInteger> inFlightByPriority = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimiter(final GradientConcurrencyLimit limit, final double readShare, final double bulkShare,
+                              final MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.readShare = readShare;
+        this.bulkShare = bulkShare;
+        for (final var priority : Priority.values()) {
+            final var tag = priority.name().toLowerCase();
+            inFlightByPriority.put(priority, new AtomicInteger());
+            Gauge.builder(LIMIT_METRIC, () -> getLimit(priority))
+                    .description("Concurrent requests limit")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_METRIC, inFlightByPriority.get(priority), AtomicInteger::get)
+                    .description("Requests in flight")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            rejected.put(priority, Counter.builder(REJECTED_METRIC)
+                    .description("Requests rejected because of the concurrency limit")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param priority priority class.
+     *
+     * @return limit of requests in flight at which requests of given priority are rejected.
+     */
+    public int getLimit(final Priority priority) {
+        final var currentLimit = limit.getLimit();
+        switch (priority) {
+            case WRITE:
+                return currentLimit;
+            case READ:
+                return Math.max(1, (int) (currentLimit * readShare));
+            default:
+                return Math.max(1, (int) (currentLimit * bulkShare));
+        }
+    }
+
+    /**
+     * It admits request when there is room under the limit of its priority.
+     *
+     * @param priority priority class of the request.
+     *
+     * @return permit which must be released when the request completes or empty optional when the request is rejected.
+     */
+    public Optional<Permit> tryAcquire(final Priority priority) {
+        final var priorityLimit = getLimit(priority);
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= priorityLimit) {
+                rejected.get(priority).increment();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        inFlightByPriority.get(priority).incrementAndGet();
+        return Optional.of(new Permit(priority, current + 1));
+    }
+
+    /**
+     * Admission of a single request.
+     */
+    public final class Permit {
+
+        private final Priority priority;
+        private final int inFlightOnStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final Priority priority, final int inFlightOnStart) {
+            this.priority = priority;
+            this.inFlightOnStart = inFlightOnStart;
+        }
+
+        /**
+         * It releases the permit and adapts the limit to the request latency.
+         *
+         * @param rttNanos duration of the request in nanoseconds.
+         */
+        public void onSuccess(final long rttNanos) {
+            if (release()) {
+                limit.onSample(rttNanos, inFlightOnStart);
+            }
+        }
+
+        /**
+         * It releases the permit of request whose latency does not tell anything about the load,
+         * for example because it failed or continued asynchronously.
+         * Releasing the permit again has no effect.
+         */
+        public void onIgnore() {
+            release();
+        }
+
+        private boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            inFlightByPriority.get(priority).decrementAndGet();
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+}
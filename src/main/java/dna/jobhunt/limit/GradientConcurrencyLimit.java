@@ -0,0 +1,73 @@
+package dna.jobhunt.limit;
+
+/**
+ * Concurrency limit adapted from request latency with the gradient algorithm of Netflix concurrency-limits (Gradient2Limit).
+ * Long term latency is an exponential average of many samples, short term latency is the latest sample.
+ * When the short term latency grows over the long term one multiplied by the tolerance, requests are queueing somewhere
+ * and the limit shrinks in proportion, at most by half. Otherwise the limit grows by its square root to probe for more capacity.
+ * New limit is smoothed with the previous one and it only changes while at least half of it is used,
+ * so idle periods do not inflate it.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_RECOVERY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttAlpha;
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit limit before any sample was taken.
+     * @param minLimit the lowest limit.
+     * @param maxLimit the highest limit.
+     * @param smoothing weight of newly computed limit, from 0 exclusive to 1.
+     * @param tolerance ratio of short to long term latency which is still not considered queueing.
+     * @param longWindow number of samples the long term latency is averaged over.
+     */
+    public GradientConcurrencyLimit(final int initialLimit, final int minLimit, final int maxLimit, final double smoothing,
+                                    final double tolerance, final int longWindow) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format("Limits must satisfy 1 <= min (%d) <= initial (%d) <= max (%d).",
+                    minLimit, initialLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttAlpha = 2.0 / (longWindow + 1);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return current limit of concurrent requests.
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * It adapts the limit to latency of completed request.
+     *
+     * @param rttNanos duration of the request in nanoseconds.
+     * @param inFlight number of requests in flight when the request started.
+     */
+    public synchronized void onSample(final long rttNanos, final int inFlight) {
+        final double shortRttNanos = Math.max(rttNanos, 1);
+        longRttNanos = longRttNanos == 0 ? shortRttNanos : longRttNanos * (1 - longRttAlpha) + shortRttNanos * longRttAlpha;
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= LONG_RTT_RECOVERY;
+        }
+        if (inFlight < limit / 2) {
+            return;
+        }
+        final var gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        final var newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + newLimit * smoothing));
+    }
+}
@@ -0,0 +1,72 @@
+package dna.jobhunt.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records number of elements returned by intercepted methods in {@code <name>.results} distribution
+ * and, when timed, duration of the calls in {@code <name>} timer.
+ * Meters are tagged with given component tags and the method name.
+ */
+public class InvocationMetricsInterceptor implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String name;
+    private final Tags componentTags;
+    private final boolean timed;
+
+    public InvocationMetricsInterceptor(final MeterRegistry meterRegistry, final String name, final Tags componentTags, final boolean timed) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+        this.componentTags = componentTags;
+        this.timed = timed;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var tags = componentTags.and("method", invocation.getMethod().getName());
+        final var start = System.nanoTime();
+        var exception = "none";
+        try {
+            final var result = invocation.proceed();
+            recordSize(tags, result);
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            if (timed) {
+                Timer.builder(name)
+                        .tags(tags.and("exception", exception))
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void recordSize(final Tags tags, final Object result) {
+        final int size;
+        if (result instanceof Collection) {
+            size = ((Collection<?>) result).size();
+        } else if (result instanceof Map) {
+            size = ((Map<?, ?>) result).size();
+        } else if (result instanceof Optional) {
+            size = ((Optional<?>) result).isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+        DistributionSummary.builder(name + ".results")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(size);
+    }
+}
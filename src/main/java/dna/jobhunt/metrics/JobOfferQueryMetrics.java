@@ -0,0 +1,76 @@
+package dna.jobhunt.metrics;
+
+import dna.jobhunt.domain.Category;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records duration and result size of valid job offer queries.
+ * Meters are tagged with the filter combination ({@code none}, {@code category}, {@code employer} or {@code both}),
+ * the source which answered the query and the query mode, so slow combinations can be told apart.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobOfferQueryMetrics {
+
+    static final String QUERY_METRIC = "jobhunt.job-offers.query";
+    static final String RESULTS_METRIC = "jobhunt.job-offers.query.results";
+
+    /**
+     * Source which answered the query.
+     */
+    public enum Source {
+        CACHE, SNAPSHOT, INDEX, DATABASE, ARCHIVE
+    }
+
+    /**
+     * The way job offers were returned.
+     */
+    public enum Mode {
+        LIST, PAGE, STREAM, HISTORY
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * It records single valid job offer query.
+     *
+     * @param categories queried categories, any category when empty.
+     * @param employers queried employers, any employer when empty.
+     * @param mode the way job offers were returned.
+     * @param source source which answered the query.
+     * @param durationNanos duration of the query in nanoseconds.
+     * @param resultSize number of returned job offers.
+     */
+    public void record(final Collection<Category> categories, final Collection<String> employers, final Mode mode, final Source source,
+                       final long durationNanos, final int resultSize) {
+        final var tags = Tags.of("filter", filter(categories, employers),
+                "source", source.name().toLowerCase(),
+                "mode", mode.name().toLowerCase());
+        Timer.builder(QUERY_METRIC)
+                .description("Valid job offer queries")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(RESULTS_METRIC)
+                .description("Number of job offers returned by valid job offer queries")
+                .baseUnit("job-offers")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(resultSize);
+    }
+
+    static String filter(final Collection<Category> categories, final Collection<String> employers) {
+        if (categories.isEmpty()) {
+            return employers.isEmpty() ? "none" : "employer";
+        }
+        return employers.isEmpty() ? "category" : "both";
+    }
+}
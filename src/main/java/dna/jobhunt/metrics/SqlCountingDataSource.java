@@ -0,0 +1,130 @@
+package dna.jobhunt.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * {@link DataSource} which counts statements, rows and JDBC time in {@link SqlStatistics} bound by {@link SqlStatementCounter}.
+ * Every {@code execute*} call counts as one statement, so JDBC batch is counted once.
+ * Rows are counted from update counts and from rows read from returned result sets.
+ * Statements executed while no statistics are bound to the thread are not counted.
+ * {@link #unwrap(Class)} and {@link #isWrapperFor(Class)} delegate to the target data source, so its connection pool can still be reached.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : obtainTargetDataSource().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || obtainTargetDataSource().isWrapperFor(iface);
+    }
+
+    private static Connection countingConnection(final Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            final var result = invoke(connection, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return countingStatement(method.getReturnType(), (Statement) result);
+            }
+            return result;
+        });
+    }
+
+    private static Object countingStatement(final Class<?> type, final Statement statement) {
+        return proxy(type, (proxy, method, args) -> {
+            final var statistics = SqlStatementCounter.current();
+            if (statistics == null) {
+                return invoke(statement, method, args);
+            }
+            if (method.getName().equals("getResultSet")) {
+                return countingResultSet(statistics, (ResultSet) invoke(statement, method, args));
+            }
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            final var start = System.nanoTime();
+            final Object result;
+            try {
+                result = invoke(statement, method, args);
+            } finally {
+                statistics.recordStatement(System.nanoTime() - start);
+            }
+            if (result instanceof ResultSet) {
+                return countingResultSet(statistics, (ResultSet) result);
+            }
+            recordUpdateCount(statistics, method, result);
+            return result;
+        });
+    }
+
+    private static void recordUpdateCount(final SqlStatistics statistics, final Method method, final Object result) {
+        if (result instanceof int[]) {
+            statistics.recordRows(IntStream.of((int[]) result).filter(count -> count > 0).sum());
+        } else if (result instanceof long[]) {
+            statistics.recordRows(LongStream.of((long[]) result).filter(count -> count > 0).sum());
+        } else if (result instanceof Number && method.getName().contains("Update")) {
+            statistics.recordRows(Math.max(0, ((Number) result).longValue()));
+        }
+    }
+
+    private static ResultSet countingResultSet(final SqlStatistics statistics, final ResultSet resultSet) {
+        if (resultSet == null) {
+            return null;
+        }
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            final var result = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                statistics.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
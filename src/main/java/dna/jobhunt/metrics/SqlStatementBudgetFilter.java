@@ -0,0 +1,64 @@
+package dna.jobhunt.metrics;
+
+import dna.jobhunt.exception.SqlStatementBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts SQL statements executed while handling the request and attaches {@link SqlStatistics}
+ * to the request as {@link SqlStatistics#REQUEST_ATTRIBUTE} attribute.
+ * Request which executes more statements than the budget, usually because of lazy loading in a loop (N+1 queries),
+ * is logged as warning or, when configured, fails with {@link SqlStatementBudgetExceededException}.
+ * Statements executed by streamed response bodies run on another thread and are not counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final int statementBudget;
+    private final boolean failOnBudgetExceeded;
+    private final Set<String> excludedPaths;
+
+    public SqlStatementBudgetFilter(@Value("${jobhunt.sql.statement-budget:20}") final int statementBudget,
+                                    @Value("${jobhunt.sql.fail-on-budget-exceeded:false}") final boolean failOnBudgetExceeded,
+                                    @Value("${jobhunt.sql.budget-excluded-paths:}") final Set<String> excludedPaths) {
+        this.statementBudget = statementBudget;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        final var statistics = SqlStatementCounter.start();
+        request.setAttribute(SqlStatistics.REQUEST_ATTRIBUTE, statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.stop();
+        }
+        log.trace("Request {} {} executed {}.", request.getMethod(), request.getRequestURI(), statistics);
+        if (statistics.getStatements() > statementBudget && !excludedPaths.contains(request.getRequestURI())) {
+            final var requestDescription = request.getMethod() + " " + request.getRequestURI();
+            if (failOnBudgetExceeded) {
+                throw new SqlStatementBudgetExceededException(requestDescription, statistics.getStatements(), statementBudget);
+            }
+            log.warn("Request {} executed {} SQL statements reading or writing {} rows in {} ms, budget is {} statements.",
+                    requestDescription, statistics.getStatements(), statistics.getRows(),
+                    TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos()), statementBudget);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dna.jobhunt.metrics;
+
+/**
+ * Binds {@link SqlStatistics} to the current thread, so statements executed through {@link SqlCountingDataSource}
+ * are counted for the request handled by the thread.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * It starts counting statements executed by the current thread.
+     *
+     * @return statistics which will be updated by executed statements.
+     */
+    public static SqlStatistics start() {
+        final var statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * It stops counting statements executed by the current thread.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static SqlStatistics current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,31 @@
+package dna.jobhunt.metrics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * JDBC statements executed while handling single request, together with number of affected or read rows
+ * and time spent executing the statements. Reading of result set rows is not included in the time.
+ */
+@Getter
+@ToString
+public class SqlStatistics {
+
+    /**
+     * Name of request attribute holding statistics of the request.
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlStatistics.class.getName();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    void recordStatement(final long durationNanos) {
+        statements++;
+        jdbcNanos += durationNanos;
+    }
+
+    void recordRows(final long count) {
+        rows += count;
+    }
+}
@@ -0,0 +1,44 @@
+package dna.jobhunt.repository;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.ArchivedJobOffer;
+import dna.jobhunt.domain.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static dna.jobhunt.repository.JobOfferRepository.SELECT_JOB_OFFER_DTO;
+
+/**
+ * Repository of {@link ArchivedJobOffer}.
+ * Expired job offers are moved from job_offer table in batches of ids: they are copied with a single insert-select
+ * statement and deleted afterwards, both in the transaction of the caller.
+ */
+@Repository
+public interface JobOfferArchiveRepository extends JpaRepository<ArchivedJobOffer, Integer> {
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u WHERE t.endDate < :cutoffDate ORDER BY t.id")
+    List<JobOfferDTO> findExpiredJobOffers(@Param("cutoffDate") LocalDate cutoffDate, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_offer_archive (id, category, start_date, end_date, employer_id) " +
+            "SELECT id, category, start_date, end_date, employer_id FROM job_offer WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query(value = "delete from JobOffer t WHERE t.id IN :ids")
+    int deleteJobOffers(@Param("ids") Collection<Integer> ids);
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from ArchivedJobOffer t LEFT JOIN t.employer u WHERE t.category IN :categories AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
+    List<JobOfferDTO> findAllJobOffersForCategoriesAndDate(@Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate);
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from ArchivedJobOffer t JOIN t.employer u WHERE t.category IN :categories AND u.username IN :employers AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
+    List<JobOfferDTO> findAllJobOffersForEmployersAndCategoriesAndDate(@Param("employers") Collection<String> employers, @Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate);
+}
@@ -1,27 +1,63 @@
 package dna.jobhunt.repository;
 
+import dna.jobhunt.api.dto.JobOfferDTO;
 import dna.jobhunt.domain.Category;
 import dna.jobhunt.domain.JobOffer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+/**
+ * Repository of {@link JobOffer}.
+ * Read queries select {@link JobOfferDTO} with constructor expression, so they run as a single statement
+ * and do not load managed {@link JobOffer} and {@link dna.jobhunt.domain.User} entities.
+ * Queries filter by collection of categories, queries without category filter are given all {@link Category} values.
+ * Services use it as {@link JobOfferStorage}.
+ */
 @Repository
-public interface JobOfferRepository extends JpaRepository<JobOffer, Integer> {
+public interface JobOfferRepository extends JpaRepository<JobOffer, Integer>, JobOfferStorage {
+
+    String STREAM_FETCH_SIZE = "500";
+    String SELECT_JOB_OFFER_DTO = "select new dna.jobhunt.api.dto.JobOfferDTO(t.category, t.startDate, t.endDate, u.username, t.id) ";
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u WHERE t.category IN :categories AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
+    List<JobOfferDTO> findAllValidJobOffersForCategoriesAndDate(@Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate);
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t JOIN t.employer u WHERE t.category IN :categories AND u.username IN :employers AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
+    List<JobOfferDTO> findAllValidJobOffersForEmployersAndCategoriesAndDate(@Param("employers") Collection<String> employers, @Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate);
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u WHERE t.category IN :categories AND (:chosenDate BETWEEN t.startDate AND t.endDate) AND t.id > :after ORDER BY t.id")
+    List<JobOfferDTO> findValidJobOffersPageForCategoriesAndDate(@Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate, @Param("after") Integer after, Pageable pageable);
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t JOIN t.employer u WHERE t.category IN :categories AND u.username IN :employers AND (:chosenDate BETWEEN t.startDate AND t.endDate) AND t.id > :after ORDER BY t.id")
+    List<JobOfferDTO> findValidJobOffersPageForEmployersAndCategoriesAndDate(@Param("employers") Collection<String> employers, @Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate, @Param("after") Integer after, Pageable pageable);
+
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u")
+    List<JobOfferDTO> findAllJobOfferDTOs();
 
-    @Query(value = "from JobOffer t WHERE :category = t.category AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
-    List<JobOffer> findAllValidJobOffersForCategoryAndDate(@Param("category")Category category, @Param("chosenDate") LocalDate chosenDate);
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u WHERE t.endDate >= :chosenDate")
+    List<JobOfferDTO> findAllNotExpiredJobOffers(@Param("chosenDate") LocalDate chosenDate);
 
-    @Query(value = "from JobOffer t JOIN User u on u.id = t.employer WHERE :employer = u.username AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
-    List<JobOffer> findAllValidJobOffersForEmployerAndDate(@Param("employer")String employer, @Param("chosenDate") LocalDate chosenDate);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u WHERE t.category IN :categories AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
+    Stream<JobOfferDTO> streamValidJobOffersForCategoriesAndDate(@Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate);
 
-    @Query(value = "from JobOffer t JOIN User u on u.id = t.employer WHERE :category = t.category AND :employer = u.username AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
-    List<JobOffer> findAllValidJobOffersForEmployerAndDateAndCategory(@Param("employer") String employer, @Param("category")Category category, @Param("chosenDate") LocalDate chosenDate);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t JOIN t.employer u WHERE t.category IN :categories AND u.username IN :employers AND (:chosenDate BETWEEN t.startDate AND t.endDate)")
+    Stream<JobOfferDTO> streamValidJobOffersForEmployersAndCategoriesAndDate(@Param("employers") Collection<String> employers, @Param("categories") Collection<Category> categories, @Param("chosenDate") LocalDate chosenDate);
 
-    @Query(value = "from JobOffer t WHERE :chosenDate BETWEEN t.startDate AND t.endDate")
-    List<JobOffer> findAllValidJobOffersForDate(@Param("chosenDate") LocalDate chosenDate);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = SELECT_JOB_OFFER_DTO + "from JobOffer t LEFT JOIN t.employer u ORDER BY t.id")
+    Stream<JobOfferDTO> streamAllJobOffers();
 }
@@ -0,0 +1,43 @@
+package dna.jobhunt.repository;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Storage of {@link JobOffer} used by services, implemented by {@link JobOfferRepository}
+ * and, with sharded storage, by {@link dna.jobhunt.repository.shard.ShardedJobOfferRepository}.
+ * It only has operations every storage supports, so services cannot call repository methods which shards do not answer.
+ * Queries filter by collection of categories, queries without category filter are given all {@link Category} values.
+ */
+public interface JobOfferStorage {
+
+    <S extends JobOffer> S save(S jobOffer);
+
+    <S extends JobOffer> List<S> saveAll(Iterable<S> jobOffers);
+
+    List<JobOfferDTO> findAllValidJobOffersForCategoriesAndDate(Collection<Category> categories, LocalDate chosenDate);
+
+    List<JobOfferDTO> findAllValidJobOffersForEmployersAndCategoriesAndDate(Collection<String> employers, Collection<Category> categories, LocalDate chosenDate);
+
+    List<JobOfferDTO> findValidJobOffersPageForCategoriesAndDate(Collection<Category> categories, LocalDate chosenDate, Integer after, Pageable pageable);
+
+    List<JobOfferDTO> findValidJobOffersPageForEmployersAndCategoriesAndDate(Collection<String> employers, Collection<Category> categories, LocalDate chosenDate,
+                                                                            Integer after, Pageable pageable);
+
+    List<JobOfferDTO> findAllJobOfferDTOs();
+
+    List<JobOfferDTO> findAllNotExpiredJobOffers(LocalDate chosenDate);
+
+    Stream<JobOfferDTO> streamValidJobOffersForCategoriesAndDate(Collection<Category> categories, LocalDate chosenDate);
+
+    Stream<JobOfferDTO> streamValidJobOffersForEmployersAndCategoriesAndDate(Collection<String> employers, Collection<Category> categories, LocalDate chosenDate);
+
+    Stream<JobOfferDTO> streamAllJobOffers();
+}
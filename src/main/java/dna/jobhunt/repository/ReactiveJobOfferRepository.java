@@ -0,0 +1,56 @@
+package dna.jobhunt.repository;
+
+import dna.jobhunt.domain.JobOfferRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * R2DBC repository of {@link JobOfferRecord} mirroring read queries of {@link JobOfferRepository}.
+ * Categories are given by their ordinals, queries without category filter are given ordinals of all categories.
+ */
+@Repository
+public interface ReactiveJobOfferRepository extends ReactiveCrudRepository<JobOfferRecord, Integer> {
+
+    String SELECT_JOB_OFFER_RECORD = "SELECT t.id, t.category, t.start_date, t.end_date, u.username AS employer ";
+    String VALID_FOR_CATEGORIES_AND_DATE = "t.category IN (:categories) AND (:chosenDate BETWEEN t.start_date AND t.end_date)";
+
+    @Query(SELECT_JOB_OFFER_RECORD + "FROM job_offer t LEFT JOIN user u ON t.employer_id = u.id WHERE " + VALID_FOR_CATEGORIES_AND_DATE)
+    Flux<JobOfferRecord> findAllValidJobOffersForCategoriesAndDate(@Param("categories") Collection<Integer> categories, @Param("chosenDate") LocalDate chosenDate);
+
+    @Query(SELECT_JOB_OFFER_RECORD + "FROM job_offer t JOIN user u ON t.employer_id = u.id WHERE " + VALID_FOR_CATEGORIES_AND_DATE
+            + " AND u.username IN (:employers)")
+    Flux<JobOfferRecord> findAllValidJobOffersForEmployersAndCategoriesAndDate(@Param("employers") Collection<String> employers, @Param("categories") Collection<Integer> categories, @Param("chosenDate") LocalDate chosenDate);
+
+    @Query(SELECT_JOB_OFFER_RECORD + "FROM job_offer t LEFT JOIN user u ON t.employer_id = u.id WHERE " + VALID_FOR_CATEGORIES_AND_DATE
+            + " AND t.id > :after ORDER BY t.id LIMIT :limit")
+    Flux<JobOfferRecord> findValidJobOffersPageForCategoriesAndDate(@Param("categories") Collection<Integer> categories, @Param("chosenDate") LocalDate chosenDate, @Param("after") Integer after, @Param("limit") int limit);
+
+    @Query(SELECT_JOB_OFFER_RECORD + "FROM job_offer t JOIN user u ON t.employer_id = u.id WHERE " + VALID_FOR_CATEGORIES_AND_DATE
+            + " AND u.username IN (:employers) AND t.id > :after ORDER BY t.id LIMIT :limit")
+    Flux<JobOfferRecord> findValidJobOffersPageForEmployersAndCategoriesAndDate(@Param("employers") Collection<String> employers, @Param("categories") Collection<Integer> categories, @Param("chosenDate") LocalDate chosenDate, @Param("after") Integer after, @Param("limit") int limit);
+
+    @Query(SELECT_JOB_OFFER_RECORD + "FROM job_offer t LEFT JOIN user u ON t.employer_id = u.id ORDER BY t.id")
+    Flux<JobOfferRecord> findAllJobOffersOrderedById();
+
+    /**
+     * Reserves id of new job offer.
+     * The whole sequence value is used as id, so ranges pooled by Hibernate are never reused.
+     *
+     * @return id of new job offer.
+     */
+    @Query("SELECT NEXT VALUE FOR job_offer_sequence")
+    Mono<Integer> nextId();
+
+    @Modifying
+    @Query("INSERT INTO job_offer (id, category, start_date, end_date, employer_id) VALUES (:id, :category, :startDate, :endDate, :employerId)")
+    Mono<Integer> insert(@Param("id") Integer id, @Param("category") Integer category, @Param("startDate") LocalDate startDate,
+                         @Param("endDate") LocalDate endDate, @Param("employerId") Integer employerId);
+}
@@ -0,0 +1,38 @@
+package dna.jobhunt.repository;
+
+import dna.jobhunt.domain.UserRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC repository of {@link UserRecord} mirroring {@link UserRepository}.
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveCrudRepository<UserRecord, Integer> {
+
+    @Query("SELECT * FROM user WHERE username = :username")
+    Mono<UserRecord> findOneByUsername(@Param("username") String username);
+
+    @Query("SELECT * FROM user WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<UserRecord> findAllByIdGreaterThanOrderByIdAsc(@Param("after") Integer after, @Param("limit") int limit);
+
+    /**
+     * Reserves id of new user from the sequence used by Hibernate for {@link dna.jobhunt.domain.User}.
+     *
+     * @return id of new user.
+     */
+    @Query("SELECT NEXT VALUE FOR hibernate_sequence")
+    Mono<Integer> nextId();
+
+    @Modifying
+    @Query("INSERT INTO user (id, username, password, creation_date) VALUES (:id, :username, :password, :creationDate)")
+    Mono<Integer> insert(@Param("id") Integer id, @Param("username") String username, @Param("password") String password,
+                         @Param("creationDate") LocalDateTime creationDate);
+}
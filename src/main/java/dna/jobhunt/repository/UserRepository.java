@@ -1,12 +1,24 @@
 package dna.jobhunt.repository;
 
 import dna.jobhunt.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findOneByUsername(String username);
+
+    @Query("select u.id from User u where u.username = :username")
+    Optional<Integer> findIdByUsername(@Param("username") String username);
+
+    @Query("select u.username from User u where u.id = :id")
+    Optional<String> findUsernameById(@Param("id") Integer id);
+
+    List<User> findAllByIdGreaterThanOrderByIdAsc(Integer after, Pageable pageable);
 }
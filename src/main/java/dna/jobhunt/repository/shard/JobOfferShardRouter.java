@@ -0,0 +1,82 @@
+package dna.jobhunt.repository.shard;
+
+import dna.jobhunt.domain.Category;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns job offers to shards by their {@link Category} or by hash of their employer id.
+ * Employer id is used instead of username, so renaming the employer does not move its job offers.
+ */
+public class JobOfferShardRouter {
+
+    /**
+     * Key by which job offers are distributed to shards.
+     */
+    public enum Strategy {
+        CATEGORY, EMPLOYER
+    }
+
+    private final Strategy strategy;
+    private final int shardCount;
+
+    public JobOfferShardRouter(final Strategy strategy, final int shardCount) {
+        this.strategy = strategy;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * @param category category of the job offer.
+     * @param employerId id of the job offer employer.
+     *
+     * @return shard owning the job offer.
+     */
+    public int shardOf(final Category category, final Integer employerId) {
+        if (strategy == Strategy.CATEGORY) {
+            return category.ordinal() % shardCount;
+        }
+        return Math.floorMod(Integer.hashCode(employerId), shardCount);
+    }
+
+    /**
+     * It gets shards which may own job offers of given categories and employers.
+     *
+     * @param categories job offer categories.
+     * @param employerIds ids of job offer employers or null for any employer.
+     *
+     * @return shards to query, ordered.
+     */
+    public Set<Integer> shardsFor(final Collection<Category> categories, final Collection<Integer> employerIds) {
+        if (strategy == Strategy.CATEGORY) {
+            return categories.stream()
+                    .map(category -> shardOf(category, null))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+        if (employerIds == null) {
+            return allShards();
+        }
+        return employerIds.stream()
+                .map(employerId -> shardOf(null, employerId))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @return true when job offers are distributed by employer, so employer filter narrows queried shards.
+     */
+    public boolean routesByEmployer() {
+        return strategy == Strategy.EMPLOYER;
+    }
+
+    /**
+     * @return all shards, ordered.
+     */
+    public Set<Integer> allShards() {
+        return IntStream.range(0, shardCount)
+                .boxed()
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,236 @@
+package dna.jobhunt.repository.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dna.jobhunt.metrics.SqlCountingDataSource;
+import dna.jobhunt.repository.JobOfferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Databases holding shards of job offers in {@value #TABLE} table, which is created on startup when missing.
+ * Employer username is stored with the job offer, so shards do not need user table.
+ * Queries spanning several shards run in parallel on virtual threads and the caller waits for all of them,
+ * query of a single shard runs on the calling thread. Streamed queries of several shards are merged lazily,
+ * see {@link #streamMerged(Set, Function, Comparator)}.
+ * Every shard has its own local transactions, see {@link #inTransaction(int, Consumer)}.
+ */
+@Slf4j
+public class JobOfferShards implements AutoCloseable {
+
+    static final String TABLE = "job_offer_shard";
+    private static final int STREAM_FETCH_SIZE = Integer.parseInt(JobOfferRepository.STREAM_FETCH_SIZE);
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS " + TABLE + " (id INTEGER PRIMARY KEY, category INTEGER NOT NULL, start_date DATE NOT NULL, "
+                    + "end_date DATE NOT NULL, employer_id INTEGER, employer VARCHAR(255))",
+            "CREATE INDEX IF NOT EXISTS " + TABLE + "_category_dates ON " + TABLE + " (category, start_date, end_date)",
+            "CREATE INDEX IF NOT EXISTS " + TABLE + "_employer ON " + TABLE + " (employer)");
+
+    private final List<HikariDataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final List<NamedParameterJdbcTemplate> streamingShards;
+    private final List<TransactionTemplate> transactionTemplates;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public JobOfferShards(final List<HikariDataSource> dataSources) {
+        this.dataSources = dataSources;
+        final var shardDataSources = dataSources.stream()
+                .map(SqlCountingDataSource::new)
+                .collect(Collectors.toList());
+        this.shards = shardDataSources.stream()
+                .map(NamedParameterJdbcTemplate::new)
+                .collect(Collectors.toList());
+        this.streamingShards = shardDataSources.stream()
+                .map(dataSource -> {
+                    final var template = new JdbcTemplate(dataSource);
+                    template.setFetchSize(STREAM_FETCH_SIZE);
+                    return new NamedParameterJdbcTemplate(template);
+                })
+                .collect(Collectors.toList());
+        this.transactionTemplates = shardDataSources.stream()
+                .map(dataSource -> new TransactionTemplate(new DataSourceTransactionManager(dataSource)))
+                .collect(Collectors.toList());
+        shards.forEach(shard -> SCHEMA.forEach(statement -> shard.getJdbcTemplate().execute(statement)));
+        log.info("Job offers are stored in {} shards.", shards.size());
+    }
+
+    /**
+     * @return number of shards.
+     */
+    public int size() {
+        return shards.size();
+    }
+
+    /**
+     * @param shard shard number.
+     *
+     * @return template executing statements on the shard.
+     */
+    public NamedParameterJdbcTemplate shard(final int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * It runs statements of the shard in a local transaction of the shard, so they are committed or rolled back together.
+     * The local transaction is not part of the caller's transaction and it is committed before this method returns.
+     *
+     * @param shard shard number.
+     * @param statements statements of the shard.
+     */
+    public void inTransaction(final int shard, final Consumer<NamedParameterJdbcTemplate> statements) {
+        transactionTemplates.get(shard).executeWithoutResult(status -> statements.accept(shards.get(shard)));
+    }
+
+    /**
+     * It runs the query on given shards and concatenates results in the order of shards.
+     *
+     * @param shardIds shards to query.
+     * @param query query of single shard.
+     *
+     * @return results of all queried shards.
+     */
+    public <T> List<T> scatterGather(final Set<Integer> shardIds, final Function<NamedParameterJdbcTemplate, List<T>> query) {
+        return scatterGather(shardIds, (shard, template) -> query.apply(template));
+    }
+
+    /**
+     * It runs the query on given shards and concatenates results in the order of shards.
+     * When a shard fails, it waits until queries of other shards finish before the failure is thrown,
+     * so no statement started by this call is still running when the caller handles the failure.
+     *
+     * @param shardIds shards to query.
+     * @param query query of single shard, given the shard number and its template.
+     *
+     * @return results of all queried shards.
+     */
+    public <T> List<T> scatterGather(final Set<Integer> shardIds, final BiFunction<Integer, NamedParameterJdbcTemplate, List<T>> query) {
+        if (shardIds.size() == 1) {
+            final var shard = shardIds.iterator().next();
+            return query.apply(shard, shards.get(shard));
+        }
+        final var futures = shardIds.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard, shards.get(shard)), executor))
+                .collect(Collectors.toList());
+        final var results = new ArrayList<T>();
+        try {
+            futures.forEach(future -> results.addAll(future.join()));
+        } catch (CompletionException e) {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .exceptionally(failure -> null)
+                    .join();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * It streams the query of given shards merged in given order, rows are fetched from shards in batches as the stream is consumed.
+     * Every shard must return its rows in the same order. Every queried shard holds a connection until the stream is closed.
+     *
+     * @param shardIds shards to query.
+     * @param query streamed query of single shard, run on template fetching rows in batches.
+     * @param order order of rows of every shard and of the merged stream.
+     *
+     * @return merged stream of rows of all queried shards, which must be closed.
+     */
+    public <T> Stream<T> streamMerged(final Set<Integer> shardIds, final Function<NamedParameterJdbcTemplate, Stream<T>> query,
+                                      final Comparator<? super T> order) {
+        final var shardStreams = new ArrayList<Stream<T>>(shardIds.size());
+        final MergingIterator<T> iterator;
+        try {
+            shardIds.forEach(shard -> shardStreams.add(query.apply(streamingShards.get(shard))));
+            iterator = new MergingIterator<>(shardStreams, order);
+        } catch (RuntimeException e) {
+            shardStreams.forEach(Stream::close);
+            throw e;
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> shardStreams.forEach(Stream::close));
+    }
+
+    /**
+     * It runs statements on given shards in parallel.
+     *
+     * @param shardIds shards to update.
+     * @param update statements of single shard, given the shard number and its template.
+     */
+    public void scatter(final Set<Integer> shardIds, final BiConsumer<Integer, NamedParameterJdbcTemplate> update) {
+        scatterGather(shardIds, (shard, template) -> {
+            update.accept(shard, template);
+            return List.of();
+        });
+    }
+
+    /**
+     * Iterator over several ordered iterators which always returns the least of their next elements.
+     */
+    private static final class MergingIterator<T> implements Iterator<T> {
+
+        private final PriorityQueue<Head<T>> heads;
+
+        private MergingIterator(final List<Stream<T>> streams, final Comparator<? super T> order) {
+            this.heads = new PriorityQueue<>(Math.max(1, streams.size()), (first, second) -> order.compare(first.element, second.element));
+            streams.forEach(stream -> advance(stream.iterator()));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            final var head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            advance(head.iterator);
+            return head.element;
+        }
+
+        private void advance(final Iterator<T> iterator) {
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Head<T> {
+        private final T element;
+        private final Iterator<T> iterator;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
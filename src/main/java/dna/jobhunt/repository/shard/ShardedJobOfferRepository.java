@@ -0,0 +1,282 @@
+package dna.jobhunt.repository.shard;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.cache.UsernameIdCache;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.JobOfferStorage;
+import dna.jobhunt.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sharded {@link JobOfferStorage} of job offers.
+ * Writes go to the shard owning the job offer, queries go to shards selected by {@link JobOfferShardRouter}
+ * and results of several shards are merged. Ids still come from the identifier generator of {@link JobOffer},
+ * so they use the job offer sequence of the primary database in the same way as job offers stored by Hibernate.
+ * Streaming queries fetch rows of every shard in batches and merge them by id while the stream is consumed.
+ * Job offers of deleted users are deleted from shards once the deletion commits.
+ * <p>
+ * Shard writes are not part of the caller's transaction. Rows of every shard are stored in a local transaction of the shard,
+ * when a shard fails, rows stored in other shards are deleted before the failure is thrown, and when the caller's transaction
+ * does not commit, stored rows are deleted after it completes. Rows may be left in shards when the application stops
+ * between these steps, and other transactions can see them until they are deleted.
+ */
+@Slf4j
+public class ShardedJobOfferRepository implements JobOfferStorage {
+
+    private static final String SELECT_JOB_OFFER = "SELECT id, category, start_date, end_date, employer FROM " + JobOfferShards.TABLE + " ";
+    private static final String VALID = "WHERE category IN (:categories) AND :chosenDate BETWEEN start_date AND end_date";
+    private static final String OF_EMPLOYERS = " AND employer IN (:employers)";
+    private static final String PAGE = " AND id > :after ORDER BY id LIMIT :limit";
+    private static final String BY_ID = " ORDER BY id";
+    private static final String INSERT = "INSERT INTO " + JobOfferShards.TABLE
+            + " (id, category, start_date, end_date, employer_id, employer) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final Category[] CATEGORIES = Category.values();
+    private static final RowMapper<JobOfferDTO> JOB_OFFER_MAPPER = (resultSet, rowNumber) -> new JobOfferDTO(
+            CATEGORIES[resultSet.getInt("category")],
+            resultSet.getObject("start_date", LocalDate.class),
+            resultSet.getObject("end_date", LocalDate.class),
+            resultSet.getString("employer"),
+            resultSet.getInt("id"));
+
+    private final JobOfferShards shards;
+    private final JobOfferShardRouter router;
+    private final SessionFactoryImplementor sessionFactory;
+    private final UserRepository userRepository;
+    private final UsernameIdCache usernameIdCache;
+
+    public ShardedJobOfferRepository(final JobOfferShards shards, final JobOfferShardRouter router, final EntityManagerFactory entityManagerFactory,
+                                     final UserRepository userRepository, final UsernameIdCache usernameIdCache) {
+        this.shards = shards;
+        this.router = router;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.userRepository = userRepository;
+        this.usernameIdCache = usernameIdCache;
+    }
+
+    @Override
+    public <S extends JobOffer> S save(final S jobOffer) {
+        saveAll(List.of(jobOffer));
+        return jobOffer;
+    }
+
+    @Override
+    public <S extends JobOffer> List<S> saveAll(final Iterable<S> jobOffers) {
+        final var saved = StreamSupport.stream(jobOffers.spliterator(), false).collect(Collectors.toList());
+        final var ids = nextIds(saved);
+        final var rowsByShard = new HashMap<Integer, List<Object[]>>();
+        final var usernames = new HashMap<Integer, String>();
+        for (int i = 0; i < saved.size(); i++) {
+            final var jobOffer = saved.get(i);
+            jobOffer.setId(ids.get(i));
+            final var employer = jobOffer.getEmployer();
+            final var employerId = employer != null ? employer.getId() : null;
+            rowsByShard.computeIfAbsent(router.shardOf(jobOffer.getCategory(), employerId), shard -> new ArrayList<>())
+                    .add(new Object[]{jobOffer.getId(), jobOffer.getCategory().ordinal(), jobOffer.getStartDate(), jobOffer.getEndDate(),
+                            employerId, employerUsername(employer, usernames)});
+        }
+        try {
+            shards.scatter(rowsByShard.keySet(), (shard, template) -> shards.inTransaction(shard, shardTemplate -> {
+                log.debug("Storing {} job offers in shard {}.", rowsByShard.get(shard).size(), shard);
+                shardTemplate.getJdbcTemplate().batchUpdate(INSERT, rowsByShard.get(shard));
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Storing job offers in shards {} failed, removing job offers stored in other shards.", rowsByShard.keySet());
+            delete(rowsByShard.keySet(), ids);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.debug("Transaction storing job offers did not commit, removing them from shards {}.", rowsByShard.keySet());
+                        delete(rowsByShard.keySet(), ids);
+                    }
+                }
+            });
+        }
+        return saved;
+    }
+
+    @Override
+    public List<JobOfferDTO> findAllValidJobOffersForCategoriesAndDate(final Collection<Category> categories, final LocalDate chosenDate) {
+        return shards.scatterGather(router.shardsFor(categories, null),
+                shard -> shard.query(SELECT_JOB_OFFER + VALID, validParameters(categories, chosenDate), JOB_OFFER_MAPPER));
+    }
+
+    @Override
+    public List<JobOfferDTO> findAllValidJobOffersForEmployersAndCategoriesAndDate(final Collection<String> employers, final Collection<Category> categories,
+                                                                                  final LocalDate chosenDate) {
+        return shards.scatterGather(shardsFor(categories, employers),
+                shard -> shard.query(SELECT_JOB_OFFER + VALID + OF_EMPLOYERS, validParameters(categories, chosenDate).addValue("employers", employers),
+                        JOB_OFFER_MAPPER));
+    }
+
+    @Override
+    public List<JobOfferDTO> findValidJobOffersPageForCategoriesAndDate(final Collection<Category> categories, final LocalDate chosenDate, final Integer after,
+                                                                       final Pageable pageable) {
+        return page(router.shardsFor(categories, null), SELECT_JOB_OFFER + VALID + PAGE,
+                validParameters(categories, chosenDate).addValue("after", after), pageable);
+    }
+
+    @Override
+    public List<JobOfferDTO> findValidJobOffersPageForEmployersAndCategoriesAndDate(final Collection<String> employers, final Collection<Category> categories,
+                                                                                   final LocalDate chosenDate, final Integer after, final Pageable pageable) {
+        return page(shardsFor(categories, employers), SELECT_JOB_OFFER + VALID + OF_EMPLOYERS + PAGE,
+                validParameters(categories, chosenDate).addValue("employers", employers).addValue("after", after), pageable);
+    }
+
+    @Override
+    public List<JobOfferDTO> findAllJobOfferDTOs() {
+        return shards.scatterGather(router.allShards(), shard -> shard.query(SELECT_JOB_OFFER, JOB_OFFER_MAPPER));
+    }
+
+    @Override
+    public List<JobOfferDTO> findAllNotExpiredJobOffers(final LocalDate chosenDate) {
+        return shards.scatterGather(router.allShards(),
+                shard -> shard.query(SELECT_JOB_OFFER + "WHERE end_date >= :chosenDate", new MapSqlParameterSource("chosenDate", chosenDate), JOB_OFFER_MAPPER));
+    }
+
+    @Override
+    public Stream<JobOfferDTO> streamValidJobOffersForCategoriesAndDate(final Collection<Category> categories, final LocalDate chosenDate) {
+        return stream(router.shardsFor(categories, null), SELECT_JOB_OFFER + VALID + BY_ID, validParameters(categories, chosenDate));
+    }
+
+    @Override
+    public Stream<JobOfferDTO> streamValidJobOffersForEmployersAndCategoriesAndDate(final Collection<String> employers, final Collection<Category> categories,
+                                                                                   final LocalDate chosenDate) {
+        return stream(shardsFor(categories, employers), SELECT_JOB_OFFER + VALID + OF_EMPLOYERS + BY_ID,
+                validParameters(categories, chosenDate).addValue("employers", employers));
+    }
+
+    @Override
+    public Stream<JobOfferDTO> streamAllJobOffers() {
+        return stream(router.allShards(), SELECT_JOB_OFFER + BY_ID, new MapSqlParameterSource());
+    }
+
+    public long count() {
+        return shards.scatterGather(router.allShards(),
+                        shard -> List.of(shard.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM " + JobOfferShards.TABLE, Long.class)))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public void deleteAll() {
+        deleteAllInBatch();
+    }
+
+    public void deleteAllInBatch() {
+        shards.scatter(router.allShards(), (shard, template) -> template.getJdbcTemplate().update("DELETE FROM " + JobOfferShards.TABLE));
+    }
+
+    /**
+     * It updates employer username stored with job offers of renamed user.
+     *
+     * @param event user rename event.
+     */
+    @EventListener
+    public void onUserRenamed(final UserRenamedEvent event) {
+        final var parameters = new MapSqlParameterSource("employer", event.getNewUsername()).addValue("employerId", event.getUserId());
+        shards.scatter(router.allShards(), (shard, template) ->
+                template.update("UPDATE " + JobOfferShards.TABLE + " SET employer = :employer WHERE employer_id = :employerId", parameters));
+    }
+
+    /**
+     * It deletes job offers of deleted user from all shards once the deletion commits, as shards have no foreign key to users.
+     *
+     * @param event user deletion event.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDeleted(final UserDeletedEvent event) {
+        final var parameters = new MapSqlParameterSource("employerId", event.getUserId());
+        shards.scatter(router.allShards(), (shard, template) -> {
+            final var deleted = template.update("DELETE FROM " + JobOfferShards.TABLE + " WHERE employer_id = :employerId", parameters);
+            log.debug("Deleted {} job offers of deleted user {} from shard {}.", deleted, event.getUserId(), shard);
+        });
+    }
+
+    private List<Integer> nextIds(final List<? extends JobOffer> jobOffers) {
+        final var generator = sessionFactory.getMetamodel().entityPersister(JobOffer.class).getIdentifierGenerator();
+        try (var session = sessionFactory.openStatelessSession()) {
+            return jobOffers.stream()
+                    .map(jobOffer -> (Integer) generator.generate((SharedSessionContractImplementor) session, jobOffer))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void delete(final Set<Integer> shardIds, final List<Integer> ids) {
+        shards.scatter(shardIds, (shard, template) ->
+                template.update("DELETE FROM " + JobOfferShards.TABLE + " WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids)));
+    }
+
+    private List<JobOfferDTO> page(final Set<Integer> shardIds, final String sql, final MapSqlParameterSource parameters, final Pageable pageable) {
+        final var rowsPerShard = pageable.getOffset() + pageable.getPageSize();
+        return shards.scatterGather(shardIds, shard -> shard.query(sql, new MapSqlParameterSource(parameters.getValues()).addValue("limit", rowsPerShard),
+                        JOB_OFFER_MAPPER))
+                .stream()
+                .sorted(Comparator.comparing(JobOfferDTO::getId))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+    }
+
+    private Stream<JobOfferDTO> stream(final Set<Integer> shardIds, final String sql, final MapSqlParameterSource parameters) {
+        return shards.streamMerged(shardIds, shard -> shard.queryForStream(sql, parameters, JOB_OFFER_MAPPER), Comparator.comparing(JobOfferDTO::getId));
+    }
+
+    private Set<Integer> shardsFor(final Collection<Category> categories, final Collection<String> employers) {
+        if (!router.routesByEmployer()) {
+            return router.shardsFor(categories, null);
+        }
+        final var employerIds = employers.stream()
+                .map(employer -> usernameIdCache.get(employer, userRepository::findIdByUsername))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        return router.shardsFor(categories, employerIds);
+    }
+
+    private static MapSqlParameterSource validParameters(final Collection<Category> categories, final LocalDate chosenDate) {
+        return new MapSqlParameterSource("categories", categories.stream().map(Category::ordinal).collect(Collectors.toList()))
+                .addValue("chosenDate", chosenDate);
+    }
+
+    private String employerUsername(final User employer, final Map<Integer, String> usernames) {
+        if (employer == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(employer)) {
+            return employer.getUsername();
+        }
+        return usernames.computeIfAbsent(employer.getId(), id -> userRepository.findUsernameById(id).orElse(null));
+    }
+}
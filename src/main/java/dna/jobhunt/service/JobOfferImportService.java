@@ -0,0 +1,26 @@
+package dna.jobhunt.service;
+
+import dna.jobhunt.api.dto.BulkImportResultDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Service for bulk import of {@link dna.jobhunt.domain.JobOffer}
+ */
+public interface JobOfferImportService {
+
+    /**
+     * Imports job offers given as newline delimited JSON of {@link dna.jobhunt.api.dto.JobOfferDetailsDTO}.
+     * Lines are read, validated and stored one batch at a time, so input of any size can be imported.
+     * Invalid lines and lines of batches which could not be stored are rejected, other lines are stored,
+     * so the result reports partial import when storing of some batch failed.
+     *
+     * @param ndjson reader of job offers, one JSON object per line.
+     *
+     * @return number of stored job offers and errors of rejected lines.
+     *
+     * @throws IOException when input cannot be read.
+     */
+    BulkImportResultDTO importJobOffers(final Reader ndjson) throws IOException;
+}
@@ -2,10 +2,13 @@ package dna.jobhunt.service;
 
 import dna.jobhunt.api.dto.JobOfferDTO;
 import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
 import dna.jobhunt.domain.Category;
 import dna.jobhunt.domain.JobOffer;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * Service for managing {@link dna.jobhunt.domain.JobOffer}
@@ -22,14 +25,63 @@ public interface JobOfferService {
     JobOfferDTO addJobOffer(final JobOfferDetailsDTO jobOfferDetailsDTO);
 
     /**
-     * It get valid job offers for given category and employer.
-     * Valid job offer is when the current date is between {@link JobOffer#getStartDate()}
+     * It get valid job offers for any of given categories and any of given employers.
+     * Valid job offer is when the chosen date is between {@link JobOffer#getStartDate()}
      * and {@link JobOffer#getEndDate()}.
      *
-     * @param category job offer category
-     * @param employer employer username.
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date chosen date, current date when null.
      *
-     * @return collection of valid jobs for given category and employer
+     * @return collection of valid jobs for given categories and employers
      */
-    Collection<JobOfferDTO> getValidJobOffersForCategoryAndEmployer(final Category category, final String employer);
+    Collection<JobOfferDTO> getValidJobOffersForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                       final LocalDate date);
+
+    /**
+     * It get single page of valid job offers for any of given categories and any of given employers ordered by id.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date chosen date, current date when null.
+     * @param after id of the last job offer from previous page, null for the first page.
+     * @param limit maximal number of returned job offers.
+     *
+     * @return page of valid jobs for given categories and employers
+     */
+    KeysetPageDTO<JobOfferDTO> getValidJobOffersPageForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                             final LocalDate date, final Integer after, final int limit);
+
+    /**
+     * It get job offers which were valid on given past date for any of given categories and any of given employers,
+     * including job offers which were already archived.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date chosen past date.
+     *
+     * @return collection of job offers valid on given date ordered by id.
+     */
+    Collection<JobOfferDTO> getJobOfferHistoryForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                        final LocalDate date);
+
+    /**
+     * It passes valid job offers for any of given categories and any of given employers one by one to given consumer,
+     * without keeping the whole result in memory.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date chosen date, current date when null.
+     * @param consumer consumer of valid job offers.
+     */
+    void forEachValidJobOffer(final Collection<Category> categories, final Collection<String> employers, final LocalDate date,
+                              final Consumer<JobOfferDTO> consumer);
+
+    /**
+     * It passes all existing job offers ordered by id one by one to given consumer,
+     * without keeping the whole result in memory.
+     *
+     * @param consumer consumer of job offers.
+     */
+    void forEachJobOffer(final Consumer<JobOfferDTO> consumer);
 }
@@ -0,0 +1,59 @@
+package dna.jobhunt.service;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import dna.jobhunt.domain.Category;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link JobOfferService} used by reactive controllers.
+ */
+public interface ReactiveJobOfferService {
+
+    /**
+     * Create new job offer with given details.
+     *
+     * @param jobOfferDetailsDTO new job offer details.
+     *
+     * @return new job offer data.
+     */
+    Mono<JobOfferDTO> addJobOffer(final JobOfferDetailsDTO jobOfferDetailsDTO);
+
+    /**
+     * Get job offers valid on given date for any of given categories and employers.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid, today when null.
+     *
+     * @return valid job offers.
+     */
+    Flux<JobOfferDTO> getValidJobOffersForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                 final LocalDate date);
+
+    /**
+     * Get single page of job offers valid on given date ordered by id.
+     *
+     * @param categories job offer categories, any category when empty.
+     * @param employers employer usernames, any employer when empty.
+     * @param date date on which job offers must be valid, today when null.
+     * @param after id of the last job offer from previous page, null for the first page.
+     * @param limit maximal number of returned job offers.
+     *
+     * @return page of valid job offers.
+     */
+    Mono<KeysetPageDTO<JobOfferDTO>> getValidJobOffersPageForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                                   final LocalDate date, final Integer after, final int limit);
+
+    /**
+     * Get all job offers ordered by id.
+     *
+     * @return all job offers.
+     */
+    Flux<JobOfferDTO> getJobOffers();
+}
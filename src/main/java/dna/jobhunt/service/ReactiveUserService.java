@@ -0,0 +1,67 @@
+package dna.jobhunt.service;
+
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link UserService} used by reactive controllers.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * Create new user with given details.
+     *
+     * @param userDetailsDTO new user details.
+     *
+     * @return new user data.
+     */
+    Mono<UserDTO> createUser(final UserDetailsDTO userDetailsDTO);
+
+    /**
+     * Update existing user with given data.
+     *
+     * @param userDetailsDTO new user details.
+     * @param id existing user id
+     *
+     * @return updated existing user for given id or empty mono when user does not exist.
+     */
+    Mono<UserDTO> updateUser(final UserDetailsDTO userDetailsDTO, final Integer id);
+
+    /**
+     * Get user data for given id.
+     *
+     * @param id existing user id
+     *
+     * @return user data for given id or empty mono when user does not exist.
+     */
+    Mono<UserDTO> getUserById(final Integer id);
+
+    /**
+     * Get all existing users in the system.
+     *
+     * @return existing users.
+     */
+    Flux<UserDTO> getUsers();
+
+    /**
+     * Get single page of existing users ordered by id.
+     *
+     * @param after id of the last user from previous page, null for the first page.
+     * @param limit maximal number of returned users.
+     *
+     * @return page of existing users.
+     */
+    Mono<KeysetPageDTO<UserDTO>> getUsersPage(final Integer after, final int limit);
+
+    /**
+     * Delete user with given id.
+     *
+     * @param id existing user id.
+     *
+     * @return completion of the deletion.
+     */
+    Mono<Void> deleteUser(final Integer id);
+}
@@ -1,6 +1,7 @@
 package dna.jobhunt.service;
 
 import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
 import dna.jobhunt.api.dto.UserDetailsDTO;
 import dna.jobhunt.domain.User;
 
@@ -49,6 +50,16 @@ public interface UserService {
      */
     Optional<User> getUserByUsername(final String username);
 
+    /**
+     * Get reference to user with given username without loading its data.
+     * Only id of the reference can be read, it is meant for linking other entities to the user.
+     *
+     * @param username existing user username.
+     *
+     * @return reference to user with given username.
+     */
+    Optional<User> getUserReferenceByUsername(final String username);
+
     /**
      * Get all existing users in the system.
      *
@@ -56,6 +67,16 @@ public interface UserService {
      */
     Collection<UserDTO> getUsers();
 
+    /**
+     * Get single page of existing users ordered by id.
+     *
+     * @param after id of the last user from previous page, null for the first page.
+     * @param limit maximal number of returned users.
+     *
+     * @return page of existing users.
+     */
+    KeysetPageDTO<UserDTO> getUsersPage(final Integer after, final int limit);
+
     /**
      * Delete user with given id.
      *
@@ -0,0 +1,246 @@
+package dna.jobhunt.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dna.jobhunt.api.dto.BulkImportErrorDTO;
+import dna.jobhunt.api.dto.BulkImportResultDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.mapper.JobOfferMapper;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.event.JobOffersImportedEvent;
+import dna.jobhunt.exception.EmployerNotFoundException;
+import dna.jobhunt.repository.JobOfferStorage;
+import dna.jobhunt.service.JobOfferImportService;
+import dna.jobhunt.service.UserService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link JobOfferImportService}.
+ * Employers are resolved to references through the username id cache, so lines do not load users,
+ * and every batch is stored in its own transaction, so Hibernate sends its inserts with JDBC batching and ids come from pooled sequence.
+ * Batch which cannot be stored is reported as rejected lines while earlier and later batches stay stored.
+ * Lines longer than {@code jobhunt.bulk-import.max-line-length} characters are rejected without being read into memory.
+ */
+@Service
+@Slf4j
+public class DefaultJobOfferImportService implements JobOfferImportService {
+
+    static final String MALFORMED_JSON_MSG = "Malformed job offer JSON: %s";
+    static final String LINE_TOO_LONG_MSG = "Line is longer than %d characters.";
+    static final String STORE_FAILED_MSG = "Job offer could not be stored, import the line again.";
+
+    private final ObjectReader jobOfferDetailsReader;
+    private final Validator validator;
+    private final UserService userService;
+    private final JobOfferStorage jobOfferRepository;
+    private final JobOfferMapper jobOfferMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    public DefaultJobOfferImportService(final ObjectMapper objectMapper,
+                                        final Validator validator,
+                                        final UserService userService,
+                                        final JobOfferStorage jobOfferRepository,
+                                        final JobOfferMapper jobOfferMapper,
+                                        final TransactionTemplate transactionTemplate,
+                                        final ApplicationEventPublisher eventPublisher,
+                                        @Value("${jobhunt.bulk-import.batch-size:500}") final int batchSize,
+                                        @Value("${jobhunt.bulk-import.max-line-length:10000}") final int maxLineLength) {
+        this.jobOfferDetailsReader = objectMapper.readerFor(JobOfferDetailsDTO.class);
+        this.validator = validator;
+        this.userService = userService;
+        this.jobOfferRepository = jobOfferRepository;
+        this.jobOfferMapper = jobOfferMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkImportResultDTO importJobOffers(final Reader ndjson) throws IOException {
+        final var rejected = new ArrayList<BulkImportErrorDTO>();
+        final var batch = new ArrayList<ImportedLine>(batchSize);
+        final var lines = new BoundedLineReader(ndjson, maxLineLength);
+        var imported = 0;
+        var lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (lines.isTruncated()) {
+                rejected.add(new BulkImportErrorDTO(lineNumber, List.of(String.format(LINE_TOO_LONG_MSG, maxLineLength))));
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            final var errors = new ArrayList<String>();
+            final var importedLine = toImportedLine(lineNumber, line, errors);
+            if (importedLine == null) {
+                rejected.add(new BulkImportErrorDTO(lineNumber, errors));
+                continue;
+            }
+            batch.add(importedLine);
+            if (batch.size() == batchSize) {
+                imported += store(batch, rejected);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += store(batch, rejected);
+        }
+        rejected.sort(Comparator.comparingInt(BulkImportErrorDTO::getLine));
+        log.info("Imported {} job offers, rejected {} lines.", imported, rejected.size());
+
+        return new BulkImportResultDTO(imported, rejected);
+    }
+
+    private ImportedLine toImportedLine(final int lineNumber, final String line, final List<String> errors) {
+        final JobOfferDetailsDTO jobOfferDetailsDTO;
+        try {
+            jobOfferDetailsDTO = jobOfferDetailsReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            errors.add(String.format(MALFORMED_JSON_MSG, e.getOriginalMessage()));
+            return null;
+        } catch (IOException e) {
+            errors.add(String.format(MALFORMED_JSON_MSG, e.getMessage()));
+            return null;
+        }
+        errors.addAll(validator.validate(jobOfferDetailsDTO)
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toList()));
+        if (!errors.isEmpty()) {
+            return null;
+        }
+        final var employer = userService.getUserReferenceByUsername(jobOfferDetailsDTO.getEmployer());
+        if (employer.isEmpty()) {
+            errors.add(EmployerNotFoundException.EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG);
+            return null;
+        }
+        final var jobOffer = jobOfferMapper.toJobOffer(jobOfferDetailsDTO);
+        jobOffer.setEmployer(employer.get());
+        return new ImportedLine(lineNumber, jobOffer, jobOfferDetailsDTO.getEmployer());
+    }
+
+    private int store(final List<ImportedLine> batch, final List<BulkImportErrorDTO> rejected) {
+        log.debug("Storing batch of {} imported job offers.", batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobOfferRepository.saveAll(batch.stream()
+                    .map(ImportedLine::getJobOffer)
+                    .collect(Collectors.toList())));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Storing batch of imported lines {} to {} failed.", batch.get(0).getLineNumber(), batch.get(batch.size() - 1).getLineNumber(), e);
+            batch.forEach(importedLine -> rejected.add(new BulkImportErrorDTO(importedLine.getLineNumber(), List.of(STORE_FAILED_MSG))));
+            return 0;
+        }
+        eventPublisher.publishEvent(new JobOffersImportedEvent(batch.stream()
+                .map(importedLine -> jobOfferMapper.toJobOfferDTO(importedLine.getJobOffer(), importedLine.getEmployer()))
+                .collect(Collectors.toList())));
+        return batch.size();
+    }
+
+    /**
+     * Valid line waiting in batch, employer username is kept because the employer of the job offer is only a reference.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class ImportedLine {
+        private final int lineNumber;
+        private final JobOffer jobOffer;
+        private final String employer;
+    }
+
+    /**
+     * Reads lines ending with {@code \n} or {@code \r\n}, keeping at most the maximal length of every line in memory.
+     */
+    private static final class BoundedLineReader {
+
+        private final Reader reader;
+        private final int maxLineLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean truncated;
+
+        private BoundedLineReader(final Reader reader, final int maxLineLength) {
+            this.reader = reader;
+            this.maxLineLength = maxLineLength;
+        }
+
+        /**
+         * @return next line without line terminator, null at the end of input.
+         */
+        private String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            var read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer), 0);
+                    position = 0;
+                    if (limit == 0) {
+                        return read ? terminated() : null;
+                    }
+                }
+                read = true;
+                final var start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return terminated();
+                }
+            }
+        }
+
+        /**
+         * @return true when the last read line was longer than the maximal length and only its beginning was returned.
+         */
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        private void append(final int start, final int end) {
+            // one character more than the maximal length is kept, it may be the carriage return of the line terminator
+            final var length = Math.max(Math.min(end - start, maxLineLength + 1 - line.length()), 0);
+            line.append(buffer, start, length);
+            truncated |= length < end - start;
+        }
+
+        private String terminated() {
+            if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            truncated |= line.length() > maxLineLength;
+            return line.toString();
+        }
+    }
+}
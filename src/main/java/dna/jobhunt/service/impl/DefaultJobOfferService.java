@@ -2,18 +2,39 @@ package dna.jobhunt.service.impl;
 
 import dna.jobhunt.api.dto.JobOfferDTO;
 import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
 import dna.jobhunt.api.mapper.JobOfferMapper;
+import dna.jobhunt.cache.JobOfferQueryCache;
+import dna.jobhunt.cache.JobOfferQueryCoalescer;
 import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
 import dna.jobhunt.exception.EmployerNotFoundException;
-import dna.jobhunt.repository.JobOfferRepository;
+import dna.jobhunt.index.ActiveJobOfferSnapshot;
+import dna.jobhunt.index.JobOfferIndex;
+import dna.jobhunt.metrics.JobOfferQueryMetrics;
+import dna.jobhunt.metrics.JobOfferQueryMetrics.Mode;
+import dna.jobhunt.metrics.JobOfferQueryMetrics.Source;
+import dna.jobhunt.repository.JobOfferArchiveRepository;
+import dna.jobhunt.repository.JobOfferStorage;
 import dna.jobhunt.service.JobOfferService;
 import dna.jobhunt.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 
 /**
@@ -24,45 +45,194 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class DefaultJobOfferService implements JobOfferService {
 
-    private final JobOfferRepository jobOfferRepository;
+    private final JobOfferStorage jobOfferRepository;
+    private final JobOfferArchiveRepository jobOfferArchiveRepository;
     private final JobOfferMapper jobOfferMapper;
     private final UserService userService;
+    private final JobOfferIndex jobOfferIndex;
+    private final ActiveJobOfferSnapshot activeJobOfferSnapshot;
+    private final JobOfferQueryCache jobOfferQueryCache;
+    private final JobOfferQueryCoalescer jobOfferQueryCoalescer;
+    private final JobOfferQueryMetrics jobOfferQueryMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
+     * Job offer is linked to the employer by id reference, so the employer is not loaded.
      *
      * @throws EmployerNotFoundException when the employer with given username was not found.
      */
     @Override
     public JobOfferDTO addJobOffer(final JobOfferDetailsDTO jobOfferDetailsDTO) {
         log.debug("Creating job offer with data {}.", jobOfferDetailsDTO);
-        final var employer = userService.getUserByUsername(jobOfferDetailsDTO.getEmployer())
+        final var employer = userService.getUserReferenceByUsername(jobOfferDetailsDTO.getEmployer())
                 .orElseThrow(() -> new EmployerNotFoundException(jobOfferDetailsDTO.getEmployer()));
         final var jobOffer = jobOfferMapper.toJobOffer(jobOfferDetailsDTO);
 
         jobOffer.setEmployer(employer);
 
-        return jobOfferMapper.toJobOfferDTO(jobOfferRepository.save(jobOffer));
+        final var createdJobOffer = jobOfferMapper.toJobOfferDTO(jobOfferRepository.save(jobOffer), jobOfferDetailsDTO.getEmployer());
+        eventPublisher.publishEvent(new JobOfferCreatedEvent(createdJobOffer));
+
+        return createdJobOffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     * It is answered from {@link ActiveJobOfferSnapshot} for the current day
+     * and from {@link JobOfferIndex} for other days when they are loaded.
+     * Results are kept in {@link JobOfferQueryCache} and identical concurrent database queries are shared
+     * with {@link JobOfferQueryCoalescer}.
+     * Every query is recorded in {@link JobOfferQueryMetrics} with the source which answered it.
+     * Database fallback fills the shared cache, so it reads from the primary database even when a replica is configured,
+     * while answers from memory do not open a transaction at all.
+     */
+    @Override
+    public Collection<JobOfferDTO> getValidJobOffersForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                              final LocalDate date) {
+        final var chosenDate = date != null ? date : LocalDate.now();
+        final var start = System.nanoTime();
+        final var source = new AtomicReference<>(Source.CACHE);
+        final var jobOffers = jobOfferQueryCache.get(categories, employers, chosenDate, () -> findValidJobOffers(categories, employers, chosenDate, source));
+        jobOfferQueryMetrics.record(categories, employers, Mode.LIST, source.get(), System.nanoTime() - start, jobOffers.size());
+
+        return jobOffers;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Database is queried with seek predicate on id instead of offset and in-memory pages seek in bitmaps of ordered ids,
+     * so every page costs the same.
+     */
+    @Override
+    public KeysetPageDTO<JobOfferDTO> getValidJobOffersPageForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                                    final LocalDate date, final Integer after, final int limit) {
+        final var chosenDate = date != null ? date : LocalDate.now();
+        final var start = System.nanoTime();
+        final var source = new AtomicReference<>(Source.DATABASE);
+        final var page = findValidJobOffersPage(categories, employers, chosenDate, after != null ? after : 0, limit, source);
+        jobOfferQueryMetrics.record(categories, employers, Mode.PAGE, source.get(), System.nanoTime() - start, page.getItems().size());
+
+        return page;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Job offers which are not archived yet are found the same way as current ones and merged with the archive by id,
+     * so a job offer archived in the meantime is returned once. History is not cached.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<JobOfferDTO> getJobOfferHistoryForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                               final LocalDate date) {
+        final var start = System.nanoTime();
+        final var jobOffers = new TreeMap<Integer, JobOfferDTO>();
+        findValidJobOffers(categories, employers, date, new AtomicReference<>()).forEach(jobOffer -> jobOffers.put(jobOffer.getId(), jobOffer));
+        log.debug("Retrieving archived job offers for categories {}, employers {} and date {}.", categories, employers, date);
+        final var archivedJobOffers = employers.isEmpty()
+                ? jobOfferArchiveRepository.findAllJobOffersForCategoriesAndDate(anyIfEmpty(categories), date)
+                : jobOfferArchiveRepository.findAllJobOffersForEmployersAndCategoriesAndDate(employers, anyIfEmpty(categories), date);
+        archivedJobOffers.forEach(jobOffer -> jobOffers.putIfAbsent(jobOffer.getId(), jobOffer));
+        jobOfferQueryMetrics.record(categories, employers, Mode.HISTORY, Source.ARCHIVE, System.nanoTime() - start, jobOffers.size());
+
+        return List.copyOf(jobOffers.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachValidJobOffer(final Collection<Category> categories, final Collection<String> employers, final LocalDate date,
+                                     final Consumer<JobOfferDTO> consumer) {
+        final var chosenDate = date != null ? date : LocalDate.now();
+        log.debug("Streaming valid job offers for categories {}, employers {} and date {}.", categories, employers, chosenDate);
+        final var start = System.nanoTime();
+        final var count = new AtomicInteger();
+        try (var jobOffers = employers.isEmpty()
+                ? jobOfferRepository.streamValidJobOffersForCategoriesAndDate(anyIfEmpty(categories), chosenDate)
+                : jobOfferRepository.streamValidJobOffersForEmployersAndCategoriesAndDate(employers, anyIfEmpty(categories), chosenDate)) {
+            jobOffers.forEach(jobOffer -> {
+                count.incrementAndGet();
+                consumer.accept(jobOffer);
+            });
+        }
+        jobOfferQueryMetrics.record(categories, employers, Mode.STREAM, Source.DATABASE, System.nanoTime() - start, count.get());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Collection<JobOfferDTO> getValidJobOffersForCategoryAndEmployer(final Category category, final String employer) {
-        if (category != null) {
-            if (employer != null) {
-                log.debug("Retrieving valid job offers for category {} and employer {}.", category, employer);
-                return jobOfferMapper.toJobOfferDTOs(jobOfferRepository.findAllValidJobOffersForEmployerAndDateAndCategory(employer, category, LocalDate.now()));
-            }
-            log.debug("Retrieving valid job offers for category {}.", category);
-            return jobOfferMapper.toJobOfferDTOs(jobOfferRepository.findAllValidJobOffersForCategoryAndDate(category, LocalDate.now()));
+    @Transactional(readOnly = true)
+    public void forEachJobOffer(final Consumer<JobOfferDTO> consumer) {
+        log.debug("Streaming all job offers.");
+        try (var jobOffers = jobOfferRepository.streamAllJobOffers()) {
+            jobOffers.forEach(consumer);
         }
-        if (employer != null) {
-            log.debug("Retrieving valid job offers for employer {}.", employer);
-            return jobOfferMapper.toJobOfferDTOs(jobOfferRepository.findAllValidJobOffersForEmployerAndDate(employer, LocalDate.now()));
+    }
+
+    private List<JobOfferDTO> findValidJobOffers(final Collection<Category> categories, final Collection<String> employers, final LocalDate chosenDate,
+                                                 final AtomicReference<Source> source) {
+        final var inMemoryJobOffers = findInMemory(categories, employers,
+                snapshot -> snapshot.findValidJobOffers(categories, employers, chosenDate),
+                index -> index.findValidJobOffers(categories, employers, chosenDate), source);
+        if (inMemoryJobOffers.isPresent()) {
+            return inMemoryJobOffers.get();
+        }
+        source.set(Source.DATABASE);
+        return jobOfferQueryCoalescer.get(categories, employers, chosenDate, () -> queryValidJobOffers(categories, employers, chosenDate));
+    }
+
+    private List<JobOfferDTO> queryValidJobOffers(final Collection<Category> categories, final Collection<String> employers, final LocalDate chosenDate) {
+        if (!employers.isEmpty()) {
+            log.debug("Retrieving valid job offers for categories {} and employers {}.", categories, employers);
+            return jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(employers, anyIfEmpty(categories), chosenDate);
         }
-        log.debug("Retrieving all valid jobs.");
-        return jobOfferMapper.toJobOfferDTOs(jobOfferRepository.findAllValidJobOffersForDate(LocalDate.now()));
+        log.debug("Retrieving valid job offers for categories {}.", categories);
+        return jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(anyIfEmpty(categories), chosenDate);
+    }
+
+    private KeysetPageDTO<JobOfferDTO> findValidJobOffersPage(final Collection<Category> categories, final Collection<String> employers, final LocalDate chosenDate,
+                                                             final int lastId, final int limit, final AtomicReference<Source> source) {
+        final var inMemoryJobOffers = findInMemory(categories, employers,
+                snapshot -> snapshot.findValidJobOffersPage(categories, employers, chosenDate, lastId, limit + 1),
+                index -> index.findValidJobOffersPage(categories, employers, chosenDate, lastId, limit + 1), source);
+        if (inMemoryJobOffers.isPresent()) {
+            return toPage(inMemoryJobOffers.get(), limit);
+        }
+        final var pageRequest = PageRequest.of(0, limit + 1);
+        if (!employers.isEmpty()) {
+            log.debug("Retrieving page of valid job offers for categories {} and employers {} after {}.", categories, employers, lastId);
+            return toPage(jobOfferRepository.findValidJobOffersPageForEmployersAndCategoriesAndDate(employers, anyIfEmpty(categories), chosenDate, lastId, pageRequest), limit);
+        }
+        log.debug("Retrieving page of valid job offers for categories {} after {}.", categories, lastId);
+        return toPage(jobOfferRepository.findValidJobOffersPageForCategoriesAndDate(anyIfEmpty(categories), chosenDate, lastId, pageRequest), limit);
+    }
+
+    private Optional<List<JobOfferDTO>> findInMemory(final Collection<Category> categories, final Collection<String> employers,
+                                                     final Function<ActiveJobOfferSnapshot, Optional<List<JobOfferDTO>>> snapshotQuery,
+                                                     final Function<JobOfferIndex, List<JobOfferDTO>> indexQuery,
+                                                     final AtomicReference<Source> source) {
+        final var activeJobOffers = snapshotQuery.apply(activeJobOfferSnapshot);
+        if (activeJobOffers.isPresent()) {
+            log.debug("Retrieved valid job offers for categories {} and employers {} from active snapshot.", categories, employers);
+            source.set(Source.SNAPSHOT);
+            return activeJobOffers;
+        }
+        if (jobOfferIndex.isReady()) {
+            source.set(Source.INDEX);
+            log.debug("Retrieving indexed valid job offers for categories {} and employers {}.", categories, employers);
+            return Optional.of(indexQuery.apply(jobOfferIndex));
+        }
+        return Optional.empty();
+    }
+
+    private static Collection<Category> anyIfEmpty(final Collection<Category> categories) {
+        return categories.isEmpty() ? EnumSet.allOf(Category.class) : categories;
+    }
+
+    private KeysetPageDTO<JobOfferDTO> toPage(final List<JobOfferDTO> jobOffers, final int limit) {
+        return KeysetPageDTO.of(jobOffers, limit, JobOfferDTO::getId);
     }
 }
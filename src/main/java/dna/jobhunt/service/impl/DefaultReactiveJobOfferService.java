@@ -0,0 +1,116 @@
+package dna.jobhunt.service.impl;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOfferRecord;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.exception.EmployerNotFoundException;
+import dna.jobhunt.repository.ReactiveJobOfferRepository;
+import dna.jobhunt.repository.ReactiveUserRepository;
+import dna.jobhunt.service.ReactiveJobOfferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link ReactiveJobOfferService} reading and writing through R2DBC.
+ * Created job offers are published as {@link JobOfferCreatedEvent}, so in-memory indexes stay coherent.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultReactiveJobOfferService implements ReactiveJobOfferService {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final ReactiveJobOfferRepository jobOfferRepository;
+    private final ReactiveUserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * {@inheritDoc}
+     * Mono fails with {@link EmployerNotFoundException} when the employer with given username was not found.
+     */
+    @Override
+    public Mono<JobOfferDTO> addJobOffer(final JobOfferDetailsDTO jobOfferDetailsDTO) {
+        log.debug("Creating job offer with data {}.", jobOfferDetailsDTO);
+        return userRepository.findOneByUsername(jobOfferDetailsDTO.getEmployer())
+                .switchIfEmpty(Mono.error(() -> new EmployerNotFoundException(jobOfferDetailsDTO.getEmployer())))
+                .flatMap(employer -> jobOfferRepository.nextId()
+                        .flatMap(id -> jobOfferRepository.insert(id, jobOfferDetailsDTO.getCategory().ordinal(), jobOfferDetailsDTO.getStartDate(),
+                                jobOfferDetailsDTO.getEndDate(), employer.getId())
+                                .thenReturn(new JobOfferDTO(jobOfferDetailsDTO.getCategory(), jobOfferDetailsDTO.getStartDate(),
+                                        jobOfferDetailsDTO.getEndDate(), employer.getUsername(), id))))
+                .doOnNext(createdJobOffer -> eventPublisher.publishEvent(new JobOfferCreatedEvent(createdJobOffer)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<JobOfferDTO> getValidJobOffersForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                        final LocalDate date) {
+        final var chosenDate = date != null ? date : LocalDate.now();
+        if (!employers.isEmpty()) {
+            log.debug("Retrieving valid job offers for categories {} and employers {}.", categories, employers);
+            return jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(employers, ordinals(categories), chosenDate)
+                    .map(this::toJobOfferDTO);
+        }
+        log.debug("Retrieving valid job offers for categories {}.", categories);
+        return jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(ordinals(categories), chosenDate)
+                .map(this::toJobOfferDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Database is queried with seek predicate on id instead of offset, so every page costs the same.
+     */
+    @Override
+    public Mono<KeysetPageDTO<JobOfferDTO>> getValidJobOffersPageForCategoriesAndEmployers(final Collection<Category> categories, final Collection<String> employers,
+                                                                                          final LocalDate date, final Integer after, final int limit) {
+        final var chosenDate = date != null ? date : LocalDate.now();
+        final var lastId = after != null ? after : 0;
+        final var jobOffers = employers.isEmpty()
+                ? jobOfferRepository.findValidJobOffersPageForCategoriesAndDate(ordinals(categories), chosenDate, lastId, limit + 1)
+                : jobOfferRepository.findValidJobOffersPageForEmployersAndCategoriesAndDate(employers, ordinals(categories), chosenDate, lastId, limit + 1);
+        log.debug("Retrieving page of valid job offers for categories {} and employers {} after {}.", categories, employers, lastId);
+
+        return jobOffers.map(this::toJobOfferDTO)
+                .collectList()
+                .map(page -> KeysetPageDTO.of(page, limit, JobOfferDTO::getId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<JobOfferDTO> getJobOffers() {
+        log.debug("Retrieving all job offers.");
+        return jobOfferRepository.findAllJobOffersOrderedById()
+                .map(this::toJobOfferDTO);
+    }
+
+    private JobOfferDTO toJobOfferDTO(final JobOfferRecord jobOfferRecord) {
+        return new JobOfferDTO(CATEGORIES[jobOfferRecord.getCategory()], jobOfferRecord.getStartDate(), jobOfferRecord.getEndDate(),
+                jobOfferRecord.getEmployer(), jobOfferRecord.getId());
+    }
+
+    private static List<Integer> ordinals(final Collection<Category> categories) {
+        final var chosenCategories = categories.isEmpty() ? Stream.of(CATEGORIES) : categories.stream();
+        return chosenCategories.map(Category::ordinal)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,133 @@
+package dna.jobhunt.service.impl;
+
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import dna.jobhunt.api.mapper.UserMapper;
+import dna.jobhunt.domain.UserRecord;
+import dna.jobhunt.event.UserCreatedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.ReactiveUserRepository;
+import dna.jobhunt.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link ReactiveUserService} reading and writing through R2DBC.
+ * It publishes the same user events as {@link DefaultUserService}.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultReactiveUserService implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<UserDTO> createUser(final UserDetailsDTO userDetailsDTO) {
+        log.debug("Creating user with data {}.", userDetailsDTO);
+        final var creationDate = LocalDateTime.now();
+
+        return userRepository.nextId()
+                .flatMap(id -> userRepository.insert(id, userDetailsDTO.getUsername(), userDetailsDTO.getPassword(), creationDate)
+                        .thenReturn(new UserRecord(id, userDetailsDTO.getUsername(), userDetailsDTO.getPassword(), creationDate)))
+                .doOnNext(user -> eventPublisher.publishEvent(new UserCreatedEvent(user.getId(), user.getUsername())))
+                .map(userMapper::toUserDTO);
+    }
+
+    /**
+     * Updates only set fields in {@link UserDetailsDTO}.
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<UserDTO> updateUser(final UserDetailsDTO userDetailsDTO, final Integer id) {
+        return userRepository.findById(id)
+                .flatMap(user -> updateUserWithData(user, userDetailsDTO))
+                .map(userMapper::toUserDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<UserDTO> getUserById(final Integer id) {
+        log.debug("Retrieving user with id {}", id);
+
+        return userRepository.findById(id)
+                .map(userMapper::toUserDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<UserDTO> getUsers() {
+        log.debug("Retrieving all existing users");
+
+        return userRepository.findAll()
+                .map(userMapper::toUserDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     * It seeks by id instead of using offset, so every page costs the same.
+     */
+    @Override
+    public Mono<KeysetPageDTO<UserDTO>> getUsersPage(final Integer after, final int limit) {
+        log.debug("Retrieving {} users after id {}", limit, after);
+
+        return userRepository.findAllByIdGreaterThanOrderByIdAsc(after != null ? after : 0, limit + 1)
+                .map(userMapper::toUserDTO)
+                .collectList()
+                .map(users -> KeysetPageDTO.of(users, limit, UserDTO::getId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> deleteUser(final Integer id) {
+        log.debug("Deleting user user with id {}", id);
+
+        return userRepository.findById(id)
+                .flatMap(user -> userRepository.deleteById(id)
+                        .doOnSuccess(deleted -> eventPublisher.publishEvent(new UserDeletedEvent(id, user.getUsername()))));
+    }
+
+    private Mono<UserRecord> updateUserWithData(final UserRecord user, final UserDetailsDTO userDetailsDTO) {
+        log.debug("Updating user {} with data {}", user, userDetailsDTO);
+        if (userDetailsDTO == null) {
+            return Mono.just(user);
+        }
+        if (null != userDetailsDTO.getPassword()) {
+            user.setPassword(userDetailsDTO.getPassword());
+        }
+        final var oldUsername = user.getUsername();
+        if (null != userDetailsDTO.getUsername()) {
+            user.setUsername(userDetailsDTO.getUsername());
+        }
+        log.debug("Saving user with new data {}", user);
+
+        return userRepository.save(user)
+                .doOnNext(savedUser -> {
+                    if (!Objects.equals(oldUsername, savedUser.getUsername())) {
+                        eventPublisher.publishEvent(new UserRenamedEvent(savedUser.getId(), oldUsername, savedUser.getUsername()));
+                    }
+                });
+    }
+}
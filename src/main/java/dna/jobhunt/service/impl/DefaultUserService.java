@@ -1,17 +1,26 @@
 package dna.jobhunt.service.impl;
 
 import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
 import dna.jobhunt.api.dto.UserDetailsDTO;
 import dna.jobhunt.api.mapper.UserMapper;
+import dna.jobhunt.cache.UsernameIdCache;
 import dna.jobhunt.domain.User;
+import dna.jobhunt.event.UserCreatedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
 import dna.jobhunt.repository.UserRepository;
 import dna.jobhunt.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -24,6 +33,8 @@ public class DefaultUserService implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UsernameIdCache usernameIdCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -33,8 +44,10 @@ public class DefaultUserService implements UserService {
         log.debug("Creating user with data {}.", userDetailsDTO);
         final var user = userMapper.toUser(userDetailsDTO);
         user.setCreationDate(LocalDateTime.now());
+        final var createdUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserCreatedEvent(createdUser.getId(), createdUser.getUsername()));
 
-        return userMapper.toUserDTO(userRepository.save(user));
+        return userMapper.toUserDTO(createdUser);
     }
 
     /**
@@ -51,8 +64,10 @@ public class DefaultUserService implements UserService {
 
     /**
      * {@inheritDoc}
+     * It reads from the replica when one is configured.
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(final Integer id) {
         log.debug("Retrieving user with id {}", id);
 
@@ -70,22 +85,48 @@ public class DefaultUserService implements UserService {
 
     /**
      * {@inheritDoc}
+     * Id of the user is resolved through {@link UsernameIdCache}, which loads it from the primary database and caches unknown usernames too.
      */
     @Override
+    public Optional<User> getUserReferenceByUsername(final String username) {
+        return usernameIdCache.get(username, userRepository::findIdByUsername)
+                .map(userRepository::getReferenceById);
+    }
+
+    /**
+     * {@inheritDoc}
+     * It reads from the replica when one is configured.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public Collection<UserDTO> getUsers() {
         log.debug("Retrieving collection of all existing user");
 
         return userMapper.toUserDTOList(userRepository.findAll());
     }
 
+    /**
+     * {@inheritDoc}
+     * It seeks by id instead of using offset, so every page costs the same.
+     */
+    @Override
+    public KeysetPageDTO<UserDTO> getUsersPage(final Integer after, final int limit) {
+        log.debug("Retrieving {} users after id {}", limit, after);
+        final var users = userRepository.findAllByIdGreaterThanOrderByIdAsc(after != null ? after : 0, PageRequest.of(0, limit + 1));
+
+        return KeysetPageDTO.of(userMapper.toUserDTOList(users), limit, UserDTO::getId);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void deleteUser(final Integer id) {
         log.debug("Deleting user user with id {}", id);
+        final var username = userRepository.findById(id).map(User::getUsername);
         userRepository.deleteById(id);
         log.debug("Deleted user with id {}", id);
+        username.ifPresent(deletedUsername -> eventPublisher.publishEvent(new UserDeletedEvent(id, deletedUsername)));
     }
 
     private void updateUserWithData(User user, UserDetailsDTO userDetailsDTO) {
@@ -96,11 +137,15 @@ public class DefaultUserService implements UserService {
         if (null != userDetailsDTO.getPassword()) {
             user.setPassword(userDetailsDTO.getPassword());
         }
+        final var oldUsername = user.getUsername();
         if (null != userDetailsDTO.getUsername()) {
             user.setUsername(userDetailsDTO.getUsername());
         }
         log.debug("Saving user with new data {}", user);
 
         userRepository.save(user);
+        if (!Objects.equals(oldUsername, user.getUsername())) {
+            eventPublisher.publishEvent(new UserRenamedEvent(user.getId(), oldUsername, user.getUsername()));
+        }
     }
 }
@@ -0,0 +1,54 @@
+package dna.jobhunt.openapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dna.jobhunt.JobhuntApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build time OpenAPI generator. It starts {@link JobhuntApplication} on a random local port with Springfox enabled,
+ * reads the specification built from {@code @Api*} annotations of controllers and DTOs and writes it to the file given
+ * as the first argument. Host of the generator run is removed, so the specification is relative to the serving host.
+ * Run with {@code ./gradlew generateOpenApi}, the specification is packaged as {@code /openapi.json} by {@code bootJar}.
+ */
+public final class OpenApiGenerator {
+
+    private static final String API_DOCS_PATH = "/v2/api-docs";
+
+    private OpenApiGenerator() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var specFile = Path.of(args[0]);
+        final ConfigurableApplicationContext application = new SpringApplicationBuilder(JobhuntApplication.class)
+                .properties("server.port=0", "server.address=127.0.0.1", "logging.level.root=WARN",
+                        "jobhunt.springfox.enabled=true", "jobhunt.job-offer-index.enabled=false", "jobhunt.active-snapshot.enabled=false")
+                .run();
+        try {
+            final var port = application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            final var response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + API_DOCS_PATH)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Reading " + API_DOCS_PATH + " failed with status " + response.statusCode());
+            }
+            final var objectMapper = new ObjectMapper();
+            final var spec = (ObjectNode) objectMapper.readTree(response.body());
+            spec.remove("host");
+            Files.createDirectories(specFile.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(specFile.toFile(), spec);
+            System.out.printf("OpenAPI specification written to %s%n", specFile.toAbsolutePath());
+        } finally {
+            application.close();
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,62 @@
+package dna.jobhunt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Guards startup of the fast startup profile. Components on the request path and scheduled components
+ * must be initialized when the application is ready.
+ * Time to ready is checked only by {@code gradle benchmark}, as wall-clock time depends on the machine: it is logged and must not exceed
+ * {@value #DEFAULT_MAX_TIME_TO_READY_MILLIS} ms, which can be changed with {@code -Dstartup.maxTimeToReadyMillis}.
+ */
+@Slf4j
+class StartupTimeTest {
+
+    private static final long DEFAULT_MAX_TIME_TO_READY_MILLIS = 15_000;
+
+    @DisplayName("It should get ready with request path and scheduled components initialized.")
+    @Test
+    public void eagerComponents() {
+        try (var application = start(new AtomicLong())) {
+            assertThat(application.getBeanFactory().containsSingleton("jobOfferController"), equalTo(true));
+            assertThat(application.getBeanFactory().containsSingleton("defaultJobOfferService"), equalTo(true));
+            assertThat(application.getBeanFactory().containsSingleton("jobOfferArchiver"), equalTo(true));
+        }
+    }
+
+    @DisplayName("It should get ready within startup time budget.")
+    @Tag("benchmark")
+    @Test
+    public void timeToReady() {
+        final var maxTimeToReadyMillis = Long.getLong("startup.maxTimeToReadyMillis", DEFAULT_MAX_TIME_TO_READY_MILLIS);
+        final var readyAt = new AtomicLong();
+        final var start = System.nanoTime();
+
+        try (var application = start(readyAt)) {
+            final var timeToReadyMillis = (readyAt.get() - start) / 1_000_000;
+            log.info("Application with fast startup profile was ready in {} ms, budget is {} ms.", timeToReadyMillis, maxTimeToReadyMillis);
+
+            assertThat(timeToReadyMillis, lessThanOrEqualTo(maxTimeToReadyMillis));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(final AtomicLong readyAt) {
+        return new SpringApplicationBuilder(JobhuntApplication.class)
+                .profiles("fast-startup")
+                .properties("server.port=0", "logging.level.root=WARN")
+                .listeners((ApplicationListener<ApplicationReadyEvent>) event -> readyAt.set(System.nanoTime()))
+                .run();
+    }
+}
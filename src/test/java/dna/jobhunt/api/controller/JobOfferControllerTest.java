@@ -1,10 +1,18 @@
 package dna.jobhunt.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import dna.jobhunt.api.converter.ProtobufDtoCodec;
+import dna.jobhunt.api.converter.ProtobufDtoHttpMessageConverter;
+import dna.jobhunt.api.dto.BulkImportErrorDTO;
+import dna.jobhunt.api.dto.BulkImportResultDTO;
 import dna.jobhunt.api.dto.JobOfferDTO;
 import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
 import dna.jobhunt.domain.Category;
 import dna.jobhunt.exception.EmployerNotFoundException;
+import dna.jobhunt.feed.JobOfferFeed;
+import dna.jobhunt.service.JobOfferImportService;
 import dna.jobhunt.service.JobOfferService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,26 +25,36 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +76,8 @@ class JobOfferControllerTest {
     private static final String START_DATE_NOT_NULL = "Start date cannot be null.";
     private static final String END_DATE_NOT_NULL = "End date cannot be null.";
     private static final String EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG = "Employer username must belong to existing user.";
+    private static final String LIMIT_MIN_MSG = "Limit must be at least 1.";
+    private static final String DATE_PAST_MSG = "Date must be in the past.";
 
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
@@ -70,10 +90,16 @@ class JobOfferControllerTest {
     @MockBean
     private JobOfferService jobOfferService;
 
+    @MockBean
+    private JobOfferImportService jobOfferImportService;
+
+    @MockBean
+    private JobOfferFeed jobOfferFeed;
+
     @DisplayName("It should return all job offers for specified category and employer.")
     @Test
     public void getValidJobOffersForCategoryAndEmployer() throws Exception {
-        when(jobOfferService.getValidJobOffersForCategoryAndEmployer(eq(Category.Courier), eq(EMPLOYER_USERNAME)))
+        when(jobOfferService.getValidJobOffersForCategoriesAndEmployers(eq(List.of(Category.Courier)), eq(List.of(EMPLOYER_USERNAME)), isNull()))
                 .thenReturn(List.of(createMockJobOffer1(), createMockJobOffer2()));
 
         mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
@@ -99,7 +125,7 @@ class JobOfferControllerTest {
     @DisplayName("It should return all job offers for not specified category and employer.")
     @Test
     public void getValidJobOffersAll() throws Exception {
-        when(jobOfferService.getValidJobOffersForCategoryAndEmployer(isNull(), isNull()))
+        when(jobOfferService.getValidJobOffersForCategoriesAndEmployers(eq(List.of()), eq(List.of()), isNull()))
                 .thenReturn(List.of(createMockJobOffer1(), createMockJobOffer2()));
 
         mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
@@ -120,6 +146,162 @@ class JobOfferControllerTest {
                 .andExpect(jsonPath("$[1].startDate", equalTo(dateTimeFormatter.format(START_DATE_2))));
     }
 
+    @DisplayName("It should return job offers for any of repeated categories and employers.")
+    @Test
+    public void getValidJobOffersForRepeatedParameters() throws Exception {
+        when(jobOfferService.getValidJobOffersForCategoriesAndEmployers(eq(List.of(Category.Courier, Category.IT)), eq(List.of(EMPLOYER_USERNAME, "other")), isNull()))
+                .thenReturn(List.of(createMockJobOffer1()));
+
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
+                .param("category", Category.Courier.toString(), Category.IT.toString())
+                .param("employer", EMPLOYER_USERNAME, "other")
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(JOB_OFFER_ID_1)));
+    }
+
+    @DisplayName("It should return job offers valid on given date.")
+    @Test
+    public void getValidJobOffersForDate() throws Exception {
+        when(jobOfferService.getValidJobOffersForCategoriesAndEmployers(eq(List.of()), eq(List.of()), eq(START_DATE_1)))
+                .thenReturn(List.of(createMockJobOffer1()));
+
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
+                .param("date", dateTimeFormatter.format(START_DATE_1))
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(JOB_OFFER_ID_1)));
+    }
+
+    @DisplayName("It should return page of job offers with next page cursor.")
+    @Test
+    public void getValidJobOffersPage() throws Exception {
+        when(jobOfferService.getValidJobOffersPageForCategoriesAndEmployers(eq(List.of(Category.Courier)), eq(List.of()), isNull(), eq(JOB_OFFER_ID_1), eq(1)))
+                .thenReturn(new KeysetPageDTO<>(List.of(createMockJobOffer2()), JOB_OFFER_ID_2));
+
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
+                .param("category", Category.Courier.toString())
+                .param("after", String.valueOf(JOB_OFFER_ID_1))
+                .param("limit", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(KeysetPageResponses.NEXT_CURSOR_HEADER, String.valueOf(JOB_OFFER_ID_2)))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(JOB_OFFER_ID_2)));
+    }
+
+    @DisplayName("It should return 400 for not positive limit.")
+    @Test
+    public void getValidJobOffersPageInvalidLimit() throws Exception {
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
+                .param("limit", "0")
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasItem(LIMIT_MIN_MSG)));
+
+        verify(jobOfferService, never()).getValidJobOffersPageForCategoriesAndEmployers(any(), any(), any(), any(), anyInt());
+    }
+
+    @DisplayName("It should return job offer history for specified category and past date.")
+    @Test
+    public void getJobOfferHistory() throws Exception {
+        final var date = LocalDate.now().minusDays(1);
+        when(jobOfferService.getJobOfferHistoryForCategoriesAndEmployers(eq(List.of(Category.Courier)), eq(List.of()), eq(date)))
+                .thenReturn(List.of(createMockJobOffer1(), createMockJobOffer2()));
+
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH + "/history")
+                .param("category", Category.Courier.toString())
+                .param("date", dateTimeFormatter.format(date))
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(JOB_OFFER_ID_1)))
+                .andExpect(jsonPath("$[1].id", equalTo(JOB_OFFER_ID_2)));
+    }
+
+    @DisplayName("It should return 400 for job offer history of today.")
+    @Test
+    public void getJobOfferHistoryNotPastDate() throws Exception {
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH + "/history")
+                .param("date", dateTimeFormatter.format(LocalDate.now()))
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasItem(DATE_PAST_MSG)));
+
+        verify(jobOfferService, never()).getJobOfferHistoryForCategoriesAndEmployers(any(), any(), any());
+    }
+
+    @DisplayName("It should stream valid job offers for specified category as JSON array.")
+    @Test
+    public void streamValidJobOffersForCategory() throws Exception {
+        doAnswer(invocation -> {
+            final Consumer<JobOfferDTO> consumer = invocation.getArgument(3);
+            consumer.accept(createMockJobOffer1());
+            consumer.accept(createMockJobOffer2());
+            return null;
+        }).when(jobOfferService).forEachValidJobOffer(eq(List.of(Category.Courier)), eq(List.of()), isNull(), any());
+
+        final var mvcResult = mockMvc.perform(get(BASE_JOB_OFFERS_PATH)
+                .param("category", Category.Courier.toString())
+                .param("stream", "true")
+        )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(JOB_OFFER_ID_1)))
+                .andExpect(jsonPath("$[0].startDate", equalTo(dateTimeFormatter.format(START_DATE_1))))
+                .andExpect(jsonPath("$[1].id", equalTo(JOB_OFFER_ID_2)))
+                .andExpect(jsonPath("$[1].employer", equalTo(EMPLOYER_USERNAME)));
+
+        verify(jobOfferService, never()).getValidJobOffersForCategoriesAndEmployers(any(), any(), any());
+    }
+
+    @DisplayName("It should subscribe to job offers of specified categories and employers as Server-Sent Events.")
+    @Test
+    public void subscribeToJobOffers() throws Exception {
+        when(jobOfferFeed.subscribe(eq(List.of(Category.Courier, Category.IT)), eq(List.of(EMPLOYER_USERNAME))))
+                .thenReturn(new SseEmitter());
+
+        mockMvc.perform(get(BASE_JOB_OFFERS_PATH + "/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .param("category", Category.Courier.toString())
+                .param("category", Category.IT.toString())
+                .param("employer", EMPLOYER_USERNAME)
+        )
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+
+        verify(jobOfferFeed, times(1)).subscribe(eq(List.of(Category.Courier, Category.IT)), eq(List.of(EMPLOYER_USERNAME)));
+    }
+
+    @DisplayName("It should export empty JSON array when there are no job offers.")
+    @Test
+    public void exportJobOffersEmpty() throws Exception {
+        final var mvcResult = mockMvc.perform(get(BASE_JOB_OFFERS_PATH + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        verify(jobOfferService, times(1)).forEachJobOffer(any());
+    }
+
     @DisplayName("It should create new user with valid data.")
     @Test
     public void addJobOffer() throws Exception {
@@ -147,6 +329,55 @@ class JobOfferControllerTest {
         assertThat(jobOfferDetailsDTO.getEndDate(), equalTo(END_DATE_1));
     }
 
+    @DisplayName("It should return job offers as CBOR with category ordinals and epoch day dates.")
+    @Test
+    public void getValidJobOffersAsCbor() throws Exception {
+        when(jobOfferService.getValidJobOffersForCategoriesAndEmployers(eq(List.of()), eq(List.of()), isNull()))
+                .thenReturn(List.of(createMockJobOffer1()));
+
+        final var response = mockMvc.perform(get(BASE_JOB_OFFERS_PATH).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        final var jobOffers = new CBORMapper().readTree(response);
+        assertThat(jobOffers.size(), equalTo(1));
+        assertThat(jobOffers.get(0).get("id").intValue(), equalTo(JOB_OFFER_ID_1));
+        assertThat(jobOffers.get(0).get("category").intValue(), equalTo(Category.Courier.ordinal()));
+        assertThat(jobOffers.get(0).get("startDate").longValue(), equalTo(START_DATE_1.toEpochDay()));
+        assertThat(jobOffers.get(0).get("endDate").longValue(), equalTo(END_DATE_1.toEpochDay()));
+    }
+
+    @DisplayName("It should create job offer from Protobuf request and return Protobuf response.")
+    @Test
+    public void addJobOfferAsProtobuf() throws Exception {
+        final var codec = new ProtobufDtoCodec();
+        final var request = new ByteArrayOutputStream();
+        codec.write(createMockJobOfferDetails(), request);
+        when(jobOfferService.addJobOffer(any(JobOfferDetailsDTO.class))).thenReturn(createMockJobOffer1());
+
+        final var response = mockMvc.perform(post(BASE_JOB_OFFERS_PATH)
+                .content(request.toByteArray())
+                .contentType(ProtobufDtoHttpMessageConverter.PROTOBUF)
+                .accept(ProtobufDtoHttpMessageConverter.PROTOBUF)
+        )
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        final var jobOffer = codec.read(JobOfferDTO.class, new ByteArrayInputStream(response));
+        assertThat(jobOffer.getId(), equalTo(JOB_OFFER_ID_1));
+        assertThat(jobOffer.getStartDate(), equalTo(START_DATE_1));
+        final var jobOfferDetailsDTOArgumentCaptor = ArgumentCaptor.forClass(JobOfferDetailsDTO.class);
+        verify(jobOfferService, times(1)).addJobOffer(jobOfferDetailsDTOArgumentCaptor.capture());
+        assertThat(jobOfferDetailsDTOArgumentCaptor.getValue().getCategory(), equalTo(Category.Courier));
+        assertThat(jobOfferDetailsDTOArgumentCaptor.getValue().getEndDate(), equalTo(END_DATE_1));
+    }
+
     @DisplayName("It should throw validation errors.")
     @Test
     public void addJobOfferValidationFail() throws Exception {
@@ -183,6 +414,27 @@ class JobOfferControllerTest {
         verify(jobOfferService, times(1)).addJobOffer(any());
     }
 
+    @DisplayName("It should import newline delimited job offers and return rejected lines.")
+    @Test
+    public void importJobOffers() throws Exception {
+        final var ndjson = objectMapper.writeValueAsString(createMockJobOfferDetails()) + "\n{}\n";
+        when(jobOfferImportService.importJobOffers(any(Reader.class)))
+                .thenReturn(new BulkImportResultDTO(1, List.of(new BulkImportErrorDTO(2, List.of(EMPLOYER_NOT_BLANK_MSG)))));
+
+        mockMvc.perform(post(BASE_JOB_OFFERS_PATH + "/bulk")
+                .content(ndjson)
+                .contentType(JobOfferController.NDJSON_VALUE)
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.rejected", hasSize(1)))
+                .andExpect(jsonPath("$.rejected[0].line", equalTo(2)))
+                .andExpect(jsonPath("$.rejected[0].errors", hasItem(EMPLOYER_NOT_BLANK_MSG)));
+
+        verify(jobOfferImportService, times(1)).importJobOffers(any(Reader.class));
+    }
+
 
     private JobOfferDetailsDTO createMockJobOfferDetails() {
         return JobOfferDetailsDTO.builder()
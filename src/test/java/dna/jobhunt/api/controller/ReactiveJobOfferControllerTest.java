@@ -0,0 +1,168 @@
+package dna.jobhunt.api.controller;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.exception.EmployerNotFoundException;
+import dna.jobhunt.service.ReactiveJobOfferService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@WebFluxTest(controllers = ReactiveJobOfferController.class)
+@ActiveProfiles("reactive")
+class ReactiveJobOfferControllerTest {
+    private static final String BASE_JOB_OFFERS_PATH = "/api/job-offers";
+
+    private static final String EMPLOYER_USERNAME = "test";
+    private static final LocalDate START_DATE_1 = LocalDate.now().minusDays(2);
+    private static final LocalDate END_DATE_1 = LocalDate.now().plusDays(2);
+    private static final int JOB_OFFER_ID_1 = 1;
+    private static final int JOB_OFFER_ID_2 = 2;
+
+    private static final String EMPLOYER_NOT_BLANK_MSG = "Employer username cannot be blank.";
+    private static final String CATEGORY_NOT_NULL_MSG = "Category cannot be null.";
+    private static final String EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG = "Employer username must belong to existing user.";
+    private static final String LIMIT_MIN_MSG = "Limit must be at least 1.";
+
+    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveJobOfferService jobOfferService;
+
+    @DisplayName("It should return job offers for any of repeated categories and employers.")
+    @Test
+    public void getValidJobOffersForRepeatedParameters() {
+        when(jobOfferService.getValidJobOffersForCategoriesAndEmployers(eq(List.of(Category.Courier, Category.IT)), eq(List.of(EMPLOYER_USERNAME)), isNull()))
+                .thenReturn(Flux.just(createMockJobOffer(JOB_OFFER_ID_1), createMockJobOffer(JOB_OFFER_ID_2)));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_JOB_OFFERS_PATH)
+                        .queryParam("category", Category.Courier, Category.IT)
+                        .queryParam("employer", EMPLOYER_USERNAME)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(JOB_OFFER_ID_1)
+                .jsonPath("$[0].employer").isEqualTo(EMPLOYER_USERNAME)
+                .jsonPath("$[0].category").isEqualTo(Category.Courier.toString())
+                .jsonPath("$[0].startDate").isEqualTo(dateTimeFormatter.format(START_DATE_1))
+                .jsonPath("$[0].endDate").isEqualTo(dateTimeFormatter.format(END_DATE_1))
+                .jsonPath("$[1].id").isEqualTo(JOB_OFFER_ID_2);
+    }
+
+    @DisplayName("It should return page of job offers with next page cursor.")
+    @Test
+    public void getValidJobOffersPage() {
+        when(jobOfferService.getValidJobOffersPageForCategoriesAndEmployers(eq(List.of()), eq(List.of()), isNull(), eq(JOB_OFFER_ID_1), eq(1)))
+                .thenReturn(Mono.just(new KeysetPageDTO<>(List.of(createMockJobOffer(JOB_OFFER_ID_2)), JOB_OFFER_ID_2)));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_JOB_OFFERS_PATH)
+                        .queryParam("after", JOB_OFFER_ID_1)
+                        .queryParam("limit", 1)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(KeysetPageResponses.NEXT_CURSOR_HEADER, String.valueOf(JOB_OFFER_ID_2))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(JOB_OFFER_ID_2);
+    }
+
+    @DisplayName("It should return 400 for not positive limit.")
+    @Test
+    public void getValidJobOffersPageInvalidLimit() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_JOB_OFFERS_PATH)
+                        .queryParam("limit", 0)
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$").value(hasItem(LIMIT_MIN_MSG));
+
+        verify(jobOfferService, never()).getValidJobOffersPageForCategoriesAndEmployers(any(), any(), any(), any(), anyInt());
+    }
+
+    @DisplayName("It should create new job offer with valid data.")
+    @Test
+    public void addJobOffer() {
+        when(jobOfferService.addJobOffer(any(JobOfferDetailsDTO.class))).thenReturn(Mono.just(createMockJobOffer(JOB_OFFER_ID_1)));
+
+        webTestClient.post()
+                .uri(BASE_JOB_OFFERS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createMockJobOffer(null))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(JOB_OFFER_ID_1)
+                .jsonPath("$.employer").isEqualTo(EMPLOYER_USERNAME);
+    }
+
+    @DisplayName("It should throw validation errors.")
+    @Test
+    public void addJobOfferValidationFail() {
+        webTestClient.post()
+                .uri(BASE_JOB_OFFERS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new JobOfferDetailsDTO(null, START_DATE_1, END_DATE_1, null))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$").value(hasItem(EMPLOYER_NOT_BLANK_MSG))
+                .jsonPath("$").value(hasItem(CATEGORY_NOT_NULL_MSG));
+
+        verify(jobOfferService, never()).addJobOffer(any(JobOfferDetailsDTO.class));
+    }
+
+    @DisplayName("It should throw employer not found for non existing employer.")
+    @Test
+    public void addJobOfferNotFoundEmployer() {
+        when(jobOfferService.addJobOffer(any(JobOfferDetailsDTO.class))).thenReturn(Mono.error(new EmployerNotFoundException(EMPLOYER_USERNAME)));
+
+        webTestClient.post()
+                .uri(BASE_JOB_OFFERS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createMockJobOffer(null))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$").value(hasItem(EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG));
+    }
+
+    private JobOfferDTO createMockJobOffer(final Integer id) {
+        return new JobOfferDTO(Category.Courier, START_DATE_1, END_DATE_1, EMPLOYER_USERNAME, id);
+    }
+}
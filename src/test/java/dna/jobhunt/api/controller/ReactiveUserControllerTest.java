@@ -0,0 +1,131 @@
+package dna.jobhunt.api.controller;
+
+import dna.jobhunt.api.dto.KeysetPageDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import dna.jobhunt.service.ReactiveUserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@WebFluxTest(controllers = ReactiveUserController.class)
+@ActiveProfiles("reactive")
+class ReactiveUserControllerTest {
+    private final static String USERS_BASE_PATH = "/api/users";
+    private final static String USER_SPECIFIC_PATH = USERS_BASE_PATH + "/{id}";
+
+    private final static LocalDateTime CREATION_DATE_1 = LocalDateTime.of(2019, 11, 10,0,0);
+    private final static int USER_ID_1 = 1;
+    private final static String USERNAME_1 = "test";
+    private final static String PASSWORD_1 = "pass";
+    private final static int USER_ID_2 = 2;
+    private final static String USERNAME_2 = "user";
+    private final static String USERNAME_BLANK_ERROR_MSG = "Username cannot be blank.";
+    private final static String PASSWORD_BLANK_ERROR_MSG = "Password cannot be blank.";
+
+    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm:ss");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUserService userService;
+
+    @DisplayName("It should return 200 and user list.")
+    @Test
+    public void getAllUsers() {
+        when(userService.getUsers()).thenReturn(Flux.just(createMockUser(USER_ID_1, USERNAME_1), createMockUser(USER_ID_2, USERNAME_2)));
+
+        webTestClient.get()
+                .uri(USERS_BASE_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(USER_ID_1)
+                .jsonPath("$[0].username").isEqualTo(USERNAME_1)
+                .jsonPath("$[0].creationDate").isEqualTo(dateTimeFormatter.format(CREATION_DATE_1))
+                .jsonPath("$[1].id").isEqualTo(USER_ID_2)
+                .jsonPath("$[1].username").isEqualTo(USERNAME_2);
+    }
+
+    @DisplayName("It should return 200, page of users and next page cursor.")
+    @Test
+    public void getUsersPage() {
+        when(userService.getUsersPage(null, 1)).thenReturn(Mono.just(new KeysetPageDTO<>(List.of(createMockUser(USER_ID_1, USERNAME_1)), USER_ID_1)));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(USERS_BASE_PATH).queryParam("limit", 1).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(KeysetPageResponses.NEXT_CURSOR_HEADER, String.valueOf(USER_ID_1))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(USER_ID_1);
+    }
+
+    @DisplayName("It should return 404 for not existing user.")
+    @Test
+    public void getUserNotExisting() {
+        when(userService.getUserById(USER_ID_1)).thenReturn(Mono.empty());
+
+        webTestClient.get()
+                .uri(USER_SPECIFIC_PATH, USER_ID_1)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @DisplayName("It should return 204 for successful deleting existing user.")
+    @Test
+    public void deleteUser() {
+        when(userService.deleteUser(USER_ID_1)).thenReturn(Mono.empty());
+
+        webTestClient.delete()
+                .uri(USER_SPECIFIC_PATH, USER_ID_1)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(userService).deleteUser(USER_ID_1);
+    }
+
+    @DisplayName("It should return 400 for blank user data.")
+    @Test
+    public void createUserValidationFail() {
+        webTestClient.post()
+                .uri(USERS_BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDetailsDTO(" ", null))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$").value(hasItem(USERNAME_BLANK_ERROR_MSG))
+                .jsonPath("$").value(hasItem(PASSWORD_BLANK_ERROR_MSG));
+
+        verify(userService, never()).createUser(any(UserDetailsDTO.class));
+    }
+
+    private UserDTO createMockUser(final int id, final String username) {
+        return new UserDTO(username, PASSWORD_1, id, CREATION_DATE_1);
+    }
+}
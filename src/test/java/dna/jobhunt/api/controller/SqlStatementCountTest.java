@@ -0,0 +1,144 @@
+package dna.jobhunt.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.repository.JobOfferRepository;
+import dna.jobhunt.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static dna.jobhunt.metrics.SqlStatementAssertions.assertSqlCount;
+import static dna.jobhunt.metrics.SqlStatementAssertions.assertSqlCountAtMost;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks number of SQL statements executed by requests against the whole application stack.
+ * Job offer index and active snapshot are disabled, so job offer queries reach the database.
+ */
+@SpringBootTest(properties = {
+        "jobhunt.sql.fail-on-budget-exceeded=true",
+        "jobhunt.job-offer-index.enabled=false",
+        "jobhunt.active-snapshot.enabled=false",
+        "jobhunt.archival.enabled=false"
+})
+@AutoConfigureMockMvc
+class SqlStatementCountTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @DisplayName("It should load user with single statement.")
+    @Test
+    public void getUser() throws Exception {
+        final var user = createUser("sqlCountUser");
+
+        mockMvc.perform(get("/api/users/{id}", user.getId()).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(assertSqlCount(1));
+    }
+
+    @DisplayName("It should add job offer with employer id lookup, id allocation and insert at most.")
+    @Test
+    public void addJobOffer() throws Exception {
+        final var employer = createUser("sqlCountAddEmployer");
+
+        mockMvc.perform(post("/api/job-offers")
+                .content(objectMapper.writeValueAsString(new JobOfferDetailsDTO(Category.IT, TODAY, TODAY.plusDays(1), employer.getUsername())))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(assertSqlCountAtMost(3));
+    }
+
+    @DisplayName("It should query valid job offers of category and employer with single statement.")
+    @Test
+    public void getValidJobOffersForCategoryAndEmployer() throws Exception {
+        final var employer = createUser("sqlCountFilterEmployer");
+        createJobOffers(employer, Category.Drinks, 3);
+
+        mockMvc.perform(get("/api/job-offers")
+                .param("category", Category.Drinks.toString())
+                .param("employer", employer.getUsername())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(assertSqlCountAtMost(1));
+    }
+
+    @DisplayName("It should query page of valid job offers with single statement.")
+    @Test
+    public void getValidJobOffersPage() throws Exception {
+        final var employer = createUser("sqlCountPageEmployer");
+        createJobOffers(employer, Category.Food_And_Drink, 5);
+
+        mockMvc.perform(get("/api/job-offers")
+                .param("employer", employer.getUsername())
+                .param("limit", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(assertSqlCountAtMost(1));
+    }
+
+    @DisplayName("It should rename user with select and update.")
+    @Test
+    public void renameUser() throws Exception {
+        final var user = createUser("sqlCountRenamedUser");
+
+        mockMvc.perform(patch("/api/users/{id}", user.getId())
+                .content(objectMapper.writeValueAsString(UserDetailsDTO.builder().username("sqlCountNewUsername").build()))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username", equalTo("sqlCountNewUsername")))
+                .andExpect(assertSqlCountAtMost(2));
+    }
+
+    private User createUser(final String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("pass")
+                .creationDate(LocalDateTime.now())
+                .build());
+    }
+
+    private void createJobOffers(final User employer, final Category category, final int count) {
+        jobOfferRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> JobOffer.builder()
+                        .category(category)
+                        .startDate(TODAY.minusDays(1))
+                        .endDate(TODAY.plusDays(1))
+                        .employer(employer)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+}
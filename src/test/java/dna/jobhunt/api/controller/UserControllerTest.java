@@ -1,6 +1,10 @@
 package dna.jobhunt.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dna.jobhunt.api.converter.ProtobufDtoCodec;
+import dna.jobhunt.api.converter.ProtobufDtoHttpMessageConverter;
+import dna.jobhunt.api.dto.KeysetPageDTO;
 import dna.jobhunt.api.dto.UserDTO;
 import dna.jobhunt.api.dto.UserDetailsDTO;
 import dna.jobhunt.service.UserService;
@@ -16,7 +20,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +42,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest(controllers = UserController.class)
 class UserControllerTest {
     private final static String USERS_BASE_PATH = "/api/users";
+    private final static MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
     private final static String USER_SPECIFIC_PATH = USERS_BASE_PATH + "/{id}";
 
     private final static LocalDateTime CREATION_DATE_1 = LocalDateTime.of(2019, 11, 10,0,0);
@@ -89,6 +97,34 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.[1].creationDate", equalTo(dateTimeFormatter.format(CREATION_DATE_2))));
     }
 
+    @DisplayName("It should return 200, page of users and next page cursor.")
+    @Test
+    public void getUsersPage() throws Exception {
+        when(userService.getUsersPage(null, 1)).thenReturn(new KeysetPageDTO<>(List.of(createMockUser()), USER_ID_1));
+
+        mockMvc.perform(get(USERS_BASE_PATH).param("limit", "1").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(KeysetPageResponses.NEXT_CURSOR_HEADER, String.valueOf(USER_ID_1)))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$.[0].id", equalTo(USER_ID_1)));
+    }
+
+    @DisplayName("It should return 200 and last page of users without cursor.")
+    @Test
+    public void getUsersLastPage() throws Exception {
+        when(userService.getUsersPage(USER_ID_1, 10)).thenReturn(new KeysetPageDTO<>(createMockUserList().subList(1, 2), null));
+
+        mockMvc.perform(get(USERS_BASE_PATH)
+                .param("after", String.valueOf(USER_ID_1))
+                .param("limit", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetPageResponses.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$.[0].id", equalTo(USER_ID_2)));
+    }
+
     @DisplayName("It should return 200 and existing user.")
     @Test
     public void getUserExisting() throws Exception {
@@ -104,6 +140,43 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.creationDate", equalTo(dateTimeFormatter.format(CREATION_DATE_1))));
     }
 
+    @DisplayName("It should return user as Smile with epoch second creation date.")
+    @Test
+    public void getUserAsSmile() throws Exception {
+        when(userService.getUserById(USER_ID_1)).thenReturn(Optional.of(createMockUser()));
+
+        final var response = mockMvc.perform(get(USER_SPECIFIC_PATH, USER_ID_1).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        final var user = new SmileMapper().readTree(response);
+        assertThat(user.get("id").intValue(), equalTo(USER_ID_1));
+        assertThat(user.get("username").textValue(), equalTo(USERNAME_1));
+        assertThat(user.get("creationDate").longValue(), equalTo(CREATION_DATE_1.toEpochSecond(ZoneOffset.UTC)));
+    }
+
+    @DisplayName("It should return users as Protobuf list.")
+    @Test
+    public void getAllUsersAsProtobuf() throws Exception {
+        when(userService.getUsers()).thenReturn(createMockUserList());
+
+        final var response = mockMvc.perform(get(USERS_BASE_PATH).accept(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        final var users = new ProtobufDtoCodec().readList(UserDTO.class, new ByteArrayInputStream(response));
+        assertThat(users, hasSize(2));
+        assertThat(users.get(0).getUsername(), equalTo(USERNAME_1));
+        assertThat(users.get(1).getId(), equalTo(USER_ID_2));
+        assertThat(users.get(1).getCreationDate(), equalTo(CREATION_DATE_2));
+    }
+
     @DisplayName("It should return 404 for not existing user.")
     @Test
     public void getUserNotExisting() throws Exception {
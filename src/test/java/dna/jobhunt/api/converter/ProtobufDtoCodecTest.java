@@ -0,0 +1,76 @@
+package dna.jobhunt.api.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.domain.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProtobufDtoCodecTest {
+
+    private final ProtobufDtoCodec codec = new ProtobufDtoCodec();
+
+    @DisplayName("It should read written list of job offers with missing fields as nulls.")
+    @Test
+    public void jobOffers() throws Exception {
+        final var jobOffer = new JobOfferDTO(Category.Shop_Assistant, LocalDate.of(2019, 11, 14), LocalDate.of(1960, 1, 1), "JoeDoe", 3);
+
+        final var result = codec.readList(JobOfferDTO.class, new ByteArrayInputStream(write(List.of(jobOffer, new JobOfferDTO()))));
+
+        assertThat(result, hasSize(2));
+        assertThat(result.get(0).getCategory(), equalTo(Category.Shop_Assistant));
+        assertThat(result.get(0).getStartDate(), equalTo(LocalDate.of(2019, 11, 14)));
+        assertThat(result.get(0).getEndDate(), equalTo(LocalDate.of(1960, 1, 1)));
+        assertThat(result.get(0).getEmployer(), equalTo("JoeDoe"));
+        assertThat(result.get(0).getId(), equalTo(3));
+        assertThat(result.get(1).getCategory(), nullValue());
+        assertThat(result.get(1).getId(), nullValue());
+    }
+
+    @DisplayName("It should read written user and skip fields not present in target type.")
+    @Test
+    public void user() throws Exception {
+        final var user = new UserDTO("JoeDoe", "pass", 1, LocalDateTime.of(2019, 11, 12, 13, 14, 15));
+
+        final var result = codec.read(UserDTO.class, new ByteArrayInputStream(write(user)));
+        final var details = codec.read(JobOfferDetailsDTO.class, new ByteArrayInputStream(write(new JobOfferDTO(null, null, null, "JoeDoe", 1))));
+
+        assertThat(result.getUsername(), equalTo("JoeDoe"));
+        assertThat(result.getPassword(), equalTo("pass"));
+        assertThat(result.getId(), equalTo(1));
+        assertThat(result.getCreationDate(), equalTo(LocalDateTime.of(2019, 11, 12, 13, 14, 15)));
+        assertThat(details.getEmployer(), equalTo("JoeDoe"));
+    }
+
+    @DisplayName("It should reject unknown category ordinal.")
+    @Test
+    public void unknownCategory() throws Exception {
+        final var bytes = new ByteArrayOutputStream();
+        final var output = CodedOutputStream.newInstance(bytes);
+        output.writeInt32(1, Category.values().length);
+        output.flush();
+
+        assertThrows(InvalidProtocolBufferException.class, () -> codec.read(JobOfferDTO.class, new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private byte[] write(final Object value) throws Exception {
+        final var bytes = new ByteArrayOutputStream();
+        codec.write(value, bytes);
+        return bytes.toByteArray();
+    }
+}
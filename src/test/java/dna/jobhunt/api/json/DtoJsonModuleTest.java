@@ -0,0 +1,79 @@
+package dna.jobhunt.api.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.UserDTO;
+import dna.jobhunt.domain.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DtoJsonModuleTest {
+
+    private static final String JOB_OFFER_JSON = "{\"category\":\"IT\",\"startDate\":\"14-11-2019\",\"endDate\":\"24-12-2019\",\"employer\":\"JoeDoe\",\"id\":7}";
+
+    private final ObjectMapper beanMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new DtoJsonModule());
+
+    @DisplayName("It should write the same JSON as bean serializers.")
+    @Test
+    public void serialize() throws Exception {
+        final var jobOffers = List.of(
+                new JobOfferDTO(Category.Food_And_Drink, LocalDate.of(2019, 11, 14), LocalDate.of(2019, 12, 24), "JoeDoe", 1),
+                new JobOfferDTO(null, null, null, null, null));
+        final var users = List.of(
+                new UserDTO("JoeDoe", "pass", 1, LocalDateTime.of(2019, 11, 12, 0, 5, 9)),
+                new UserDTO("JaneDoe", "pass", 2, LocalDateTime.of(2019, 11, 12, 13, 0, 0)),
+                new UserDTO(null, null, null, null));
+
+        assertThat(moduleMapper.readTree(moduleMapper.writeValueAsString(jobOffers)), equalTo(beanMapper.readTree(beanMapper.writeValueAsString(jobOffers))));
+        assertThat(moduleMapper.readTree(moduleMapper.writeValueAsString(users)), equalTo(beanMapper.readTree(beanMapper.writeValueAsString(users))));
+    }
+
+    @DisplayName("It should read job offer details and job offer.")
+    @Test
+    public void deserializeJobOffer() throws Exception {
+        final var details = moduleMapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(JOB_OFFER_JSON, JobOfferDetailsDTO.class);
+        final var jobOffer = moduleMapper.readValue(JOB_OFFER_JSON, JobOfferDTO.class);
+
+        assertThat(details.getCategory(), equalTo(Category.IT));
+        assertThat(details.getStartDate(), equalTo(LocalDate.of(2019, 11, 14)));
+        assertThat(details.getEndDate(), equalTo(LocalDate.of(2019, 12, 24)));
+        assertThat(details.getEmployer(), equalTo("JoeDoe"));
+        assertThat(jobOffer.getId(), equalTo(7));
+        assertThat(jobOffer.getStartDate(), equalTo(LocalDate.of(2019, 11, 14)));
+    }
+
+    @DisplayName("It should read missing and null properties as null.")
+    @Test
+    public void deserializeNulls() throws Exception {
+        final var jobOffer = moduleMapper.readValue("{\"category\":null,\"startDate\":\"\"}", JobOfferDTO.class);
+
+        assertThat(jobOffer.getCategory(), nullValue());
+        assertThat(jobOffer.getStartDate(), nullValue());
+        assertThat(jobOffer.getEmployer(), nullValue());
+    }
+
+    @DisplayName("It should reject unknown properties, categories and dates like bean deserializers.")
+    @Test
+    public void deserializeInvalid() {
+        assertThrows(UnrecognizedPropertyException.class, () -> moduleMapper.readValue(JOB_OFFER_JSON, JobOfferDetailsDTO.class));
+        assertThrows(InvalidFormatException.class, () -> moduleMapper.readValue("{\"category\":\"Unknown\"}", JobOfferDTO.class));
+        assertThrows(InvalidFormatException.class, () -> moduleMapper.readValue("{\"startDate\":\"2019-11-14\"}", JobOfferDTO.class));
+    }
+}
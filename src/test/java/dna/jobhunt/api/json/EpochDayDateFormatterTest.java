@@ -0,0 +1,53 @@
+package dna.jobhunt.api.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EpochDayDateFormatterTest {
+
+    private final EpochDayDateFormatter dateFormatter = new EpochDayDateFormatter();
+
+    @DisplayName("It should format dates like date time formatter and reuse formatted text.")
+    @Test
+    public void formatDate() {
+        final var date = LocalDate.of(2019, 11, 14);
+
+        final var text = dateFormatter.format(date);
+
+        assertThat(text, equalTo("14-11-2019"));
+        assertThat(dateFormatter.format(LocalDate.of(2019, 11, 14)), sameInstance(text));
+        assertThat(dateFormatter.format(date.plusDays(4096)), equalTo(DateTimeFormatter.ofPattern(EpochDayDateFormatter.DATE_PATTERN).format(date.plusDays(4096))));
+        assertThat(dateFormatter.format(date), equalTo("14-11-2019"));
+    }
+
+    @DisplayName("It should format date times like date time formatter.")
+    @Test
+    public void formatDateTime() {
+        final var formatter = DateTimeFormatter.ofPattern(EpochDayDateFormatter.DATE_TIME_PATTERN);
+        for (int hour = 0; hour < 24; hour++) {
+            final var dateTime = LocalDateTime.of(2019, 11, 12, hour, 5, 9);
+
+            assertThat(dateFormatter.format(dateTime), equalTo(formatter.format(dateTime)));
+        }
+    }
+
+    @DisplayName("It should parse dates like date time formatter.")
+    @Test
+    public void parseDate() {
+        assertThat(dateFormatter.parseDate("14-11-2019"), equalTo(LocalDate.of(2019, 11, 14)));
+        assertThat(dateFormatter.parseDate("31-12-2019"), equalTo(LocalDate.of(2019, 12, 31)));
+        assertThat(dateFormatter.parseDate("31-11-2019"), equalTo(LocalDate.parse("31-11-2019", DateTimeFormatter.ofPattern(EpochDayDateFormatter.DATE_PATTERN))));
+        assertThrows(DateTimeException.class, () -> dateFormatter.parseDate("14-13-2019"));
+        assertThrows(DateTimeException.class, () -> dateFormatter.parseDate("2019-11-14"));
+    }
+}
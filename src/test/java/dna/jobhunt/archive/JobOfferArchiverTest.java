@@ -0,0 +1,181 @@
+package dna.jobhunt.archive;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.event.JobOffersArchivedEvent;
+import dna.jobhunt.index.JobOfferIndex;
+import dna.jobhunt.repository.JobOfferArchiveRepository;
+import dna.jobhunt.repository.JobOfferRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "jobhunt.job-offer-index.enabled=true")
+@Import(JobOfferIndex.class)
+class JobOfferArchiverTest {
+
+    private static final LocalDate CUTOFF_DATE = LocalDate.of(2019, 11, 14);
+    private static final String EMPLOYER_1 = "JoeDoe";
+    private static final String EMPLOYER_2 = "JaneDoe";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JobOfferArchiveRepository jobOfferArchiveRepository;
+
+    @Autowired
+    private JobOfferIndex jobOfferIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<JobOffersArchivedEvent> events = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> expiredIds = new ArrayList<>();
+    private final List<Integer> liveIds = new ArrayList<>();
+    private JobOfferArchiver archiver;
+
+    @BeforeEach
+    public void setUp() {
+        final var employer1 = entityManager.persist(createUser(EMPLOYER_1));
+        final var employer2 = entityManager.persist(createUser(EMPLOYER_2));
+        for (int i = 1; i <= 5; i++) {
+            expiredIds.add(entityManager.persist(createJobOffer(CUTOFF_DATE.minusDays(10), CUTOFF_DATE.minusDays(i), i % 2 == 0 ? employer1 : employer2)).getId());
+        }
+        liveIds.add(entityManager.persist(createJobOffer(CUTOFF_DATE.minusDays(10), CUTOFF_DATE, employer1)).getId());
+        liveIds.add(entityManager.persist(createJobOffer(CUTOFF_DATE.plusDays(1), CUTOFF_DATE.plusDays(10), employer2)).getId());
+        entityManager.flush();
+        entityManager.clear();
+        jobOfferIndex.load();
+
+        archiver = new JobOfferArchiver(jobOfferArchiveRepository, new TransactionTemplate(transactionManager), event -> {
+            events.add((JobOffersArchivedEvent) event);
+            jobOfferIndex.onJobOffersArchived((JobOffersArchivedEvent) event);
+        }, Clock.systemDefaultZone(), meterRegistry, true, 2, 1.0);
+    }
+
+    @DisplayName("It should move expired job offers to the archive in batches keeping their ids.")
+    @Test
+    public void archive() {
+        final var archived = archiver.archive(CUTOFF_DATE);
+
+        assertThat(archived, equalTo(5));
+        assertThat(events.stream().map(event -> event.getJobOffers().size()).collect(Collectors.toList()), contains(2, 2, 1));
+        assertThat(ids(jobOfferRepository.findAllJobOfferDTOs()), containsInAnyOrder(liveIds.toArray()));
+        assertThat(jobOfferArchiveRepository.findAll().stream().map(jobOffer -> jobOffer.getId()).collect(Collectors.toList()),
+                containsInAnyOrder(expiredIds.toArray()));
+        assertThat(meterRegistry.counter(JobOfferArchiver.ARCHIVED_METRIC).count(), equalTo(5.0));
+    }
+
+    @DisplayName("It should remove archived job offers from index.")
+    @Test
+    public void archiveRemovesFromIndex() {
+        archiver.archive(CUTOFF_DATE);
+
+        assertThat(ids(jobOfferIndex.findValidJobOffers(List.of(), List.of(), CUTOFF_DATE.minusDays(5))), contains(liveIds.get(0)));
+    }
+
+    @DisplayName("It should run scheduled archival on its own thread and skip runs while the previous one is in progress.")
+    @Test
+    public void scheduledArchiveRunsOnOwnThread() throws Exception {
+        final var repository = mock(JobOfferArchiveRepository.class);
+        final var started = new CountDownLatch(1);
+        final var released = new CountDownLatch(1);
+        when(repository.findExpiredJobOffers(any(LocalDate.class), any(Pageable.class))).thenAnswer(invocation -> {
+            started.countDown();
+            released.await();
+            return List.of();
+        });
+        final var scheduledArchiver = new JobOfferArchiver(repository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                event -> { }, Clock.systemDefaultZone(), meterRegistry, true, 2, 1.0);
+
+        scheduledArchiver.archive();
+        assertThat(started.await(5, TimeUnit.SECONDS), equalTo(true));
+        scheduledArchiver.archive();
+        released.countDown();
+
+        verify(repository, timeout(5000).times(1)).findExpiredJobOffers(any(LocalDate.class), any(Pageable.class));
+        scheduledArchiver.shutdown();
+    }
+
+    @DisplayName("It should do nothing when no job offer expired.")
+    @Test
+    public void archiveNothing() {
+        final var archived = archiver.archive(CUTOFF_DATE.minusYears(1));
+
+        assertThat(archived, equalTo(0));
+        assertThat(events, empty());
+        assertThat(jobOfferArchiveRepository.count(), equalTo(0L));
+    }
+
+    @DisplayName("It should find archived job offers for employers and date with employer usernames.")
+    @Test
+    public void findArchivedJobOffers() {
+        archiver.archive(CUTOFF_DATE);
+
+        final var result = jobOfferArchiveRepository.findAllJobOffersForEmployersAndCategoriesAndDate(List.of(EMPLOYER_1),
+                EnumSet.allOf(Category.class), CUTOFF_DATE.minusDays(3));
+
+        assertThat(ids(result), contains(expiredIds.get(1)));
+        assertThat(result.get(0).getEmployer(), equalTo(EMPLOYER_1));
+    }
+
+    private static List<Integer> ids(final List<JobOfferDTO> jobOffers) {
+        return jobOffers.stream().map(JobOfferDTO::getId).collect(Collectors.toList());
+    }
+
+    private static User createUser(final String username) {
+        return User.builder()
+                .username(username)
+                .password("pass")
+                .creationDate(LocalDateTime.now())
+                .build();
+    }
+
+    private static JobOffer createJobOffer(final LocalDate startDate, final LocalDate endDate, final User employer) {
+        return JobOffer.builder()
+                .category(Category.IT)
+                .startDate(startDate)
+                .endDate(endDate)
+                .employer(employer)
+                .build();
+    }
+}
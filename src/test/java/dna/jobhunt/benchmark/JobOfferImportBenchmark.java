@@ -0,0 +1,82 @@
+package dna.jobhunt.benchmark;
+
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.repository.JobOfferRepository;
+import dna.jobhunt.repository.UserRepository;
+import dna.jobhunt.service.JobOfferImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Measures throughput of bulk import through the whole service stack with in-memory database.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=false")
+class JobOfferImportBenchmark {
+
+    private static final int EMPLOYERS = 200;
+    private static final int JOB_OFFERS = 50_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private JobOfferImportService jobOfferImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    private String ndjson;
+
+    @BeforeEach
+    public void setUp() {
+        jobOfferRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        for (int i = 0; i < EMPLOYERS; i++) {
+            userRepository.save(User.builder()
+                    .username("employer" + i)
+                    .password("pass")
+                    .creationDate(LocalDateTime.now())
+                    .build());
+        }
+        final var random = new Random(11);
+        final var lines = new StringBuilder();
+        for (int i = 0; i < JOB_OFFERS; i++) {
+            final var startDay = 1 + random.nextInt(20);
+            lines.append(String.format("{\"category\":\"%s\",\"startDate\":\"%02d-11-2019\",\"endDate\":\"%02d-12-2019\",\"employer\":\"employer%d\"}%n",
+                    Category.values()[random.nextInt(Category.values().length)], startDay, startDay, random.nextInt(EMPLOYERS)));
+        }
+        ndjson = lines.toString();
+    }
+
+    @DisplayName("It should report bulk import throughput.")
+    @Test
+    public void importThroughput() throws Exception {
+        for (int round = 1; round <= ROUNDS; round++) {
+            final var start = System.nanoTime();
+
+            final var result = jobOfferImportService.importJobOffers(new StringReader(ndjson));
+
+            final var seconds = (System.nanoTime() - start) / 1e9;
+            assertThat(result.getImported(), equalTo(JOB_OFFERS));
+            log.info("Round {}: imported {} job offers in {} s, {} job offers/s.", round, result.getImported(),
+                    String.format("%.2f", seconds), String.format("%.0f", JOB_OFFERS / seconds));
+        }
+    }
+}
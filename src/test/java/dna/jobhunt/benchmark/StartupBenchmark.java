@@ -0,0 +1,55 @@
+package dna.jobhunt.benchmark;
+
+import dna.jobhunt.JobhuntApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Measures application startup time and heap used after startup with and without runtime Springfox scanning.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    @DisplayName("It should report startup time and heap with runtime Springfox scanning.")
+    @Test
+    public void startupWithSpringfox() {
+        measureStartup(true);
+    }
+
+    @DisplayName("It should report startup time and heap without Springfox as in production profile.")
+    @Test
+    public void startupWithoutSpringfox() {
+        measureStartup(false);
+    }
+
+    private void measureStartup(final boolean springfoxEnabled) {
+        final var memory = ManagementFactory.getMemoryMXBean();
+        for (int round = 1; round <= ROUNDS; round++) {
+            final var start = System.nanoTime();
+            final var application = new SpringApplicationBuilder(JobhuntApplication.class)
+                    .properties("server.port=0", "logging.level.root=WARN", "jobhunt.springfox.enabled=" + springfoxEnabled)
+                    .run();
+            try {
+                final var millis = (System.nanoTime() - start) / 1_000_000;
+                System.gc();
+                assertThat(application.containsBean("docket"), equalTo(springfoxEnabled));
+                log.info("Round {}: started with Springfox {} in {} ms, {} MB heap used.", round, springfoxEnabled ? "enabled" : "disabled",
+                        millis, memory.getHeapMemoryUsage().getUsed() / (1024 * 1024));
+            } finally {
+                application.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package dna.jobhunt.cache;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class JobOfferQueryCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2019, 11, 14);
+    private static final String EMPLOYER_1 = "JoeDoe";
+    private static final String EMPLOYER_2 = "JaneDoe";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobOfferQueryCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new JobOfferQueryCache(meterRegistry, 1000, Duration.ofMinutes(10));
+    }
+
+    @DisplayName("It should load job offers once and count hits and misses.")
+    @Test
+    public void get() {
+        final var jobOffers = List.of(jobOffer(1, Category.IT, EMPLOYER_1));
+
+        cache.get(List.of(Category.IT), List.of(), DAY, () -> load(jobOffers));
+        final var result = cache.get(List.of(Category.IT), List.of(), DAY, () -> load(jobOffers));
+
+        assertThat(result, equalTo(jobOffers));
+        assertThat(loads.get(), equalTo(1));
+        assertThat(gets("hit"), equalTo(1.0));
+        assertThat(gets("miss"), equalTo(1.0));
+    }
+
+    @DisplayName("It should invalidate only entries which can contain created job offer.")
+    @Test
+    public void onJobOfferCreated() {
+        cacheEmpty(Category.IT, EMPLOYER_1, DAY);
+        cacheEmpty(Category.IT, null, DAY);
+        cacheEmpty(null, EMPLOYER_1, DAY);
+        cacheEmpty(null, null, DAY);
+        cacheEmpty(Category.Office, null, DAY);
+        cacheEmpty(null, EMPLOYER_2, DAY);
+        cacheEmpty(null, null, DAY.plusDays(1));
+        final var jobOffer = jobOffer(1, Category.IT, EMPLOYER_1);
+        jobOffer.setStartDate(DAY.minusDays(1));
+        jobOffer.setEndDate(DAY);
+
+        cache.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer));
+
+        assertThat(isCached(Category.IT, EMPLOYER_1, DAY), equalTo(false));
+        assertThat(isCached(Category.IT, null, DAY), equalTo(false));
+        assertThat(isCached(null, EMPLOYER_1, DAY), equalTo(false));
+        assertThat(isCached(null, null, DAY), equalTo(false));
+        assertThat(isCached(Category.Office, null, DAY), equalTo(true));
+        assertThat(isCached(null, EMPLOYER_2, DAY), equalTo(true));
+        assertThat(isCached(null, null, DAY.plusDays(1)), equalTo(true));
+    }
+
+    @DisplayName("It should share entry between queries with the same values in different order.")
+    @Test
+    public void getWithReorderedValues() {
+        cache.get(List.of(Category.IT, Category.Office), List.of(), DAY, List::of);
+
+        final var loadsBefore = loads.get();
+        cache.get(List.of(Category.Office, Category.IT), List.of(), DAY, () -> load(List.of()));
+
+        assertThat(loads.get(), equalTo(loadsBefore));
+    }
+
+    @DisplayName("It should invalidate multi value entries containing category and employer of created job offer.")
+    @Test
+    public void onJobOfferCreatedMultiValue() {
+        cache.get(List.of(Category.IT, Category.Office), List.of(EMPLOYER_1, EMPLOYER_2), DAY, List::of);
+        cache.get(List.of(Category.Courier, Category.Office), List.of(EMPLOYER_1, EMPLOYER_2), DAY, List::of);
+
+        cache.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(1, Category.IT, EMPLOYER_2)));
+
+        final var loadsBefore = loads.get();
+        cache.get(List.of(Category.IT, Category.Office), List.of(EMPLOYER_1, EMPLOYER_2), DAY, () -> load(List.of()));
+        cache.get(List.of(Category.Courier, Category.Office), List.of(EMPLOYER_1, EMPLOYER_2), DAY, () -> load(List.of()));
+
+        assertThat(loads.get(), equalTo(loadsBefore + 1));
+    }
+
+    @DisplayName("It should invalidate entries of renamed user and entries holding its job offers.")
+    @Test
+    public void onUserRenamed() {
+        cacheEmpty(null, EMPLOYER_1, DAY);
+        cacheEmpty(null, "renamed", DAY);
+        cacheEmpty(null, EMPLOYER_2, DAY);
+        cache.get(List.of(Category.IT), List.of(), DAY, () -> List.of(jobOffer(1, Category.IT, EMPLOYER_1)));
+        cache.get(List.of(Category.Office), List.of(), DAY, () -> List.of(jobOffer(2, Category.Office, EMPLOYER_2)));
+
+        cache.onUserRenamed(new UserRenamedEvent(1, EMPLOYER_1, "renamed"));
+
+        assertThat(isCached(null, EMPLOYER_1, DAY), equalTo(false));
+        assertThat(isCached(null, "renamed", DAY), equalTo(false));
+        assertThat(isCached(Category.IT, null, DAY), equalTo(false));
+        assertThat(isCached(null, EMPLOYER_2, DAY), equalTo(true));
+        assertThat(isCached(Category.Office, null, DAY), equalTo(true));
+    }
+
+    @DisplayName("It should invalidate entries of deleted user.")
+    @Test
+    public void onUserDeleted() {
+        cacheEmpty(null, EMPLOYER_1, DAY);
+        cacheEmpty(null, EMPLOYER_2, DAY);
+
+        cache.onUserDeleted(new UserDeletedEvent(1, EMPLOYER_1));
+
+        assertThat(isCached(null, EMPLOYER_1, DAY), equalTo(false));
+        assertThat(isCached(null, EMPLOYER_2, DAY), equalTo(true));
+    }
+
+    @DisplayName("It should not keep result loaded while entries were invalidated.")
+    @Test
+    public void getWithConcurrentInvalidation() {
+        cache.get(List.of(), List.of(EMPLOYER_1), DAY, () -> {
+            cache.onUserDeleted(new UserDeletedEvent(1, EMPLOYER_2));
+            return List.of();
+        });
+
+        assertThat(isCached(null, EMPLOYER_1, DAY), equalTo(false));
+    }
+
+    private void cacheEmpty(final Category category, final String employer, final LocalDate date) {
+        cache.get(values(category), values(employer), date, List::of);
+    }
+
+    private boolean isCached(final Category category, final String employer, final LocalDate date) {
+        final var loadsBefore = loads.get();
+        cache.get(values(category), values(employer), date, () -> load(List.of()));
+        return loads.get() == loadsBefore;
+    }
+
+    private static <T> List<T> values(final T value) {
+        return value != null ? List.of(value) : List.of();
+    }
+
+    private List<JobOfferDTO> load(final List<JobOfferDTO> jobOffers) {
+        loads.incrementAndGet();
+        return jobOffers;
+    }
+
+    private double gets(final String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", JobOfferQueryCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static JobOfferDTO jobOffer(final int id, final Category category, final String employer) {
+        return JobOfferDTO.JobOfferDTOBuilder()
+                .id(id)
+                .category(category)
+                .startDate(DAY)
+                .endDate(DAY)
+                .employer(employer)
+                .build();
+    }
+}
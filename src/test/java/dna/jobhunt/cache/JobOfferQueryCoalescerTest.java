@@ -0,0 +1,153 @@
+package dna.jobhunt.cache;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobOfferQueryCoalescerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2019, 11, 14);
+    private static final int WAITING_CALLERS = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch queryStarted = new CountDownLatch(1);
+    private final CountDownLatch queryReleased = new CountDownLatch(1);
+    private final List<Thread> callerThreads = new ArrayList<>();
+    private JobOfferQueryCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        coalescer = new JobOfferQueryCoalescer(meterRegistry);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable);
+            callerThreads.add(thread);
+            return thread;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queryReleased.countDown();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("It should run identical concurrent queries once and count the calls it served.")
+    @Test
+    public void coalesceConcurrentQueries() throws Exception {
+        final var first = call(List.of(Category.IT), this::blockingQuery);
+        queryStarted.await();
+        final var waiting = new ArrayList<Future<List<JobOfferDTO>>>();
+        for (int i = 0; i < WAITING_CALLERS; i++) {
+            waiting.add(call(List.of(Category.IT), this::blockingQuery));
+        }
+        awaitCallersBlocked();
+
+        queryReleased.countDown();
+
+        final var result = first.get();
+        for (final var future : waiting) {
+            assertThat(future.get(), sameInstance(result));
+        }
+        assertThat(executions.get(), equalTo(1));
+        assertThat(meterRegistry.get(JobOfferQueryCoalescer.COALESCED_METRIC).summary().count(), equalTo(1L));
+        assertThat(meterRegistry.get(JobOfferQueryCoalescer.COALESCED_METRIC).summary().totalAmount(), equalTo(WAITING_CALLERS + 1.0));
+    }
+
+    @DisplayName("It should run the query again once the previous one completed.")
+    @Test
+    public void noResultKeptAfterQuery() {
+        queryReleased.countDown();
+
+        coalescer.get(List.of(Category.IT), List.of(), DATE, this::blockingQuery);
+        coalescer.get(List.of(Category.IT), List.of(), DATE, this::blockingQuery);
+
+        assertThat(executions.get(), equalTo(2));
+    }
+
+    @DisplayName("It should not share query running while job offer was created with later callers.")
+    @Test
+    public void detachOnWrite() throws Exception {
+        final var first = call(List.of(Category.IT), this::blockingQuery);
+        queryStarted.await();
+
+        coalescer.onJobOfferCreated(new JobOfferCreatedEvent(new JobOfferDTO(Category.IT, DATE, DATE, "JoeDoe", 1)));
+        final var second = coalescer.get(List.of(Category.IT), List.of(), DATE, this::query);
+        queryReleased.countDown();
+
+        assertThat(executions.get(), equalTo(2));
+        assertThat(first.get().size(), equalTo(1));
+        assertThat(second.size(), equalTo(2));
+    }
+
+    @DisplayName("It should pass the query failure to waiting callers.")
+    @Test
+    public void propagateFailure() throws Exception {
+        final var first = call(List.of(), () -> {
+            blockingQuery();
+            throw new IllegalStateException("Connection refused");
+        });
+        queryStarted.await();
+        final var waiting = call(List.of(), this::blockingQuery);
+        awaitCallersBlocked();
+
+        queryReleased.countDown();
+
+        assertThat(assertThrows(ExecutionException.class, first::get).getCause(), instanceOf(IllegalStateException.class));
+        assertThat(assertThrows(ExecutionException.class, waiting::get).getCause(), instanceOf(IllegalStateException.class));
+        assertThat(executions.get(), equalTo(1));
+    }
+
+    private Future<List<JobOfferDTO>> call(final List<Category> categories, final Supplier<List<JobOfferDTO>> query) {
+        return executor.submit(() -> coalescer.get(categories, List.of(), DATE, query));
+    }
+
+    private List<JobOfferDTO> blockingQuery() {
+        final var result = query();
+        queryStarted.countDown();
+        try {
+            queryReleased.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private List<JobOfferDTO> query() {
+        final var execution = executions.incrementAndGet();
+        final var result = new ArrayList<JobOfferDTO>();
+        for (int id = 1; id <= execution; id++) {
+            result.add(new JobOfferDTO(Category.IT, DATE, DATE, "JoeDoe", id));
+        }
+        return result;
+    }
+
+    private void awaitCallersBlocked() throws InterruptedException {
+        while (callerThreads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dna.jobhunt.cache;
+
+import dna.jobhunt.datasource.ReadYourWrites;
+import dna.jobhunt.event.UserCreatedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class UsernameIdCacheTest {
+
+    private static final String USERNAME_1 = "JoeDoe";
+    private static final String USERNAME_2 = "JaneDoe";
+    private static final int USER_ID = 1;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Map<String, Integer> storedUsers = new HashMap<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private UsernameIdCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UsernameIdCache(meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @DisplayName("It should load user id once and count hits and misses.")
+    @Test
+    public void get() {
+        storedUsers.put(USERNAME_1, USER_ID);
+
+        cache.get(USERNAME_1, this::load);
+        final var result = cache.get(USERNAME_1, this::load);
+
+        assertThat(result, equalTo(Optional.of(USER_ID)));
+        assertThat(loads.get(), equalTo(1));
+        assertThat(gets("hit"), equalTo(1.0));
+        assertThat(gets("miss"), equalTo(1.0));
+    }
+
+    @DisplayName("It should load user id from the primary database.")
+    @Test
+    public void getFromPrimary() {
+        final var primaryRequired = new AtomicBoolean();
+
+        cache.get(USERNAME_1, username -> {
+            primaryRequired.set(ReadYourWrites.isPrimaryRequired());
+            return load(username);
+        });
+
+        assertThat(primaryRequired.get(), equalTo(true));
+        assertThat(ReadYourWrites.isPrimaryRequired(), equalTo(false));
+    }
+
+    @DisplayName("It should cache unknown username.")
+    @Test
+    public void getUnknown() {
+        cache.get(USERNAME_1, this::load);
+        final var result = cache.get(USERNAME_1, this::load);
+
+        assertThat(result, equalTo(Optional.empty()));
+        assertThat(loads.get(), equalTo(1));
+    }
+
+    @DisplayName("It should forget unknown username once user with it was created.")
+    @Test
+    public void onUserCreated() {
+        cache.get(USERNAME_1, this::load);
+        storedUsers.put(USERNAME_1, USER_ID);
+
+        cache.onUserCreated(new UserCreatedEvent(USER_ID, USERNAME_1));
+
+        assertThat(cache.get(USERNAME_1, this::load), equalTo(Optional.of(USER_ID)));
+        assertThat(loads.get(), equalTo(2));
+    }
+
+    @DisplayName("It should invalidate both usernames of renamed user.")
+    @Test
+    public void onUserRenamed() {
+        storedUsers.put(USERNAME_1, USER_ID);
+        cache.get(USERNAME_1, this::load);
+        cache.get(USERNAME_2, this::load);
+        storedUsers.remove(USERNAME_1);
+        storedUsers.put(USERNAME_2, USER_ID);
+
+        cache.onUserRenamed(new UserRenamedEvent(USER_ID, USERNAME_1, USERNAME_2));
+
+        assertThat(cache.get(USERNAME_1, this::load), equalTo(Optional.empty()));
+        assertThat(cache.get(USERNAME_2, this::load), equalTo(Optional.of(USER_ID)));
+        assertThat(loads.get(), equalTo(4));
+    }
+
+    @DisplayName("It should invalidate username of deleted user.")
+    @Test
+    public void onUserDeleted() {
+        storedUsers.put(USERNAME_1, USER_ID);
+        cache.get(USERNAME_1, this::load);
+        storedUsers.remove(USERNAME_1);
+
+        cache.onUserDeleted(new UserDeletedEvent(USER_ID, USERNAME_1));
+
+        assertThat(cache.get(USERNAME_1, this::load), equalTo(Optional.empty()));
+    }
+
+    private Optional<Integer> load(final String username) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(storedUsers.get(username));
+    }
+
+    private double gets(final String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", UsernameIdCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
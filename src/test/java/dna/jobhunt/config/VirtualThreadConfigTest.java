@@ -0,0 +1,54 @@
+package dna.jobhunt.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dna.jobhunt.metrics.SqlCountingDataSource;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class VirtualThreadConfigTest {
+
+    private final VirtualThreadConfig virtualThreadConfig = new VirtualThreadConfig();
+
+    @DisplayName("It should handle Tomcat requests on virtual threads.")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void virtualThreadProtocolHandlerCustomizer() throws Exception {
+        final var protocolHandler = new Http11NioProtocol();
+
+        ((TomcatProtocolHandlerCustomizer<ProtocolHandler>) virtualThreadConfig.virtualThreadProtocolHandlerCustomizer()).customize(protocolHandler);
+
+        final var executor = (ExecutorService) protocolHandler.getExecutor();
+        assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get(), equalTo(true));
+        executor.shutdown();
+    }
+
+    @DisplayName("It should find Hikari pool behind SQL counting data source.")
+    @Test
+    public void hikariDataSource() {
+        try (var hikariDataSource = new HikariDataSource()) {
+            assertThat(VirtualThreadConfig.hikariDataSource(new SqlCountingDataSource(hikariDataSource)), equalTo(Optional.of(hikariDataSource)));
+            assertThat(VirtualThreadConfig.hikariDataSource(new DriverManagerDataSource()), equalTo(Optional.empty()));
+        }
+    }
+
+    @DisplayName("It should run async application tasks on virtual threads.")
+    @Test
+    public void applicationTaskExecutor() throws Exception {
+        final var isVirtual = new CompletableFuture<Boolean>();
+
+        virtualThreadConfig.applicationTaskExecutor().execute(() -> isVirtual.complete(Thread.currentThread().isVirtual()));
+
+        assertThat(isVirtual.get(), equalTo(true));
+    }
+}
@@ -0,0 +1,173 @@
+package dna.jobhunt.datasource;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.api.dto.UserDetailsDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.index.ActiveJobOfferSnapshot;
+import dna.jobhunt.index.JobOfferIndex;
+import dna.jobhunt.repository.JobOfferRepository;
+import dna.jobhunt.repository.JobOfferStorage;
+import dna.jobhunt.repository.UserRepository;
+import dna.jobhunt.service.JobOfferService;
+import dna.jobhunt.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application with two H2 databases, the second one acting as replica.
+ * Replication is simulated by copying the primary database to the replica with {@link #replicate()}.
+ */
+@SpringBootTest(properties = {
+        "jobhunt.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "jobhunt.datasource.replica.max-lag=PT30S",
+        "jobhunt.job-offer-index.enabled=false",
+        "jobhunt.active-snapshot.enabled=false",
+        "jobhunt.archival.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JobOfferService jobOfferService;
+
+    @Autowired
+    private JobOfferStorage jobOfferStorage;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    public void setUp() {
+        jobOfferRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        replicate();
+    }
+
+    @DisplayName("It should read users from replica and write them to primary.")
+    @Test
+    public void readFromReplica() {
+        final var user = userService.createUser(new UserDetailsDTO("replicaUser", "pass"));
+
+        assertThat(userService.getUsers(), empty());
+        assertThat(userService.getUserById(user.getId()).isPresent(), equalTo(false));
+
+        replicate();
+
+        assertThat(userService.getUsers(), hasSize(1));
+        assertThat(userService.getUserById(user.getId()).isPresent(), equalTo(true));
+    }
+
+    @DisplayName("It should resolve user ids by username on primary, so a replica which did not catch up is not cached.")
+    @Test
+    public void usernameIdsFromPrimary() {
+        final var user = userService.createUser(new UserDetailsDTO("primaryUser", "pass"));
+
+        final var reference = userService.getUserReferenceByUsername("primaryUser");
+
+        assertThat(reference.map(User::getId), equalTo(Optional.of(user.getId())));
+    }
+
+    @DisplayName("It should load cached job offers, index and snapshot from primary, so a replica which did not catch up is not kept.")
+    @Test
+    public void sharedStateFromPrimary() {
+        userService.createUser(new UserDetailsDTO("cachedEmployer", "pass"));
+        final var jobOffer = jobOfferService.addJobOffer(new JobOfferDetailsDTO(Category.IT, TODAY, TODAY.plusDays(1), "cachedEmployer"));
+        final var index = new JobOfferIndex(jobOfferStorage, true);
+        final var snapshot = new ActiveJobOfferSnapshot(jobOfferStorage, clock, true);
+
+        final var cachedJobOffers = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.IT), List.of("cachedEmployer"), TODAY);
+        index.load();
+        snapshot.load();
+
+        assertThat(ids(cachedJobOffers), contains(jobOffer.getId()));
+        assertThat(ids(index.findValidJobOffers(List.of(), List.of(), TODAY)), contains(jobOffer.getId()));
+        assertThat(ids(snapshot.findValidJobOffers(List.of(), List.of(), TODAY).orElseThrow()), contains(jobOffer.getId()));
+    }
+
+    @DisplayName("It should read from primary after the client wrote.")
+    @Test
+    public void readYourWrites() throws Exception {
+        final var cookie = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"stickyUser\",\"password\":\"pass\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().maxAge(ReadYourWritesFilter.COOKIE_NAME, 30))
+                .andReturn()
+                .getResponse()
+                .getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        mockMvc.perform(get("/api/users").cookie(cookie).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/users").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    private static List<Integer> ids(final Collection<JobOfferDTO> jobOffers) {
+        return jobOffers.stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    private void replicate() {
+        final var script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class)
+                .stream()
+                .filter(statement -> !statement.startsWith("--"))
+                .collect(Collectors.toList());
+        final var replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+}
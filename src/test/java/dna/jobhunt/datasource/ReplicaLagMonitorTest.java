@@ -0,0 +1,57 @@
+package dna.jobhunt.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    private final DriverManagerDataSource replicaDataSource = new DriverManagerDataSource("jdbc:h2:mem:lagMonitor", "sa", "");
+
+    @DisplayName("It should use replica lagging within tolerance.")
+    @Test
+    public void replicaWithinTolerance() {
+        final var replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT 1.5", MAX_LAG);
+
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable(), equalTo(true));
+    }
+
+    @DisplayName("It should not use replica lagging more than tolerated.")
+    @Test
+    public void replicaLagging() {
+        final var laggingMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT 2.5", MAX_LAG);
+
+        laggingMonitor.check();
+
+        assertThat(laggingMonitor.isReplicaUsable(), equalTo(false));
+    }
+
+    @DisplayName("It should not use replica when lag check fails.")
+    @Test
+    public void lagCheckFailure() {
+        final var replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT lag FROM missing_table", MAX_LAG);
+
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable(), equalTo(false));
+    }
+
+    @DisplayName("It should use replica when lag is not measured.")
+    @Test
+    public void noLagQuery() {
+        final var replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, "", MAX_LAG);
+
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable(), equalTo(true));
+    }
+}
@@ -0,0 +1,153 @@
+package dna.jobhunt.feed;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+
+class JobOfferFeedTest {
+
+    private static final String EMPLOYER_1 = "JoeDoe";
+    private static final String EMPLOYER_2 = "JaneDoe";
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("It should push created job offer only to subscribers of its category and employer.")
+    @Test
+    public void onJobOfferCreated() {
+        final var feed = new JobOfferFeed(meterRegistry, 16, Duration.ofMinutes(1), Runnable::run);
+        final var courierSubscriber = subscribe(feed, List.of(Category.Courier), List.of());
+        final var employerSubscriber = subscribe(feed, List.of(), List.of(EMPLOYER_2));
+        final var anySubscriber = subscribe(feed, List.of(), List.of());
+
+        feed.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(1, Category.Courier, EMPLOYER_1)));
+        feed.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(2, Category.IT, EMPLOYER_2)));
+
+        assertThat(courierSubscriber.ids(), contains("1"));
+        assertThat(employerSubscriber.ids(), contains("2"));
+        assertThat(anySubscriber.ids(), contains("1", "2"));
+        assertThat(courierSubscriber.events.get(0), containsString("event:" + JobOfferFeed.EVENT_NAME));
+    }
+
+    @DisplayName("It should count connected subscribers and stop pushing to completed ones.")
+    @Test
+    public void subscribers() {
+        final var feed = new JobOfferFeed(meterRegistry, 16, Duration.ofMinutes(1), Runnable::run);
+        final var subscriber = subscribe(feed, List.of(), List.of());
+        subscribe(feed, List.of(Category.IT), List.of());
+
+        assertThat(subscribers(), equalTo(2.0));
+
+        subscriber.completed();
+        feed.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(1, Category.IT, EMPLOYER_1)));
+
+        assertThat(subscribers(), equalTo(1.0));
+        assertThat(subscriber.events, empty());
+    }
+
+    @DisplayName("It should disconnect subscriber which lets its buffer fill up.")
+    @Test
+    public void slowSubscriber() {
+        final var feed = new JobOfferFeed(meterRegistry, 2, Duration.ofMinutes(1), pendingDrains::add);
+        final var subscriber = subscribe(feed, List.of(), List.of());
+
+        feed.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(1, Category.IT, EMPLOYER_1)));
+        feed.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(2, Category.IT, EMPLOYER_1)));
+        feed.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(3, Category.IT, EMPLOYER_1)));
+
+        assertThat(pendingDrains, hasSize(1));
+        assertThat(subscribers(), equalTo(0.0));
+        assertThat(meterRegistry.counter(JobOfferFeed.DROPPED_METRIC).count(), equalTo(1.0));
+    }
+
+    @DisplayName("It should send heartbeat comment to subscribers and drop those whose connection is broken.")
+    @Test
+    public void heartbeat() {
+        final var feed = new JobOfferFeed(meterRegistry, 16, Duration.ofMinutes(1), Runnable::run);
+        final var subscriber = subscribe(feed, List.of(), List.of());
+        final var brokenSubscriber = new CapturingEmitter(true);
+        feed.subscribe(List.of(), List.of(), brokenSubscriber);
+
+        feed.heartbeat();
+
+        assertThat(subscriber.events, hasSize(1));
+        assertThat(subscriber.events.get(0), containsString(":heartbeat"));
+        assertThat(subscribers(), equalTo(1.0));
+    }
+
+    private CapturingEmitter subscribe(final JobOfferFeed feed, final List<Category> categories, final List<String> employers) {
+        final var emitter = new CapturingEmitter(false);
+        feed.subscribe(categories, employers, emitter);
+        return emitter;
+    }
+
+    private double subscribers() {
+        return meterRegistry.get(JobOfferFeed.SUBSCRIBERS_METRIC).gauge().value();
+    }
+
+    private static JobOfferDTO jobOffer(final int id, final Category category, final String employer) {
+        return new JobOfferDTO(category, LocalDate.now(), LocalDate.now().plusDays(1), employer, id);
+    }
+
+    private static final class CapturingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private final boolean broken;
+        private Runnable completionCallback;
+
+        private CapturingEmitter(final boolean broken) {
+            this.broken = broken;
+        }
+
+        @Override
+        public synchronized void onCompletion(final Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build()
+                    .stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        private void completed() {
+            completionCallback.run();
+        }
+
+        private List<String> ids() {
+            return events.stream()
+                    .map(event -> event.substring("id:".length(), event.indexOf('\n')))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package dna.jobhunt.index;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.event.JobOfferCreatedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.JobOfferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveJobOfferSnapshotTest {
+
+    private static final LocalDate DAY = LocalDate.of(2019, 11, 14);
+    private static final String EMPLOYER_1 = "JoeDoe";
+    private static final String EMPLOYER_2 = "JaneDoe";
+
+    @Mock
+    private JobOfferRepository jobOfferRepository;
+
+    @Mock
+    private Clock clock;
+
+    private ActiveJobOfferSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        setToday(DAY);
+        when(jobOfferRepository.findAllNotExpiredJobOffers(DAY)).thenReturn(List.of(
+                jobOffer(1, Category.IT, DAY.minusDays(2), DAY, EMPLOYER_1),
+                jobOffer(2, Category.Office, DAY, DAY.plusDays(3), EMPLOYER_2),
+                jobOffer(3, Category.IT, DAY.plusDays(1), DAY.plusDays(5), EMPLOYER_2)));
+
+        snapshot = new ActiveJobOfferSnapshot(jobOfferRepository, clock, true);
+        snapshot.load();
+    }
+
+    @DisplayName("It should return job offers active today partitioned by category and employer.")
+    @Test
+    public void findValidJobOffersForToday() {
+        assertThat(ids(null, null, DAY), contains(1, 2));
+        assertThat(ids(Category.IT, null, DAY), contains(1));
+        assertThat(ids(null, EMPLOYER_2, DAY), contains(2));
+        assertThat(ids(Category.IT, EMPLOYER_2, DAY), empty());
+        assertThat(ids(Category.Courier, null, DAY), empty());
+        assertThat(ids(null, "unknown", DAY), empty());
+    }
+
+    @DisplayName("It should return job offers active today for any of given categories and employers.")
+    @Test
+    public void findValidJobOffersForSeveralCategoriesAndEmployers() {
+        assertThat(snapshotIds(List.of(Category.IT, Category.Office), List.of(EMPLOYER_1, EMPLOYER_2)), contains(1, 2));
+        assertThat(snapshotIds(List.of(Category.IT, Category.Courier), List.of(EMPLOYER_2, "unknown")), empty());
+        assertThat(snapshotIds(List.of(Category.Office), List.of(EMPLOYER_1, EMPLOYER_2)), contains(2));
+    }
+
+    @DisplayName("It should not answer for other days than today.")
+    @Test
+    public void findValidJobOffersForOtherDay() {
+        assertThat(snapshot.findValidJobOffers(List.of(), List.of(), DAY.plusDays(1)), equalTo(Optional.empty()));
+    }
+
+    @DisplayName("It should expire and activate job offers when day changes.")
+    @Test
+    public void rollOver() {
+        setToday(DAY.plusDays(1));
+
+        assertThat(ids(null, null, DAY.plusDays(1)), contains(2, 3));
+        assertThat(ids(Category.IT, EMPLOYER_2, DAY.plusDays(1)), contains(3));
+        assertThat(ids(null, EMPLOYER_1, DAY.plusDays(1)), empty());
+
+        setToday(DAY.plusDays(4));
+        snapshot.rollOver();
+
+        assertThat(ids(null, null, DAY.plusDays(4)), contains(3));
+    }
+
+    @DisplayName("It should add created job offers active today and activate future ones on their start date.")
+    @Test
+    public void onJobOfferCreated() {
+        snapshot.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(4, Category.Office, DAY, DAY, EMPLOYER_1)));
+        snapshot.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(5, Category.Office, DAY.plusDays(2), DAY.plusDays(2), EMPLOYER_1)));
+        snapshot.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(6, Category.Office, DAY.minusDays(2), DAY.minusDays(1), EMPLOYER_1)));
+
+        assertThat(ids(Category.Office, null, DAY), contains(2, 4));
+
+        setToday(DAY.plusDays(2));
+
+        assertThat(ids(Category.Office, EMPLOYER_1, DAY.plusDays(2)), contains(5));
+    }
+
+    @DisplayName("It should return page of job offers active today after given id.")
+    @Test
+    public void findValidJobOffersPage() {
+        snapshot.onJobOfferCreated(new JobOfferCreatedEvent(jobOffer(4, Category.Office, DAY, DAY, EMPLOYER_1)));
+
+        assertThat(pageIds(0, 2), contains(1, 2));
+        assertThat(pageIds(1, 2), contains(2, 4));
+        assertThat(pageIds(4, 2), empty());
+        assertThat(snapshot.findValidJobOffersPage(List.of(), List.of(), DAY.plusDays(1), 0, 2), equalTo(Optional.empty()));
+    }
+
+    @DisplayName("It should return job offers of renamed employer under the new username.")
+    @Test
+    public void onUserRenamed() {
+        snapshot.onUserRenamed(new UserRenamedEvent(1, EMPLOYER_2, "renamed"));
+
+        assertThat(ids(null, "renamed", DAY), contains(2));
+        assertThat(ids(null, EMPLOYER_2, DAY), empty());
+
+        setToday(DAY.plusDays(1));
+
+        assertThat(ids(null, "renamed", DAY.plusDays(1)), contains(2, 3));
+    }
+
+    @DisplayName("It should not change job offers returned before the employer was renamed.")
+    @Test
+    public void onUserRenamedCopies() {
+        final var returned = snapshot.findValidJobOffers(List.of(), List.of(EMPLOYER_2), DAY).orElseThrow();
+
+        snapshot.onUserRenamed(new UserRenamedEvent(1, EMPLOYER_2, "renamed"));
+
+        assertThat(returned.get(0).getEmployer(), equalTo(EMPLOYER_2));
+        assertThat(snapshot.findValidJobOffers(List.of(), List.of("renamed"), DAY).orElseThrow().get(0).getEmployer(), equalTo("renamed"));
+
+        setToday(DAY.plusDays(4));
+
+        assertThat(ids(null, "renamed", DAY.plusDays(4)), contains(3));
+    }
+
+    private List<Integer> pageIds(final int lastId, final int limit) {
+        return snapshot.findValidJobOffersPage(List.of(), List.of(), DAY, lastId, limit)
+                .orElseThrow()
+                .stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> ids(final Category category, final String employer, final LocalDate date) {
+        return snapshot.findValidJobOffers(category != null ? List.of(category) : List.of(), employer != null ? List.of(employer) : List.of(), date)
+                .orElseThrow()
+                .stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> snapshotIds(final List<Category> categories, final List<String> employers) {
+        return snapshot.findValidJobOffers(categories, employers, DAY)
+                .orElseThrow()
+                .stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    private void setToday(final LocalDate today) {
+        when(clock.instant()).thenReturn(today.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private static JobOfferDTO jobOffer(final int id, final Category category, final LocalDate startDate, final LocalDate endDate, final String employer) {
+        return JobOfferDTO.JobOfferDTOBuilder()
+                .id(id)
+                .category(category)
+                .startDate(startDate)
+                .endDate(endDate)
+                .employer(employer)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package dna.jobhunt.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class IntervalTreeTest {
+
+    @DisplayName("It should return intervals containing given point in start order.")
+    @Test
+    public void stab() {
+        final var tree = new IntervalTree<String>();
+        tree.insert(10, 20, 1, "a");
+        tree.insert(5, 12, 2, "b");
+        tree.insert(15, 15, 3, "c");
+        tree.insert(21, 30, 4, "d");
+
+        assertThat(stab(tree, 12), contains("b", "a"));
+        assertThat(stab(tree, 15), contains("a", "c"));
+        assertThat(stab(tree, 21), contains("d"));
+        assertThat(stab(tree, 4), empty());
+    }
+
+    @DisplayName("It should return the same intervals as brute force search after inserts and removals.")
+    @Test
+    public void stabMatchesBruteForce() {
+        final var random = new Random(42);
+        final var tree = new IntervalTree<Integer>();
+        final Map<Integer, long[]> intervals = new HashMap<>();
+
+        for (int id = 0; id < 5_000; id++) {
+            if (intervals.isEmpty() || random.nextInt(4) > 0) {
+                final long start = random.nextInt(1_000);
+                final long end = start + random.nextInt(100);
+                tree.insert(start, end, id, id);
+                intervals.put(id, new long[]{start, end});
+            } else {
+                final var ids = new ArrayList<>(intervals.keySet());
+                final var removedId = ids.get(random.nextInt(ids.size()));
+                assertThat(tree.remove(intervals.remove(removedId)[0], removedId), equalTo(true));
+            }
+        }
+
+        assertThat(tree.size(), equalTo(intervals.size()));
+        for (long point = -10; point < 1_110; point += 7) {
+            final Set<Integer> expected = new HashSet<>();
+            final var chosenPoint = point;
+            intervals.forEach((id, interval) -> {
+                if (interval[0] <= chosenPoint && chosenPoint <= interval[1]) {
+                    expected.add(id);
+                }
+            });
+            assertThat(new HashSet<>(stab(tree, point)), equalTo(expected));
+        }
+    }
+
+    private static <T> List<T> stab(final IntervalTree<T> tree, final long point) {
+        final var result = new ArrayList<T>();
+        tree.stab(point, result::add);
+        return result;
+    }
+}
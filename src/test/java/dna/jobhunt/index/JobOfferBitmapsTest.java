@@ -0,0 +1,80 @@
+package dna.jobhunt.index;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class JobOfferBitmapsTest {
+
+    private static final RoaringBitmap ALL = RoaringBitmap.bitmapOf(1, 2, 3, 4);
+
+    private JobOfferBitmaps bitmaps;
+
+    @BeforeEach
+    public void setUp() {
+        bitmaps = new JobOfferBitmaps();
+        bitmaps.add(jobOffer(1, Category.IT, "JoeDoe"));
+        bitmaps.add(jobOffer(2, Category.Office, "JaneDoe"));
+        bitmaps.add(jobOffer(3, Category.IT, "JaneDoe"));
+        bitmaps.add(jobOffer(4, Category.Courier, null));
+    }
+
+    @DisplayName("It should intersect candidates with union of categories and union of employers.")
+    @Test
+    public void select() {
+        assertThat(bitmaps.select(ALL, List.of(), List.of()), equalTo(ALL));
+        assertThat(bitmaps.select(ALL, List.of(Category.IT, Category.Courier), List.of()), equalTo(RoaringBitmap.bitmapOf(1, 3, 4)));
+        assertThat(bitmaps.select(ALL, List.of(), List.of("JoeDoe", "JaneDoe")), equalTo(RoaringBitmap.bitmapOf(1, 2, 3)));
+        assertThat(bitmaps.select(ALL, List.of(Category.IT, Category.Office), List.of("JaneDoe", "unknown")), equalTo(RoaringBitmap.bitmapOf(2, 3)));
+        assertThat(bitmaps.select(RoaringBitmap.bitmapOf(1, 2), List.of(Category.IT), List.of()), equalTo(RoaringBitmap.bitmapOf(1)));
+        assertThat(bitmaps.select(ALL, List.of(Category.Drinks), List.of()), equalTo(new RoaringBitmap()));
+    }
+
+    @DisplayName("It should move job offers of renamed employer and drop removed job offers.")
+    @Test
+    public void renameEmployerAndRemove() {
+        assertThat(bitmaps.renameEmployer("JaneDoe", "renamed"), equalTo(RoaringBitmap.bitmapOf(2, 3)));
+        bitmaps.remove(jobOffer(3, Category.IT, "renamed"));
+
+        assertThat(bitmaps.select(ALL, List.of(), List.of("renamed")), equalTo(RoaringBitmap.bitmapOf(2)));
+        assertThat(bitmaps.select(ALL, List.of(), List.of("JaneDoe")), equalTo(new RoaringBitmap()));
+        assertThat(bitmaps.select(ALL, List.of(Category.IT), List.of()), equalTo(RoaringBitmap.bitmapOf(1)));
+    }
+
+    @DisplayName("It should pass limited number of ids greater than the last id in ascending order.")
+    @Test
+    public void forEachAfter() {
+        final var ids = RoaringBitmap.bitmapOf(2, 5, 7, 100_000, 100_003);
+
+        assertThat(idsAfter(ids, 0, 10), contains(2, 5, 7, 100_000, 100_003));
+        assertThat(idsAfter(ids, 5, 2), contains(7, 100_000));
+        assertThat(idsAfter(ids, 6, 1), contains(7));
+        assertThat(idsAfter(ids, 100_003, 10), empty());
+        assertThat(idsAfter(ids, Integer.MAX_VALUE, 10), empty());
+    }
+
+    private static List<Integer> idsAfter(final RoaringBitmap ids, final int lastId, final int limit) {
+        final var result = new ArrayList<Integer>();
+        JobOfferBitmaps.forEachAfter(ids, lastId, limit, result::add);
+        return result;
+    }
+
+    private static JobOfferDTO jobOffer(final int id, final Category category, final String employer) {
+        return JobOfferDTO.JobOfferDTOBuilder()
+                .id(id)
+                .category(category)
+                .employer(employer)
+                .build();
+    }
+}
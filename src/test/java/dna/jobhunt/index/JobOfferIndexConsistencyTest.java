@@ -0,0 +1,159 @@
+package dna.jobhunt.index;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.JobOfferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Checks that {@link JobOfferIndex} answers the same as {@link JobOfferRepository} queries.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "jobhunt.job-offer-index.enabled=true")
+@Import(JobOfferIndex.class)
+class JobOfferIndexConsistencyTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2019, 11, 1);
+    private static final List<String> EMPLOYERS = List.of("JoeDoe", "JaneDoe", "test");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JobOfferIndex jobOfferIndex;
+
+    @BeforeEach
+    public void setUp() {
+        final var random = new Random(7);
+        final var employers = new ArrayList<User>();
+        EMPLOYERS.forEach(username -> employers.add(entityManager.persist(User.builder()
+                .username(username)
+                .password("pass")
+                .creationDate(LocalDateTime.now())
+                .build())));
+        for (int i = 0; i < 300; i++) {
+            final var startDate = BASE_DATE.plusDays(random.nextInt(60));
+            entityManager.persist(JobOffer.builder()
+                    .category(Category.values()[random.nextInt(Category.values().length)])
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(random.nextInt(30)))
+                    .employer(employers.get(random.nextInt(employers.size())))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        jobOfferIndex.load();
+    }
+
+    @DisplayName("It should return the same job offers as repository queries for every filter combination.")
+    @Test
+    public void indexMatchesRepositoryQueries() {
+        final var allCategories = EnumSet.allOf(Category.class);
+        final var categoryFilters = List.<Collection<Category>>of(List.of(Category.IT), List.of(Category.IT, Category.Office), List.of(Category.values()));
+        final var employerFilters = List.<Collection<String>>of(List.of(EMPLOYERS.get(0)), EMPLOYERS.subList(0, 2), List.of(EMPLOYERS.get(2), "unknown"));
+        for (var date = BASE_DATE.minusDays(3); date.isBefore(BASE_DATE.plusDays(95)); date = date.plusDays(2)) {
+            assertThat(indexIds(List.of(), List.of(), date),
+                    equalTo(ids(jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(allCategories, date))));
+            for (final var categories : categoryFilters) {
+                assertThat(indexIds(categories, List.of(), date),
+                        equalTo(ids(jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(categories, date))));
+                for (final var employers : employerFilters) {
+                    assertThat(indexIds(categories, employers, date),
+                            equalTo(ids(jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(employers, categories, date))));
+                }
+            }
+            for (final var employers : employerFilters) {
+                assertThat(indexIds(List.of(), employers, date),
+                        equalTo(ids(jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(employers, allCategories, date))));
+            }
+        }
+    }
+
+    @DisplayName("It should return the same pages as repository page queries.")
+    @Test
+    public void pagesMatchRepositoryQueries() {
+        final var date = BASE_DATE.plusDays(30);
+        final var categories = List.of(Category.IT, Category.Office);
+        var lastId = 0;
+        List<JobOfferDTO> page;
+        do {
+            page = jobOfferIndex.findValidJobOffersPage(categories, List.of(), date, lastId, 7);
+            assertThat(pageIds(page), equalTo(pageIds(jobOfferRepository.findValidJobOffersPageForCategoriesAndDate(categories, date, lastId, PageRequest.of(0, 7)))));
+            lastId = page.isEmpty() ? lastId : page.get(page.size() - 1).getId();
+        } while (page.size() == 7);
+    }
+
+    @DisplayName("It should return job offers of renamed employer under the new username.")
+    @Test
+    public void renamedEmployer() {
+        final var date = BASE_DATE.plusDays(30);
+        final var jobOffers = indexIds(List.of(), List.of(EMPLOYERS.get(0)), date);
+
+        jobOfferIndex.onUserRenamed(new UserRenamedEvent(null, EMPLOYERS.get(0), "renamed"));
+
+        assertThat(indexIds(List.of(), List.of("renamed"), date), equalTo(jobOffers));
+        assertThat(indexIds(List.of(), List.of(EMPLOYERS.get(0)), date), hasSize(0));
+    }
+
+    @DisplayName("It should not change job offers returned before the employer was renamed.")
+    @Test
+    public void renamedEmployerCopies() {
+        final var date = BASE_DATE.plusDays(30);
+        final var returned = jobOfferIndex.findValidJobOffers(List.of(), List.of(EMPLOYERS.get(0)), date);
+
+        jobOfferIndex.onUserRenamed(new UserRenamedEvent(null, EMPLOYERS.get(0), "renamed"));
+
+        assertThat(returned, everyItem(hasProperty("employer", equalTo(EMPLOYERS.get(0)))));
+        assertThat(jobOfferIndex.findValidJobOffers(List.of(), List.of("renamed"), date), everyItem(hasProperty("employer", equalTo("renamed"))));
+    }
+
+    private Set<Integer> indexIds(final Collection<Category> categories, final Collection<String> employers, final LocalDate date) {
+        return jobOfferIndex.findValidJobOffers(categories, employers, date)
+                .stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<Integer> pageIds(final List<JobOfferDTO> jobOffers) {
+        return jobOffers.stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static Set<Integer> ids(final Collection<JobOfferDTO> jobOffers) {
+        return jobOffers.stream()
+                .map(JobOfferDTO::getId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,182 @@
+package dna.jobhunt.limit;
+
+import dna.jobhunt.limit.ConcurrencyLimiter.Permit;
+import dna.jobhunt.limit.ConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final String JOB_OFFERS_PATH = "/api/job-offers";
+    private static final String STREAM_PATH = "/api/job-offers/stream";
+    private static final String BULK_PATH = "/api/job-offers/bulk";
+    private static final String EXCLUDED_PATH = "/api/job-offers/excluded";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Permit> permits = new ArrayList<>();
+    private ConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        limiter = new ConcurrencyLimiter(new GradientConcurrencyLimit(10, 10, 10, 0.2, 1.5, 100), 0.5, 0.2, meterRegistry);
+        filter = new ConcurrencyLimitFilter(limiter, Duration.ofMillis(1500), Set.of(EXCLUDED_PATH), Set.of(BULK_PATH));
+    }
+
+    @DisplayName("It should admit requests under the limit and release their permits.")
+    @Test
+    public void admit() throws Exception {
+        final var response = perform("GET", JOB_OFFERS_PATH);
+
+        assertThat(response.getStatus(), equalTo(200));
+        assertThat(inFlight(Priority.READ), equalTo(0.0));
+    }
+
+    @DisplayName("It should reject reads over their share of the limit with 503 and Retry-After while admitting writes.")
+    @Test
+    public void rejectReadsBeforeWrites() throws Exception {
+        acquire(Priority.READ, limiter.getLimit(Priority.READ));
+
+        final var readResponse = perform("GET", JOB_OFFERS_PATH);
+        final var writeResponse = perform("POST", JOB_OFFERS_PATH);
+
+        assertThat(readResponse.getStatus(), equalTo(503));
+        assertThat(readResponse.getHeader(HttpHeaders.RETRY_AFTER), equalTo("2"));
+        assertThat(readResponse.getErrorMessage(), equalTo(ConcurrencyLimitFilter.REJECTED_MSG));
+        assertThat(writeResponse.getStatus(), equalTo(200));
+        assertThat(rejected(Priority.READ), equalTo(1.0));
+        assertThat(rejected(Priority.WRITE), equalTo(0.0));
+        assertThat(inFlight(Priority.READ), equalTo(5.0));
+    }
+
+    @DisplayName("It should reject writes over the whole limit.")
+    @Test
+    public void rejectWrites() throws Exception {
+        acquire(Priority.WRITE, limiter.getLimit(Priority.WRITE));
+
+        final var response = perform("POST", JOB_OFFERS_PATH);
+
+        assertThat(response.getStatus(), equalTo(503));
+        assertThat(rejected(Priority.WRITE), equalTo(1.0));
+
+        permits.forEach(Permit::onIgnore);
+
+        assertThat(perform("POST", JOB_OFFERS_PATH).getStatus(), equalTo(200));
+    }
+
+    @DisplayName("It should hold the permit of asynchronous request until the request completes.")
+    @Test
+    public void asyncRequest() throws Exception {
+        final var request = new MockHttpServletRequest("GET", JOB_OFFERS_PATH);
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> servletRequest.startAsync());
+
+        assertThat(inFlight(Priority.READ), equalTo(1.0));
+
+        request.getAsyncContext().complete();
+
+        assertThat(inFlight(Priority.READ), equalTo(0.0));
+    }
+
+    @DisplayName("It should release the permit of asynchronous request which timed out only once.")
+    @Test
+    public void asyncRequestTimeout() throws Exception {
+        final var request = new MockHttpServletRequest("POST", JOB_OFFERS_PATH);
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> servletRequest.startAsync());
+        final var asyncContext = (MockAsyncContext) request.getAsyncContext();
+
+        for (final var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        asyncContext.complete();
+
+        assertThat(inFlight(Priority.WRITE), equalTo(0.0));
+    }
+
+    @DisplayName("It should release the permit of server-sent event stream once the stream is opened.")
+    @Test
+    public void eventStreams() throws Exception {
+        for (int i = 0; i <= limiter.getLimit(Priority.READ); i++) {
+            final var request = new MockHttpServletRequest("GET", STREAM_PATH);
+            request.setAsyncSupported(true);
+            final var response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+                servletResponse.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+                servletRequest.startAsync();
+            });
+
+            assertThat(response.getStatus(), equalTo(200));
+        }
+
+        assertThat(perform("GET", JOB_OFFERS_PATH).getStatus(), equalTo(200));
+        assertThat(inFlight(Priority.READ), equalTo(0.0));
+        assertThat(rejected(Priority.READ), equalTo(0.0));
+    }
+
+    @DisplayName("It should reject bulk requests over their share of the limit before reads.")
+    @Test
+    public void rejectBulkBeforeReads() throws Exception {
+        acquire(Priority.READ, limiter.getLimit(Priority.BULK));
+
+        final var bulkResponse = perform("POST", BULK_PATH);
+        final var readResponse = perform("GET", JOB_OFFERS_PATH);
+
+        assertThat(bulkResponse.getStatus(), equalTo(503));
+        assertThat(readResponse.getStatus(), equalTo(200));
+        assertThat(rejected(Priority.BULK), equalTo(1.0));
+        assertThat(inFlight(Priority.BULK), equalTo(0.0));
+    }
+
+    @DisplayName("It should not limit excluded paths.")
+    @Test
+    public void excludedPath() throws Exception {
+        acquire(Priority.WRITE, limiter.getLimit(Priority.WRITE));
+
+        final var response = perform("POST", EXCLUDED_PATH);
+
+        assertThat(response.getStatus(), equalTo(200));
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER), nullValue());
+    }
+
+    private void acquire(final Priority priority, final int count) {
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire(priority).orElseThrow());
+        }
+    }
+
+    private MockHttpServletResponse perform(final String method, final String path) throws Exception {
+        final var request = new MockHttpServletRequest(method, path);
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private double rejected(final Priority priority) {
+        return meterRegistry.counter(ConcurrencyLimiter.REJECTED_METRIC, "priority", priority.name().toLowerCase()).count();
+    }
+
+    private double inFlight(final Priority priority) {
+        return meterRegistry.get(ConcurrencyLimiter.IN_FLIGHT_METRIC).tag("priority", priority.name().toLowerCase()).gauge().value();
+    }
+}
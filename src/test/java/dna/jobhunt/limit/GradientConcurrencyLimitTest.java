@@ -0,0 +1,67 @@
+package dna.jobhunt.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @DisplayName("It should grow the limit while latency is steady and the limit is used.")
+    @Test
+    public void growWithSteadyLatency() {
+        final var limit = new GradientConcurrencyLimit(20, 10, 1000, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit(), greaterThan(20));
+    }
+
+    @DisplayName("It should not grow the limit while less than half of it is used.")
+    @Test
+    public void keepLimitWhenIdle() {
+        final var limit = new GradientConcurrencyLimit(20, 10, 1000, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, 5);
+        }
+
+        assertThat(limit.getLimit(), equalTo(20));
+    }
+
+    @DisplayName("It should shrink the limit down to minimum when latency grows.")
+    @Test
+    public void shrinkWithGrowingLatency() {
+        final var limit = new GradientConcurrencyLimit(100, 10, 1000, 0.2, 1.5, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 50);
+        }
+        final var steadyLimit = limit.getLimit();
+
+        limit.onSample(RTT * 10, steadyLimit);
+
+        assertThat(limit.getLimit(), lessThan(steadyLimit));
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT * 10 * (i + 2), limit.getLimit());
+        }
+
+        assertThat(limit.getLimit(), equalTo(10));
+    }
+
+    @DisplayName("It should reject initial limit out of bounds.")
+    @Test
+    public void invalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(5, 10, 1000, 0.2, 1.5, 100));
+    }
+}
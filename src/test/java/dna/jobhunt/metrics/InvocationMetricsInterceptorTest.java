@@ -0,0 +1,106 @@
+package dna.jobhunt.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InvocationMetricsInterceptorTest {
+
+    private static final String METRIC = "test.invocations";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("It should time calls and record result sizes tagged with component and method.")
+    @Test
+    public void timedInvocation() {
+        final var component = proxy(true);
+
+        component.findAll();
+        component.findOne(true);
+        component.findOne(false);
+
+        assertThat(meterRegistry.get(METRIC).tags("component", "test", "method", "findAll", "exception", "none").timer().count(), equalTo(1L));
+        assertThat(meterRegistry.get(METRIC + ".results").tags("method", "findAll").summary().totalAmount(), equalTo(3.0));
+        assertThat(meterRegistry.get(METRIC).tags("method", "findOne").timer().count(), equalTo(2L));
+        assertThat(meterRegistry.get(METRIC + ".results").tags("method", "findOne").summary().totalAmount(), equalTo(1.0));
+    }
+
+    @DisplayName("It should only record result sizes when not timed.")
+    @Test
+    public void untimedInvocation() {
+        final var component = proxy(false);
+
+        component.findAll();
+        component.count();
+
+        assertThat(meterRegistry.find(METRIC).timer(), nullValue());
+        assertThat(meterRegistry.get(METRIC + ".results").tags("method", "findAll").summary().count(), equalTo(1L));
+        assertThat(meterRegistry.find(METRIC + ".results").tags("method", "count").summary(), nullValue());
+    }
+
+    @DisplayName("It should tag timer with exception thrown by the call.")
+    @Test
+    public void failedInvocation() {
+        final var component = proxy(true);
+
+        assertThrows(IllegalStateException.class, component::fail);
+
+        assertThat(meterRegistry.get(METRIC).tags("method", "fail", "exception", "IllegalStateException").timer().count(), equalTo(1L));
+    }
+
+    private TestComponent proxy(final boolean timed) {
+        final var proxyFactory = new ProxyFactory(new DefaultTestComponent());
+        proxyFactory.addAdvice(new InvocationMetricsInterceptor(meterRegistry, METRIC, Tags.of("component", "test"), timed));
+        return (TestComponent) proxyFactory.getProxy();
+    }
+
+    interface TestComponent {
+
+        List<String> findAll();
+
+        Optional<String> findOne(boolean present);
+
+        long count();
+
+        void fail();
+    }
+
+    static class DefaultTestComponent implements TestComponent {
+
+        @Override
+        public List<String> findAll() {
+            return List.of("a", "b", "c");
+        }
+
+        @Override
+        public Optional<String> findOne(final boolean present) {
+            return present ? Optional.of("a") : Optional.empty();
+        }
+
+        @Override
+        public long count() {
+            return 3;
+        }
+
+        @Override
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+}
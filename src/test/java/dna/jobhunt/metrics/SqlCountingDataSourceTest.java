@@ -0,0 +1,57 @@
+package dna.jobhunt.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+class SqlCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(new DriverManagerDataSource("jdbc:h2:mem:sqlcount;DB_CLOSE_DELAY=-1")));
+        jdbcTemplate.execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SqlStatementCounter.stop();
+        jdbcTemplate.execute("DROP TABLE item");
+    }
+
+    @DisplayName("It should count statements, updated rows and read rows.")
+    @Test
+    public void countStatements() {
+        final var statistics = SqlStatementCounter.start();
+
+        jdbcTemplate.update("INSERT INTO item VALUES (1, 'first')");
+        jdbcTemplate.batchUpdate("INSERT INTO item VALUES (?, ?)", List.of(new Object[]{2, "second"}, new Object[]{3, "third"}));
+        final var names = jdbcTemplate.queryForList("SELECT name FROM item", String.class);
+
+        assertThat(names.size(), equalTo(3));
+        assertThat(statistics.getStatements(), equalTo(3));
+        assertThat(statistics.getRows(), equalTo(6L));
+        assertThat(statistics.getJdbcNanos(), greaterThan(0L));
+    }
+
+    @DisplayName("It should not count statements when counting was not started.")
+    @Test
+    public void notStarted() {
+        final var statistics = SqlStatementCounter.start();
+        SqlStatementCounter.stop();
+
+        jdbcTemplate.update("INSERT INTO item VALUES (1, 'first')");
+
+        assertThat(statistics.getStatements(), equalTo(0));
+    }
+}
@@ -0,0 +1,47 @@
+package dna.jobhunt.metrics;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Assertions on SQL statements executed by requests performed with {@link org.springframework.test.web.servlet.MockMvc}.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * It asserts number of SQL statements executed while handling the request.
+     *
+     * @param expected expected number of statements.
+     *
+     * @return matcher of performed request.
+     */
+    public static ResultMatcher assertSqlCount(final int expected) {
+        return result -> {
+            final var statistics = (SqlStatistics) result.getRequest().getAttribute(SqlStatistics.REQUEST_ATTRIBUTE);
+            assertThat("SQL statistics of the request", statistics, notNullValue());
+            assertThat("Executed SQL statements " + statistics, statistics.getStatements(), equalTo(expected));
+        };
+    }
+
+    /**
+     * It asserts that the request stayed within the budget of SQL statements.
+     *
+     * @param budget maximal number of statements.
+     *
+     * @return matcher of performed request.
+     */
+    public static ResultMatcher assertSqlCountAtMost(final int budget) {
+        return result -> {
+            final var statistics = (SqlStatistics) result.getRequest().getAttribute(SqlStatistics.REQUEST_ATTRIBUTE);
+            assertThat("SQL statistics of the request", statistics, notNullValue());
+            assertThat("Executed SQL statements " + statistics, statistics.getStatements(), lessThanOrEqualTo(budget));
+        };
+    }
+}
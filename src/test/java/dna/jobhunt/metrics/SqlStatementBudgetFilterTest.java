@@ -0,0 +1,58 @@
+package dna.jobhunt.metrics;
+
+import dna.jobhunt.exception.SqlStatementBudgetExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlStatementBudgetFilterTest {
+
+    private static final String PATH = "/api/job-offers";
+
+    private final FilterChain threeStatements = (request, response) -> {
+        for (int i = 0; i < 3; i++) {
+            SqlStatementCounter.current().recordStatement(1);
+        }
+    };
+
+    @DisplayName("It should attach SQL statistics to the request and stop counting afterwards.")
+    @Test
+    public void attachStatistics() throws Exception {
+        final var request = new MockHttpServletRequest("GET", PATH);
+
+        new SqlStatementBudgetFilter(3, true, Set.of()).doFilter(request, new MockHttpServletResponse(), threeStatements);
+
+        final var statistics = (SqlStatistics) request.getAttribute(SqlStatistics.REQUEST_ATTRIBUTE);
+        assertThat(statistics.getStatements(), equalTo(3));
+        assertThat(SqlStatementCounter.current(), nullValue());
+    }
+
+    @DisplayName("It should fail request which exceeds statement budget when configured.")
+    @Test
+    public void failOnBudgetExceeded() {
+        final var filter = new SqlStatementBudgetFilter(2, true, Set.of());
+
+        final var exception = assertThrows(SqlStatementBudgetExceededException.class,
+                () -> filter.doFilter(new MockHttpServletRequest("GET", PATH), new MockHttpServletResponse(), threeStatements));
+
+        assertThat(exception.getStatements(), equalTo(3));
+        assertThat(SqlStatementCounter.current(), nullValue());
+    }
+
+    @DisplayName("It should not fail request which exceeds statement budget on excluded path.")
+    @Test
+    public void excludedPath() throws Exception {
+        final var filter = new SqlStatementBudgetFilter(2, true, Set.of(PATH));
+
+        filter.doFilter(new MockHttpServletRequest("GET", PATH), new MockHttpServletResponse(), threeStatements);
+    }
+}
@@ -0,0 +1,153 @@
+package dna.jobhunt.repository;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JobOfferRepositoryTest {
+
+    private static final LocalDate CHOSEN_DATE = LocalDate.of(2019, 11, 14);
+    private static final String EMPLOYER_1 = "JoeDoe";
+    private static final String EMPLOYER_2 = "JaneDoe";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        final var employer1 = entityManager.persist(createUser(EMPLOYER_1));
+        final var employer2 = entityManager.persist(createUser(EMPLOYER_2));
+        entityManager.persist(createJobOffer(Category.IT, CHOSEN_DATE.minusDays(1), CHOSEN_DATE.plusDays(1), employer1));
+        entityManager.persist(createJobOffer(Category.IT, CHOSEN_DATE, CHOSEN_DATE, employer2));
+        entityManager.persist(createJobOffer(Category.Office, CHOSEN_DATE.minusDays(10), CHOSEN_DATE.plusDays(10), employer2));
+        entityManager.persist(createJobOffer(Category.IT, CHOSEN_DATE.plusDays(1), CHOSEN_DATE.plusDays(10), employer1));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("It should return all valid job offers with employer usernames in single statement.")
+    @Test
+    public void findAllValidJobOffersForAllCategoriesAndDate() {
+        final var result = inSingleStatement(() -> jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE));
+
+        assertThat(employers(result), containsInAnyOrder(EMPLOYER_1, EMPLOYER_2, EMPLOYER_2));
+    }
+
+    @DisplayName("It should return valid job offers for categories in single statement.")
+    @Test
+    public void findAllValidJobOffersForCategoriesAndDate() {
+        final var result = inSingleStatement(() -> jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(List.of(Category.IT), CHOSEN_DATE));
+
+        assertThat(employers(result), containsInAnyOrder(EMPLOYER_1, EMPLOYER_2));
+    }
+
+    @DisplayName("It should return valid job offers for employers in single statement.")
+    @Test
+    public void findAllValidJobOffersForEmployersAndCategoriesAndDate() {
+        final var result = inSingleStatement(() -> jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(List.of(EMPLOYER_2), EnumSet.allOf(Category.class), CHOSEN_DATE));
+
+        assertThat(result, hasSize(2));
+        assertThat(employers(result), contains(EMPLOYER_2, EMPLOYER_2));
+    }
+
+    @DisplayName("It should return valid job offers for any of given employers and categories in single statement.")
+    @Test
+    public void findAllValidJobOffersForSeveralEmployersAndCategories() {
+        final var result = inSingleStatement(() -> jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(
+                List.of(EMPLOYER_1, EMPLOYER_2), List.of(Category.Office, Category.Courier), CHOSEN_DATE));
+
+        assertThat(result, hasSize(1));
+        assertThat(result.get(0).getCategory(), equalTo(Category.Office));
+    }
+
+    @DisplayName("It should return page of valid job offers in single statement.")
+    @Test
+    public void findValidJobOffersPageForCategoriesAndDate() {
+        final var result = inSingleStatement(() -> jobOfferRepository.findValidJobOffersPageForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE, 0, PageRequest.of(0, 2)));
+
+        assertThat(result, hasSize(2));
+        assertThat(result.get(0).getId() < result.get(1).getId(), equalTo(true));
+    }
+
+    @DisplayName("It should stream valid job offers in single statement.")
+    @Test
+    public void streamValidJobOffersForEmployersAndCategoriesAndDate() {
+        final var result = inSingleStatement(() -> {
+            try (var jobOffers = jobOfferRepository.streamValidJobOffersForEmployersAndCategoriesAndDate(List.of(EMPLOYER_1), EnumSet.allOf(Category.class), CHOSEN_DATE)) {
+                return jobOffers.collect(Collectors.toList());
+            }
+        });
+
+        assertThat(employers(result), contains(EMPLOYER_1));
+    }
+
+    private <T> T inSingleStatement(final Supplier<T> query) {
+        statistics.clear();
+
+        final var result = query.get();
+
+        assertThat(statistics.getPrepareStatementCount(), equalTo(1L));
+        assertThat(statistics.getEntityLoadCount(), equalTo(0L));
+        return result;
+    }
+
+    private static List<String> employers(final List<JobOfferDTO> jobOffers) {
+        return jobOffers.stream()
+                .map(JobOfferDTO::getEmployer)
+                .collect(Collectors.toList());
+    }
+
+    private static User createUser(final String username) {
+        return User.builder()
+                .username(username)
+                .password("pass")
+                .creationDate(LocalDateTime.now())
+                .build();
+    }
+
+    private static JobOffer createJobOffer(final Category category, final LocalDate startDate, final LocalDate endDate, final User employer) {
+        return JobOffer.builder()
+                .category(category)
+                .startDate(startDate)
+                .endDate(endDate)
+                .employer(employer)
+                .build();
+    }
+}
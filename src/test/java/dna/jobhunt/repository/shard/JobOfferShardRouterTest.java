@@ -0,0 +1,37 @@
+package dna.jobhunt.repository.shard;
+
+import dna.jobhunt.domain.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class JobOfferShardRouterTest {
+
+    @DisplayName("It should route single category to one shard and all categories to all shards.")
+    @Test
+    public void categoryStrategy() {
+        final var router = new JobOfferShardRouter(JobOfferShardRouter.Strategy.CATEGORY, 3);
+
+        assertThat(router.shardOf(Category.Office, 7), equalTo(0));
+        assertThat(router.shardsFor(List.of(Category.Drinks), null), equalTo(Set.of(2)));
+        assertThat(router.shardsFor(List.of(Category.IT, Category.Office), List.of(1, 2)), equalTo(Set.of(0)));
+        assertThat(router.shardsFor(EnumSet.allOf(Category.class), null), equalTo(Set.of(0, 1, 2)));
+    }
+
+    @DisplayName("It should route by employer id and query all shards without employer filter.")
+    @Test
+    public void employerStrategy() {
+        final var router = new JobOfferShardRouter(JobOfferShardRouter.Strategy.EMPLOYER, 3);
+
+        assertThat(router.shardOf(Category.IT, 7), equalTo(1));
+        assertThat(router.shardsFor(List.of(Category.IT), List.of(3, 6)), equalTo(Set.of(0)));
+        assertThat(router.shardsFor(List.of(Category.IT), List.of()), equalTo(Set.of()));
+        assertThat(router.shardsFor(List.of(Category.IT), null), equalTo(Set.of(0, 1, 2)));
+    }
+}
@@ -0,0 +1,236 @@
+package dna.jobhunt.repository.shard;
+
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.dto.JobOfferDetailsDTO;
+import dna.jobhunt.config.JobOfferShardingConfig;
+import dna.jobhunt.domain.Category;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
+import dna.jobhunt.repository.JobOfferStorage;
+import dna.jobhunt.repository.UserRepository;
+import dna.jobhunt.service.JobOfferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the application with job offers sharded by category to three H2 databases.
+ */
+@SpringBootTest(properties = {
+        "jobhunt.sharding.urls=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1",
+        "jobhunt.sharding.strategy=CATEGORY",
+        "jobhunt.job-offer-index.enabled=false",
+        "jobhunt.active-snapshot.enabled=false",
+        "jobhunt.archival.enabled=false"
+})
+class ShardedJobOfferRepositoryTest {
+
+    private static final LocalDate CHOSEN_DATE = LocalDate.of(2019, 11, 14);
+    private static final String EMPLOYER = "shardEmployer";
+
+    @Autowired
+    private ShardedJobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JobOfferStorage jobOfferStorage;
+
+    @Autowired
+    private JobOfferService jobOfferService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobOfferShards jobOfferShards;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User employer;
+
+    @BeforeEach
+    public void setUp() {
+        jobOfferRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        employer = userRepository.save(User.builder()
+                .username(EMPLOYER)
+                .password("pass")
+                .creationDate(LocalDateTime.now())
+                .build());
+        jobOfferRepository.saveAll(List.of(
+                createJobOffer(Category.IT, CHOSEN_DATE.minusDays(1), CHOSEN_DATE.plusDays(1)),
+                createJobOffer(Category.Office, CHOSEN_DATE, CHOSEN_DATE),
+                createJobOffer(Category.Courier, CHOSEN_DATE.minusDays(5), CHOSEN_DATE.plusDays(5)),
+                createJobOffer(Category.Drinks, CHOSEN_DATE.plusDays(1), CHOSEN_DATE.plusDays(5))));
+    }
+
+    @DisplayName("It should store job offers in shard of their category and merge valid job offers of all shards.")
+    @Test
+    public void storeAndScatterGather() {
+        assertThat(countRows(0), equalTo(2));
+        assertThat(countRows(1), equalTo(1));
+        assertThat(countRows(2), equalTo(1));
+        assertThat(jobOfferRepository.count(), equalTo(4L));
+
+        final var result = jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE);
+
+        assertThat(categories(result), containsInAnyOrder(Category.IT, Category.Office, Category.Courier));
+        assertThat(result.get(0).getEmployer(), equalTo(EMPLOYER));
+    }
+
+    @DisplayName("It should query only the shard owning the category.")
+    @Test
+    public void singleShardQuery() {
+        jobOfferShards.shard(1).getJdbcTemplate().update("INSERT INTO " + JobOfferShards.TABLE
+                + " (id, category, start_date, end_date, employer_id, employer) VALUES (-1, 0, ?, ?, NULL, NULL)", CHOSEN_DATE, CHOSEN_DATE);
+
+        final var itJobOffers = jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(Set.of(Category.IT), CHOSEN_DATE);
+        final var allJobOffers = jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE);
+
+        assertThat(categories(itJobOffers), contains(Category.IT));
+        assertThat(allJobOffers.size(), equalTo(4));
+    }
+
+    @DisplayName("It should merge pages of shards ordered by id.")
+    @Test
+    public void page() {
+        final var allIds = jobOfferRepository.findAllJobOfferDTOs()
+                .stream()
+                .map(JobOfferDTO::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        final var page = jobOfferRepository.findValidJobOffersPageForEmployersAndCategoriesAndDate(List.of(EMPLOYER), EnumSet.allOf(Category.class),
+                CHOSEN_DATE, 0, PageRequest.of(0, 2));
+
+        assertThat(page.stream().map(JobOfferDTO::getId).collect(Collectors.toList()), contains(allIds.get(0), allIds.get(1)));
+    }
+
+    @DisplayName("It should stream job offers of all shards merged by id.")
+    @Test
+    public void stream() {
+        final var allIds = ids(jobOfferRepository.findAllJobOfferDTOs());
+        allIds.sort(null);
+
+        try (var allJobOffers = jobOfferRepository.streamAllJobOffers();
+             var validJobOffers = jobOfferRepository.streamValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE)) {
+            assertThat(allJobOffers.map(JobOfferDTO::getId).collect(Collectors.toList()), equalTo(allIds));
+            assertThat(validJobOffers.map(JobOfferDTO::getId).collect(Collectors.toList()), contains(allIds.get(0), allIds.get(1), allIds.get(2)));
+        }
+    }
+
+    @DisplayName("It should store job offer added by service with employer username and follow employer rename.")
+    @Test
+    public void addJobOfferAndRename() {
+        final var created = jobOfferService.addJobOffer(new JobOfferDetailsDTO(Category.Shop_Assistant, CHOSEN_DATE, CHOSEN_DATE, EMPLOYER));
+
+        eventPublisher.publishEvent(new UserRenamedEvent(employer.getId(), EMPLOYER, "renamedEmployer"));
+
+        final var result = jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(Set.of(Category.Shop_Assistant), CHOSEN_DATE);
+        assertThat(countRows(2), equalTo(2));
+        assertThat(result.get(0).getId(), equalTo(created.getId()));
+        assertThat(result.get(0).getEmployer(), equalTo("renamedEmployer"));
+    }
+
+    @DisplayName("It should delete job offers of deleted user from all shards.")
+    @Test
+    public void deletedUser() {
+        eventPublisher.publishEvent(new UserDeletedEvent(employer.getId(), EMPLOYER));
+
+        assertThat(jobOfferRepository.count(), equalTo(0L));
+    }
+
+    @DisplayName("It should refuse to start sharding while archival is enabled.")
+    @Test
+    public void archivalEnabled() {
+        final var config = new JobOfferShardingConfig();
+
+        assertThrows(IllegalStateException.class, () -> config.jobOfferShards(List.of(), "sa", "", 10, true));
+    }
+
+    @DisplayName("It should remove job offers stored in other shards when a shard fails.")
+    @Test
+    public void failedShard() {
+        final var shard = jobOfferShards.shard(1).getJdbcTemplate();
+        shard.execute("ALTER TABLE " + JobOfferShards.TABLE + " RENAME TO broken_shard");
+        try {
+            final var jobOffers = List.of(
+                    createJobOffer(Category.IT, CHOSEN_DATE, CHOSEN_DATE),
+                    createJobOffer(Category.Courier, CHOSEN_DATE, CHOSEN_DATE));
+
+            assertThrows(DataAccessException.class, () -> jobOfferRepository.saveAll(jobOffers));
+        } finally {
+            shard.execute("ALTER TABLE broken_shard RENAME TO " + JobOfferShards.TABLE);
+        }
+        assertThat(countRows(0), equalTo(2));
+        assertThat(countRows(1), equalTo(1));
+    }
+
+    @DisplayName("It should remove job offers stored in shards when the caller's transaction rolls back.")
+    @Test
+    public void rolledBackTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobOfferRepository.saveAll(List.of(
+                    createJobOffer(Category.IT, CHOSEN_DATE, CHOSEN_DATE),
+                    createJobOffer(Category.Courier, CHOSEN_DATE, CHOSEN_DATE)));
+            assertThat(countRows(0), equalTo(3));
+            status.setRollbackOnly();
+        });
+
+        assertThat(countRows(0), equalTo(2));
+        assertThat(countRows(1), equalTo(1));
+    }
+
+    @DisplayName("It should inject sharded repository as job offer storage of services.")
+    @Test
+    public void jobOfferStorage() {
+        assertThat(jobOfferStorage, sameInstance(jobOfferRepository));
+    }
+
+    private int countRows(final int shard) {
+        return jobOfferShards.shard(shard).getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM " + JobOfferShards.TABLE, Integer.class);
+    }
+
+    private JobOffer createJobOffer(final Category category, final LocalDate startDate, final LocalDate endDate) {
+        return JobOffer.builder()
+                .category(category)
+                .startDate(startDate)
+                .endDate(endDate)
+                .employer(employer)
+                .build();
+    }
+
+    private static List<Integer> ids(final List<JobOfferDTO> jobOffers) {
+        return jobOffers.stream().map(JobOfferDTO::getId).collect(Collectors.toList());
+    }
+
+    private static List<Category> categories(final List<JobOfferDTO> jobOffers) {
+        return jobOffers.stream().map(JobOfferDTO::getCategory).collect(Collectors.toList());
+    }
+}
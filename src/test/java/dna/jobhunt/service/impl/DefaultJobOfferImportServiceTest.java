@@ -0,0 +1,162 @@
+package dna.jobhunt.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dna.jobhunt.api.dto.BulkImportErrorDTO;
+import dna.jobhunt.api.dto.JobOfferDTO;
+import dna.jobhunt.api.mapper.JobOfferMapper;
+import dna.jobhunt.domain.JobOffer;
+import dna.jobhunt.domain.User;
+import dna.jobhunt.event.JobOffersImportedEvent;
+import dna.jobhunt.exception.EmployerNotFoundException;
+import dna.jobhunt.repository.JobOfferRepository;
+import dna.jobhunt.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.Validation;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultJobOfferImportServiceTest {
+
+    private static final String USERNAME = "test";
+    private static final String VALID_LINE = "{\"category\":\"IT\",\"startDate\":\"14-11-2019\",\"endDate\":\"24-12-2019\",\"employer\":\"test\"}";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private JobOfferRepository jobOfferRepository;
+
+    @Mock
+    private JobOfferMapper jobOfferMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DefaultJobOfferImportService jobOfferImportService;
+
+    @BeforeEach
+    public void setUp() {
+        jobOfferImportService = new DefaultJobOfferImportService(new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), userService, jobOfferRepository, jobOfferMapper,
+                transactionTemplate, eventPublisher, 2, 200);
+    }
+
+    @DisplayName("It should store valid lines in batches linked to employer references.")
+    @Test
+    public void importJobOffers() throws Exception {
+        final var employer = new User();
+        when(userService.getUserReferenceByUsername(USERNAME)).thenReturn(Optional.of(employer));
+        when(jobOfferMapper.toJobOffer(any())).thenAnswer(invocation -> new JobOffer());
+        executeTransactions();
+        when(jobOfferMapper.toJobOfferDTO(any(), eq(USERNAME))).thenReturn(new JobOfferDTO());
+
+        final var result = jobOfferImportService.importJobOffers(new StringReader(String.join("\n", VALID_LINE, VALID_LINE, "", VALID_LINE)));
+
+        assertThat(result.getImported(), equalTo(3));
+        assertThat(result.getRejected(), hasSize(0));
+        verify(userService, never()).getUserByUsername(any());
+        final var batchArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jobOfferRepository, times(2)).saveAll(batchArgumentCaptor.capture());
+        assertThat(batchArgumentCaptor.getAllValues().get(0), hasSize(2));
+        assertThat(((JobOffer) batchArgumentCaptor.getAllValues().get(1).get(0)).getEmployer(), equalTo(employer));
+        verify(eventPublisher, times(2)).publishEvent(any(JobOffersImportedEvent.class));
+    }
+
+    @DisplayName("It should report lines of batch which could not be stored and keep other batches stored.")
+    @Test
+    public void importJobOffersFailedBatch() throws Exception {
+        when(userService.getUserReferenceByUsername(USERNAME)).thenReturn(Optional.of(new User()));
+        when(jobOfferMapper.toJobOffer(any())).thenAnswer(invocation -> new JobOffer());
+        executeTransactions();
+        when(jobOfferRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataAccessResourceFailureException("Connection lost"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var result = jobOfferImportService.importJobOffers(new StringReader(String.join("\n",
+                VALID_LINE, VALID_LINE, VALID_LINE, "{\"category\":", VALID_LINE, VALID_LINE)));
+
+        assertThat(result.getImported(), equalTo(3));
+        assertThat(result.getRejected().stream().map(BulkImportErrorDTO::getLine).collect(Collectors.toList()), contains(3, 4, 5));
+        assertThat(result.getRejected().get(0).getErrors(), contains(DefaultJobOfferImportService.STORE_FAILED_MSG));
+        assertThat(result.getRejected().get(2).getErrors(), contains(DefaultJobOfferImportService.STORE_FAILED_MSG));
+        verify(eventPublisher, times(2)).publishEvent(any(JobOffersImportedEvent.class));
+    }
+
+    @DisplayName("It should reject lines longer than the maximal length and read following lines.")
+    @Test
+    public void importJobOffersLongLine() throws Exception {
+        when(userService.getUserReferenceByUsername(USERNAME)).thenReturn(Optional.of(new User()));
+        when(jobOfferMapper.toJobOffer(any())).thenAnswer(invocation -> new JobOffer());
+        executeTransactions();
+        final var longLine = "{\"category\":\"" + "x".repeat(20_000) + "\"}";
+
+        final var result = jobOfferImportService.importJobOffers(new StringReader(String.join("\r\n", longLine, VALID_LINE, longLine)));
+
+        assertThat(result.getImported(), equalTo(1));
+        assertThat(result.getRejected().stream().map(BulkImportErrorDTO::getLine).collect(Collectors.toList()), contains(1, 3));
+        assertThat(result.getRejected().get(0).getErrors(), contains(String.format(DefaultJobOfferImportService.LINE_TOO_LONG_MSG, 200)));
+    }
+
+    @DisplayName("It should reject malformed, invalid and unknown employer lines with their numbers.")
+    @Test
+    public void importJobOffersRejectedLines() throws Exception {
+        when(userService.getUserReferenceByUsername(USERNAME)).thenReturn(Optional.empty());
+        final var ndjson = String.join("\n",
+                "{\"category\":",
+                "{\"category\":\"IT\",\"startDate\":\"14-11-2019\",\"endDate\":\"24-12-2019\"}",
+                VALID_LINE);
+
+        final var result = jobOfferImportService.importJobOffers(new StringReader(ndjson));
+
+        assertThat(result.getImported(), equalTo(0));
+        assertThat(result.getRejected(), hasSize(3));
+        assertThat(result.getRejected().get(0).getLine(), equalTo(1));
+        assertThat(result.getRejected().get(0).getErrors().get(0), startsWith("Malformed job offer JSON"));
+        assertThat(result.getRejected().get(1).getLine(), equalTo(2));
+        assertThat(result.getRejected().get(1).getErrors(), contains("Employer username cannot be blank."));
+        assertThat(result.getRejected().get(2).getLine(), equalTo(3));
+        assertThat(result.getRejected().get(2).getErrors(), contains(EmployerNotFoundException.EMPLOYER_NOT_FOUND_FOR_USERNAME_MSG));
+        verify(jobOfferRepository, never()).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void executeTransactions() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
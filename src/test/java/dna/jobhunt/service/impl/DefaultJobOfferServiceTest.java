@@ -3,23 +3,38 @@ package dna.jobhunt.service.impl;
 import dna.jobhunt.api.dto.JobOfferDTO;
 import dna.jobhunt.api.dto.JobOfferDetailsDTO;
 import dna.jobhunt.api.mapper.JobOfferMapper;
+import dna.jobhunt.cache.JobOfferQueryCache;
+import dna.jobhunt.cache.JobOfferQueryCoalescer;
 import dna.jobhunt.domain.Category;
 import dna.jobhunt.domain.JobOffer;
 import dna.jobhunt.domain.User;
+import dna.jobhunt.event.JobOfferCreatedEvent;
 import dna.jobhunt.exception.EmployerNotFoundException;
+import dna.jobhunt.index.ActiveJobOfferSnapshot;
+import dna.jobhunt.index.JobOfferIndex;
+import dna.jobhunt.metrics.JobOfferQueryMetrics;
+import dna.jobhunt.repository.JobOfferArchiveRepository;
 import dna.jobhunt.repository.JobOfferRepository;
 import dna.jobhunt.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -35,16 +50,40 @@ import static org.mockito.Mockito.when;
 class DefaultJobOfferServiceTest {
 
     private static final String USERNAME = "test";
+    private static final LocalDate CHOSEN_DATE = LocalDate.of(2019, 11, 14);
 
     @Mock
     private JobOfferRepository jobOfferRepository;
 
+    @Mock
+    private JobOfferArchiveRepository jobOfferArchiveRepository;
+
     @Mock
     private JobOfferMapper jobOfferMapper;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private JobOfferIndex jobOfferIndex;
+
+    @Mock
+    private ActiveJobOfferSnapshot activeJobOfferSnapshot;
+
+    @Spy
+    private JobOfferQueryCache jobOfferQueryCache = new JobOfferQueryCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10));
+
+    @Spy
+    private JobOfferQueryCoalescer jobOfferQueryCoalescer = new JobOfferQueryCoalescer(new SimpleMeterRegistry());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private JobOfferQueryMetrics jobOfferQueryMetrics = new JobOfferQueryMetrics(meterRegistry);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DefaultJobOfferService jobOfferService;
 
@@ -59,9 +98,9 @@ class DefaultJobOfferServiceTest {
         final var jobOfferDTO = new JobOfferDTO();
         final var employer = new User();
         when(jobOfferMapper.toJobOffer(mockJobOfferDetails)).thenReturn(jobOffer);
-        when(jobOfferMapper.toJobOfferDTO(jobOffer)).thenReturn(jobOfferDTO);
+        when(jobOfferMapper.toJobOfferDTO(jobOffer, USERNAME)).thenReturn(jobOfferDTO);
         when(jobOfferRepository.save(jobOffer)).thenReturn(jobOffer);
-        when(userService.getUserByUsername(USERNAME)).thenReturn(Optional.of(employer));
+        when(userService.getUserReferenceByUsername(USERNAME)).thenReturn(Optional.of(employer));
 
         final var result = jobOfferService.addJobOffer(mockJobOfferDetails);
 
@@ -70,6 +109,10 @@ class DefaultJobOfferServiceTest {
         verify(jobOfferRepository, times(1)).save(jobOfferArgumentCaptor.capture());
         final var savedJobOffer = jobOfferArgumentCaptor.getValue();
         assertThat(savedJobOffer.getEmployer(), equalTo(employer));
+
+        final var eventArgumentCaptor = ArgumentCaptor.forClass(JobOfferCreatedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventArgumentCaptor.capture());
+        assertThat(eventArgumentCaptor.getValue().getJobOffer(), equalTo(jobOfferDTO));
     }
 
 
@@ -79,92 +122,223 @@ class DefaultJobOfferServiceTest {
         final var mockJobOfferDetails = JobOfferDetailsDTO.builder()
                 .employer(USERNAME)
                 .build();
-        when(userService.getUserByUsername(USERNAME)).thenThrow(EmployerNotFoundException.class);
+        when(userService.getUserReferenceByUsername(USERNAME)).thenReturn(Optional.empty());
 
         assertThrows(EmployerNotFoundException.class, () -> {
             jobOfferService.addJobOffer(mockJobOfferDetails);
         });
 
         verify(jobOfferRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
-    @DisplayName("It should return valid job offers for given username and category")
+    @DisplayName("It should return valid job offers for given usernames and categories")
     @Test
-    public void getValidJobOffersForCategoryAndEmployer() {
-        final List<JobOffer> jobOffers = List.of();
-        when(jobOfferRepository.findAllValidJobOffersForEmployerAndDateAndCategory(eq(USERNAME), eq(Category.Drinks), any(LocalDate.class)))
+    public void getValidJobOffersForCategoriesAndEmployers() {
+        final List<JobOfferDTO> jobOffers = List.of();
+        when(jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(eq(List.of(USERNAME)), eq(List.of(Category.Drinks)), any(LocalDate.class)))
             .thenReturn(jobOffers);
 
-        final var result = jobOfferService.getValidJobOffersForCategoryAndEmployer(Category.Drinks, USERNAME);
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.Drinks), List.of(USERNAME), null);
 
         assertThat(result, equalTo(jobOffers));
         verify(jobOfferRepository, times(1))
-                .findAllValidJobOffersForEmployerAndDateAndCategory(eq(USERNAME), eq(Category.Drinks), any(LocalDate.class));
-        verify(jobOfferRepository, never())
-                .findAllValidJobOffersForCategoryAndDate(eq(Category.Drinks), any(LocalDate.class));
-        verify(jobOfferRepository, never())
-                .findAllValidJobOffersForEmployerAndDate(eq(USERNAME), any(LocalDate.class));
+                .findAllValidJobOffersForEmployersAndCategoriesAndDate(eq(List.of(USERNAME)), eq(List.of(Category.Drinks)), any(LocalDate.class));
         verify(jobOfferRepository, never())
-                .findAllValidJobOffersForDate(any(LocalDate.class));
+                .findAllValidJobOffersForCategoriesAndDate(any(), any(LocalDate.class));
     }
 
-    @DisplayName("It should return valid job offers for given employer username.")
+    @DisplayName("It should query valid job offers of given employers for all categories when categories are not given.")
     @Test
-    public void getValidJobOffersForEmployer() {
-        final List<JobOffer> jobOffers = List.of();
-        when(jobOfferRepository.findAllValidJobOffersForEmployerAndDate(eq(USERNAME), any(LocalDate.class)))
+    public void getValidJobOffersForEmployers() {
+        final List<JobOfferDTO> jobOffers = List.of();
+        when(jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(eq(List.of(USERNAME)), eq(EnumSet.allOf(Category.class)), any(LocalDate.class)))
                 .thenReturn(jobOffers);
 
-        final var result = jobOfferService.getValidJobOffersForCategoryAndEmployer(null, USERNAME);
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(), List.of(USERNAME), null);
 
         assertThat(result, equalTo(jobOffers));
         verify(jobOfferRepository, never())
-                .findAllValidJobOffersForEmployerAndDateAndCategory(eq(USERNAME), eq(Category.Drinks), any(LocalDate.class));
-        verify(jobOfferRepository, never())
-                .findAllValidJobOffersForCategoryAndDate(eq(Category.Drinks), any(LocalDate.class));
-        verify(jobOfferRepository, times(1))
-                .findAllValidJobOffersForEmployerAndDate(eq(USERNAME), any(LocalDate.class));
-        verify(jobOfferRepository, never())
-                .findAllValidJobOffersForDate(any(LocalDate.class));
+                .findAllValidJobOffersForCategoriesAndDate(any(), any(LocalDate.class));
     }
 
-    @DisplayName("It should return valid job offers for category")
+    @DisplayName("It should return valid job offers for categories")
     @Test
-    public void getValidJobOffersForCategory() {
-        final List<JobOffer> jobOffers = List.of();
-        when(jobOfferRepository.findAllValidJobOffersForCategoryAndDate(eq(Category.Drinks), any(LocalDate.class)))
+    public void getValidJobOffersForCategories() {
+        final List<JobOfferDTO> jobOffers = List.of();
+        when(jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(eq(List.of(Category.Drinks, Category.IT)), any(LocalDate.class)))
                 .thenReturn(jobOffers);
 
-        final var result = jobOfferService.getValidJobOffersForCategoryAndEmployer(Category.Drinks, null);
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.Drinks, Category.IT), List.of(), null);
 
         assertThat(result, equalTo(jobOffers));
         verify(jobOfferRepository, never())
-                .findAllValidJobOffersForEmployerAndDateAndCategory(eq(USERNAME), eq(Category.Drinks), any(LocalDate.class));
+                .findAllValidJobOffersForEmployersAndCategoriesAndDate(any(), any(), any(LocalDate.class));
         verify(jobOfferRepository, times(1))
-                .findAllValidJobOffersForCategoryAndDate(eq(Category.Drinks), any(LocalDate.class));
-        verify(jobOfferRepository, never())
-                .findAllValidJobOffersForEmployerAndDate(eq(USERNAME), any(LocalDate.class));
-        verify(jobOfferRepository, never())
-                .findAllValidJobOffersForDate(any(LocalDate.class));
+                .findAllValidJobOffersForCategoriesAndDate(eq(List.of(Category.Drinks, Category.IT)), any(LocalDate.class));
     }
 
     @DisplayName("It should return all valid job offers.")
     @Test
     public void getValidJobOffers() {
-        final List<JobOffer> jobOffers = List.of();
-        when(jobOfferRepository.findAllValidJobOffersForDate(any(LocalDate.class)))
+        final List<JobOfferDTO> jobOffers = List.of();
+        when(jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(eq(EnumSet.allOf(Category.class)), any(LocalDate.class)))
+                .thenReturn(jobOffers);
+
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(), List.of(), null);
+
+        assertThat(result, equalTo(jobOffers));
+        verify(jobOfferRepository, never())
+                .findAllValidJobOffersForEmployersAndCategoriesAndDate(any(), any(), any(LocalDate.class));
+        verify(jobOfferRepository, times(1))
+                .findAllValidJobOffersForCategoriesAndDate(eq(EnumSet.allOf(Category.class)), any(LocalDate.class));
+    }
+
+    @DisplayName("It should query repository for given date.")
+    @Test
+    public void getValidJobOffersForDate() {
+        final List<JobOfferDTO> jobOffers = List.of();
+        when(jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE))
+                .thenReturn(jobOffers);
+
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(), List.of(), CHOSEN_DATE);
+
+        assertThat(result, equalTo(jobOffers));
+        verify(jobOfferRepository, times(1))
+                .findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE);
+    }
+
+    @DisplayName("It should merge not archived and archived job offers valid on past date by id.")
+    @Test
+    public void getJobOfferHistory() {
+        final var notArchived = new JobOfferDTO(Category.IT, CHOSEN_DATE, CHOSEN_DATE.plusYears(10), USERNAME, 3);
+        final var archived1 = new JobOfferDTO(Category.IT, CHOSEN_DATE, CHOSEN_DATE, USERNAME, 1);
+        final var archived2 = new JobOfferDTO(Category.IT, CHOSEN_DATE, CHOSEN_DATE, USERNAME, 2);
+        when(jobOfferRepository.findAllValidJobOffersForEmployersAndCategoriesAndDate(List.of(USERNAME), List.of(Category.IT), CHOSEN_DATE))
+                .thenReturn(List.of(archived2, notArchived));
+        when(jobOfferArchiveRepository.findAllJobOffersForEmployersAndCategoriesAndDate(List.of(USERNAME), List.of(Category.IT), CHOSEN_DATE))
+                .thenReturn(List.of(archived1, archived2));
+
+        final var result = jobOfferService.getJobOfferHistoryForCategoriesAndEmployers(List.of(Category.IT), List.of(USERNAME), CHOSEN_DATE);
+
+        assertThat(result, equalTo(List.of(archived1, archived2, notArchived)));
+        verify(jobOfferArchiveRepository, never()).findAllJobOffersForCategoriesAndDate(any(), any());
+    }
+
+    @DisplayName("It should answer repeated query from cache.")
+    @Test
+    public void getValidJobOffersFromCache() {
+        final var jobOffers = List.of(jobOfferDTO(1));
+        when(jobOfferRepository.findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE))
                 .thenReturn(jobOffers);
 
-        final var result = jobOfferService.getValidJobOffersForCategoryAndEmployer(null, null);
+        jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(), List.of(), CHOSEN_DATE);
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(), List.of(), CHOSEN_DATE);
+
+        assertThat(result, equalTo(jobOffers));
+        verify(jobOfferRepository, times(1))
+                .findAllValidJobOffersForCategoriesAndDate(EnumSet.allOf(Category.class), CHOSEN_DATE);
+    }
+
+    @DisplayName("It should return valid job offers from active snapshot without querying index and repository.")
+    @Test
+    public void getValidJobOffersFromActiveSnapshot() {
+        final var jobOffers = List.of(new JobOfferDTO());
+        when(activeJobOfferSnapshot.findValidJobOffers(List.of(Category.Drinks), List.of(), CHOSEN_DATE)).thenReturn(Optional.of(jobOffers));
+
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.Drinks), List.of(), CHOSEN_DATE);
 
         assertThat(result, equalTo(jobOffers));
+        verify(jobOfferIndex, never()).findValidJobOffers(any(), any(), any());
         verify(jobOfferRepository, never())
-                .findAllValidJobOffersForEmployerAndDateAndCategory(eq(USERNAME), eq(Category.Drinks), any(LocalDate.class));
+                .findAllValidJobOffersForCategoriesAndDate(any(), any());
+    }
+
+    @DisplayName("It should return valid job offers from index when it is ready.")
+    @Test
+    public void getValidJobOffersFromIndex() {
+        final var jobOffers = List.of(new JobOfferDTO());
+        when(jobOfferIndex.isReady()).thenReturn(true);
+        when(jobOfferIndex.findValidJobOffers(List.of(Category.Drinks), List.of(USERNAME), CHOSEN_DATE)).thenReturn(jobOffers);
+
+        final var result = jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.Drinks), List.of(USERNAME), CHOSEN_DATE);
+
+        assertThat(result, equalTo(jobOffers));
         verify(jobOfferRepository, never())
-                .findAllValidJobOffersForCategoryAndDate(eq(Category.Drinks), any(LocalDate.class));
+                .findAllValidJobOffersForEmployersAndCategoriesAndDate(any(), any(), any());
         verify(jobOfferRepository, never())
-                .findAllValidJobOffersForEmployerAndDate(eq(USERNAME), any(LocalDate.class));
-        verify(jobOfferRepository, times(1))
-                .findAllValidJobOffersForDate(any(LocalDate.class));
+                .findAllValidJobOffersForCategoriesAndDate(any(), any());
+    }
+
+    @DisplayName("It should record query duration and result size tagged with filter and source.")
+    @Test
+    public void getValidJobOffersRecordsMetrics() {
+        when(jobOfferIndex.isReady()).thenReturn(true);
+        when(jobOfferIndex.findValidJobOffers(List.of(Category.Drinks), List.of(USERNAME), CHOSEN_DATE))
+                .thenReturn(List.of(jobOfferDTO(1), jobOfferDTO(2)));
+
+        jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.Drinks), List.of(USERNAME), CHOSEN_DATE);
+        jobOfferService.getValidJobOffersForCategoriesAndEmployers(List.of(Category.Drinks), List.of(USERNAME), CHOSEN_DATE);
+
+        final var indexTimer = meterRegistry.get("jobhunt.job-offers.query")
+                .tags("filter", "both", "source", "index", "mode", "list")
+                .timer();
+        final var cacheTimer = meterRegistry.get("jobhunt.job-offers.query")
+                .tags("filter", "both", "source", "cache", "mode", "list")
+                .timer();
+        final var indexResults = meterRegistry.get("jobhunt.job-offers.query.results")
+                .tags("filter", "both", "source", "index", "mode", "list")
+                .summary();
+        assertThat(indexTimer.count(), equalTo(1L));
+        assertThat(cacheTimer.count(), equalTo(1L));
+        assertThat(indexResults.totalAmount(), equalTo(2.0));
+    }
+
+    @DisplayName("It should seek page of valid job offers for category after given id.")
+    @Test
+    public void getValidJobOffersPageForCategory() {
+        final var jobOfferDTOs = List.of(jobOfferDTO(5), jobOfferDTO(6));
+        when(jobOfferRepository.findValidJobOffersPageForCategoriesAndDate(List.of(Category.Drinks), CHOSEN_DATE, 4, PageRequest.of(0, 2)))
+                .thenReturn(jobOfferDTOs);
+
+        final var result = jobOfferService.getValidJobOffersPageForCategoriesAndEmployers(List.of(Category.Drinks), List.of(), CHOSEN_DATE, 4, 1);
+
+        assertThat(result.getItems(), equalTo(List.of(jobOfferDTOs.get(0))));
+        assertThat(result.getNextCursor(), equalTo(5));
+    }
+
+    @DisplayName("It should return page of valid job offers from index ordered by id.")
+    @Test
+    public void getValidJobOffersPageFromIndex() {
+        when(jobOfferIndex.isReady()).thenReturn(true);
+        when(jobOfferIndex.findValidJobOffersPage(List.of(), List.of(USERNAME), CHOSEN_DATE, 2, 3))
+                .thenReturn(List.of(jobOfferDTO(3), jobOfferDTO(5), jobOfferDTO(7)));
+
+        final var result = jobOfferService.getValidJobOffersPageForCategoriesAndEmployers(List.of(), List.of(USERNAME), CHOSEN_DATE, 2, 2);
+
+        assertThat(result.getItems().get(0).getId(), equalTo(3));
+        assertThat(result.getItems().get(1).getId(), equalTo(5));
+        assertThat(result.getNextCursor(), equalTo(5));
+        verify(jobOfferRepository, never())
+                .findValidJobOffersPageForEmployersAndCategoriesAndDate(any(), any(), any(), any(), any());
+    }
+
+    @DisplayName("It should pass streamed job offers to consumer.")
+    @Test
+    public void forEachValidJobOffer() {
+        final var jobOfferDTO1 = jobOfferDTO(1);
+        final var jobOfferDTO2 = jobOfferDTO(2);
+        when(jobOfferRepository.streamValidJobOffersForCategoriesAndDate(List.of(Category.Drinks), CHOSEN_DATE)).thenReturn(Stream.of(jobOfferDTO1, jobOfferDTO2));
+        final var consumed = new ArrayList<JobOfferDTO>();
+
+        jobOfferService.forEachValidJobOffer(List.of(Category.Drinks), List.of(), CHOSEN_DATE, consumed::add);
+
+        assertThat(consumed, equalTo(List.of(jobOfferDTO1, jobOfferDTO2)));
+    }
+
+    private static JobOfferDTO jobOfferDTO(final int id) {
+        return JobOfferDTO.JobOfferDTOBuilder()
+                .id(id)
+                .build();
     }
-}
\ No newline at end of file
+}
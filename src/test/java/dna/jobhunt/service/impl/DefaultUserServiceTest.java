@@ -3,16 +3,26 @@ package dna.jobhunt.service.impl;
 import dna.jobhunt.api.dto.UserDTO;
 import dna.jobhunt.api.dto.UserDetailsDTO;
 import dna.jobhunt.api.mapper.UserMapper;
+import dna.jobhunt.cache.UsernameIdCache;
 import dna.jobhunt.domain.User;
+import dna.jobhunt.event.UserCreatedEvent;
+import dna.jobhunt.event.UserDeletedEvent;
+import dna.jobhunt.event.UserRenamedEvent;
 import dna.jobhunt.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,6 +48,12 @@ class DefaultUserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UsernameIdCache usernameIdCache = new UsernameIdCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DefaultUserService userService;
 
@@ -45,7 +61,9 @@ class DefaultUserServiceTest {
     @Test
     public void createUser() {
         final var userDetails = createMockUserDetailsDTo();
-        final var mappedUser = new User();
+        final var mappedUser = User.builder()
+                .username(TEST_USERNAME)
+                .build();
         final var createdUserDTO = new UserDTO();
         when(userMapper.toUser(userDetails)).thenReturn(mappedUser);
         when(userRepository.save(mappedUser)).thenReturn(mappedUser);
@@ -58,6 +76,37 @@ class DefaultUserServiceTest {
         verify(userRepository, times(1)).save(mappedUser);
         verify(userMapper, times(1)).toUser(userDetails);
         verify(userMapper, times(1)).toUserDTO(mappedUser);
+        final var eventArgumentCaptor = ArgumentCaptor.forClass(UserCreatedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventArgumentCaptor.capture());
+        assertThat(eventArgumentCaptor.getValue().getUsername(), equalTo(TEST_USERNAME));
+    }
+
+    @DisplayName("It should resolve user reference by cached id.")
+    @Test
+    public void getUserReferenceByUsername() {
+        final var reference = new User();
+        when(userRepository.findIdByUsername(TEST_USERNAME)).thenReturn(Optional.of(TEST_USER_ID));
+        when(userRepository.getReferenceById(TEST_USER_ID)).thenReturn(reference);
+
+        userService.getUserReferenceByUsername(TEST_USERNAME);
+        final var result = userService.getUserReferenceByUsername(TEST_USERNAME);
+
+        assertThat(result, equalTo(Optional.of(reference)));
+        verify(userRepository, times(1)).findIdByUsername(TEST_USERNAME);
+        verify(userRepository, never()).findOneByUsername(any());
+    }
+
+    @DisplayName("It should query unknown username only once.")
+    @Test
+    public void getUserReferenceByUnknownUsername() {
+        when(userRepository.findIdByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
+
+        userService.getUserReferenceByUsername(TEST_USERNAME);
+        final var result = userService.getUserReferenceByUsername(TEST_USERNAME);
+
+        assertThat(result, equalTo(Optional.empty()));
+        verify(userRepository, times(1)).findIdByUsername(TEST_USERNAME);
+        verify(userRepository, never()).getReferenceById(any());
     }
 
     @DisplayName("It should update only username.")
@@ -69,6 +118,11 @@ class DefaultUserServiceTest {
         final User capturedUser = performBasicUpdateUserTest(userDetails);
         assertThat(capturedUser.getPassword(), nullValue());
         assertThat(capturedUser.getUsername(), equalTo(TEST_USERNAME));
+
+        final var eventArgumentCaptor = ArgumentCaptor.forClass(UserRenamedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventArgumentCaptor.capture());
+        assertThat(eventArgumentCaptor.getValue().getOldUsername(), nullValue());
+        assertThat(eventArgumentCaptor.getValue().getNewUsername(), equalTo(TEST_USERNAME));
     }
 
 
@@ -81,6 +135,7 @@ class DefaultUserServiceTest {
         final User capturedUser = performBasicUpdateUserTest(userDetails);
         assertThat(capturedUser.getUsername(), nullValue());
         assertThat(capturedUser.getPassword(), equalTo(TEST_PASSWORD));
+        verify(eventPublisher, never()).publishEvent(any(UserRenamedEvent.class));
     }
 
     @DisplayName("It should update username and password.")
@@ -112,6 +167,55 @@ class DefaultUserServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @DisplayName("It should seek users after given id and return cursor when next page exists.")
+    @Test
+    public void getUsersPage() {
+        final var users = List.of(new User(), new User(), new User());
+        final var userDTOs = List.of(
+                UserDTO.userDTOBuilder().id(2).build(),
+                UserDTO.userDTOBuilder().id(3).build(),
+                UserDTO.userDTOBuilder().id(4).build());
+        when(userRepository.findAllByIdGreaterThanOrderByIdAsc(TEST_USER_ID, PageRequest.of(0, 3))).thenReturn(users);
+        when(userMapper.toUserDTOList(users)).thenReturn(userDTOs);
+
+        final var result = userService.getUsersPage(TEST_USER_ID, 2);
+
+        assertThat(result.getItems(), equalTo(userDTOs.subList(0, 2)));
+        assertThat(result.getNextCursor(), equalTo(3));
+    }
+
+    @DisplayName("It should return last page without cursor.")
+    @Test
+    public void getUsersLastPage() {
+        final List<User> users = List.of(new User());
+        final var userDTOs = List.of(UserDTO.userDTOBuilder().id(1).build());
+        when(userRepository.findAllByIdGreaterThanOrderByIdAsc(0, PageRequest.of(0, 3))).thenReturn(users);
+        when(userMapper.toUserDTOList(users)).thenReturn(userDTOs);
+
+        final var result = userService.getUsersPage(null, 2);
+
+        assertThat(result.getItems(), equalTo(userDTOs));
+        assertThat(result.getNextCursor(), nullValue());
+    }
+
+    @DisplayName("It should delete user and publish deletion event with its username.")
+    @Test
+    public void deleteUser() {
+        final var user = User.builder()
+                .id(TEST_USER_ID)
+                .username(TEST_USERNAME)
+                .build();
+        when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
+
+        userService.deleteUser(TEST_USER_ID);
+
+        verify(userRepository, times(1)).deleteById(TEST_USER_ID);
+        final var eventArgumentCaptor = ArgumentCaptor.forClass(UserDeletedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventArgumentCaptor.capture());
+        assertThat(eventArgumentCaptor.getValue().getUserId(), equalTo(TEST_USER_ID));
+        assertThat(eventArgumentCaptor.getValue().getUsername(), equalTo(TEST_USERNAME));
+    }
+
     private User performBasicUpdateUserTest(UserDetailsDTO userDetails) {
         final var userArgumentCaptor = ArgumentCaptor.forClass(User.class);
         final var mappedUser = new User();